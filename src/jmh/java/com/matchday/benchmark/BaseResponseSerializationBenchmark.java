@@ -0,0 +1,73 @@
+package com.matchday.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.dto.MatchSummaryResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BaseResponse 봉투를 Jackson 으로 직렬화하는 비용 (Spring Boot 기본 설정과 같은 ObjectMapper).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BaseResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private BaseResponse<SliceResponse<MatchSummaryResponse>> matchPage;
+    private BaseResponse<Object> failure;
+    private BaseResponse<List<BaseResponse.FieldError>> fieldErrors;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<MatchSummaryResponse> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new MatchSummaryResponse((long) i, 1L, "FC 매치데이", City.SEOUL, District.SEOUL_MAPO,
+                    "망원 풋살장", LocalDate.of(2025, 9, 13), LocalTime.of(20, 0), LocalTime.of(22, 0),
+                    100_000, SportsType.FUTSAL, MatchSize.SIX));
+        }
+        matchPage = BaseResponse.onSuccess(SliceResponse.of(rows, "MjAyNS0wOS0xM3wyMDowMHwxOQ"), ResponseCode.OK);
+        failure = BaseResponse.onFailure(null, ResponseCode.MATCH_NOT_FOUND);
+        fieldErrors = BaseResponse.onFailure(List.of(
+                BaseResponse.FieldError.builder().field("placeName").message("공백일 수 없습니다").build(),
+                BaseResponse.FieldError.builder().field("fee").message("대관비를 입력해주세요.").build()),
+                ResponseCode._BAD_REQUEST);
+    }
+
+    @Benchmark
+    public byte[] matchPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matchPage);
+    }
+
+    @Benchmark
+    public byte[] failure() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(failure);
+    }
+
+    @Benchmark
+    public byte[] fieldErrors() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fieldErrors);
+    }
+}
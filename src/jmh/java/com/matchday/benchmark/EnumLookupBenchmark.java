@@ -0,0 +1,119 @@
+package com.matchday.benchmark;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지역/종목/응답 코드 조회: 기존 values() 선형 탐색(legacy*) 과 미리 계산한 조회 테이블 비교.
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량을 함께 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EnumLookupBenchmark {
+
+    // 목록 뒤쪽 값일수록 선형 탐색 비용이 크다
+    private String cityName = City.JEJU.getKoreanName();
+    private String districtName = District.JEJU_SEOGWIPO.getKoreanName();
+    private City city = City.JEJU;
+    private String sportsTypeName = SportsType.SOCCER.getKoreanName();
+    private SportsType sportsType = SportsType.SOCCER;
+    private HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+
+    @Benchmark
+    public City legacyCityFromKoreanName() {
+        for (City value : City.values()) {
+            if (value.getKoreanName().equals(cityName)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(cityName);
+    }
+
+    @Benchmark
+    public City cityFromKoreanName() {
+        return City.fromKoreanName(cityName);
+    }
+
+    @Benchmark
+    public District legacyDistrictFromKoreanName() {
+        for (District district : District.values()) {
+            if (district.getKoreanName().equals(districtName) && district.getCity() == city) {
+                return district;
+            }
+        }
+        throw new IllegalArgumentException(districtName);
+    }
+
+    @Benchmark
+    public District districtFromKoreanName() {
+        return District.fromKoreanName(districtName, city);
+    }
+
+    @Benchmark
+    public District[] legacyDistrictsByCity() {
+        return Arrays.stream(District.values())
+                .filter(district -> district.getCity() == city)
+                .toArray(District[]::new);
+    }
+
+    @Benchmark
+    public District[] districtsByCity() {
+        return District.getDistrictsByCity(city);
+    }
+
+    @Benchmark
+    public Object districtsOfCity() {
+        return District.districtsOf(city);
+    }
+
+    @Benchmark
+    public SportsType legacySportsTypeFromKoreanName() {
+        for (SportsType type : SportsType.values()) {
+            if (type.getKoreanName().equals(sportsTypeName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(sportsTypeName);
+    }
+
+    @Benchmark
+    public SportsType sportsTypeFromKoreanName() {
+        return SportsType.fromKoreanName(sportsTypeName);
+    }
+
+    @Benchmark
+    public MatchSize[] legacyMatchSizeBySportsType() {
+        return Arrays.stream(MatchSize.values())
+                .filter(matchSize -> matchSize.getSportsType() == sportsType)
+                .toArray(MatchSize[]::new);
+    }
+
+    @Benchmark
+    public MatchSize[] matchSizeBySportsType() {
+        return MatchSize.getMatchSizeBySportsType(sportsType);
+    }
+
+    @Benchmark
+    public ResponseCode legacyResponseCodeValueOf() {
+        return Arrays.stream(ResponseCode.values())
+                .filter(errorCode -> errorCode.getHttpStatus() == httpStatus)
+                .findFirst()
+                .orElseGet(() -> httpStatus.is4xxClientError() ? ResponseCode._BAD_REQUEST
+                        : httpStatus.is5xxServerError() ? ResponseCode._INTERNAL_SERVER_ERROR
+                        : ResponseCode.OK);
+    }
+
+    @Benchmark
+    public ResponseCode responseCodeValueOf() {
+        return ResponseCode.valueOf(httpStatus);
+    }
+}
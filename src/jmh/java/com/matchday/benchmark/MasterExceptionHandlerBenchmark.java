@@ -0,0 +1,105 @@
+package com.matchday.benchmark;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.global.exception.handler.MasterExceptionHandler;
+import com.matchday.match.dto.MatchUpdateRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 예외 -> ResponseEntity<BaseResponse> 매핑 비용. 예외 객체는 미리 만들어 매핑 자체만 측정한다.
+ * baseline* 은 응답을 매번 새로 만들고 parallelStream 으로 필드 오류를 변환하던 이전 방식으로,
+ * gc 프로파일러의 gc.alloc.rate.norm 과 함께 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MasterExceptionHandlerBenchmark {
+
+    private MasterExceptionHandler handler;
+    private GeneralException generalException;
+    private MethodArgumentNotValidException validationException;
+    private TypeMismatchException typeMismatchException;
+    private OptimisticLockingFailureException optimisticLockingException;
+    private IllegalStateException unexpectedException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new MasterExceptionHandler();
+        generalException = new GeneralException(ResponseCode.MATCH_NOT_FOUND);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "request");
+        bindingResult.addError(new FieldError("request", "placeName", "공백일 수 없습니다"));
+        bindingResult.addError(new FieldError("request", "fee", "대관비를 입력해주세요."));
+        bindingResult.addError(new FieldError("request", "date", "현재 또는 미래의 날짜여야 합니다"));
+        MethodParameter parameter = new MethodParameter(
+                MasterExceptionHandlerBenchmark.class.getDeclaredMethod("target", MatchUpdateRequest.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        typeMismatchException = new TypeMismatchException("서울", ResponseCode.class);
+        optimisticLockingException = new OptimisticLockingFailureException("version mismatch");
+        unexpectedException = new IllegalStateException("장애 상황에서 반복되는 예외");
+    }
+
+    @SuppressWarnings("unused")
+    private void target(MatchUpdateRequest request) {
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> generalException() {
+        return handler.general(generalException, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> validationException() {
+        return handler.processValidationError(validationException);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> typeMismatchException() {
+        return handler.typeMismatch(typeMismatchException, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> optimisticLockingException() {
+        return handler.optimisticLockingFailure(optimisticLockingException, null);
+    }
+
+    // 같은 예외가 몰릴 때: 첫 건만 스택 트레이스를 남기고 나머지는 건수만 센다
+    @Benchmark
+    public ResponseEntity<Object> unexpectedException() {
+        return handler.exception(unexpectedException, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> baselineGeneralException() {
+        ResponseCode errorCode = generalException.getErrorCode();
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .body(new BaseResponse<>(false, errorCode.getCode(), errorCode.getMessage(), null));
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> baselineValidationException() {
+        List<BaseResponse.FieldError> fieldErrors = validationException.getBindingResult().getFieldErrors()
+                .parallelStream()
+                .map(error -> BaseResponse.FieldError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage()).build())
+                .collect(Collectors.toList());
+        return ResponseEntity.status(ResponseCode._BAD_REQUEST.getHttpStatus())
+                .body(new BaseResponse<>(false, ResponseCode._BAD_REQUEST.getCode(),
+                        ResponseCode._BAD_REQUEST.getMessage(), fieldErrors));
+    }
+}
@@ -0,0 +1,72 @@
+package com.matchday.benchmark;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.MatchApplication;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.team.domain.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매치 신청 생성 + 상태 전이(수락/거절/취소) 비용.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MatchApplicationBenchmark {
+
+    private Match match;
+    private Team applicantTeam;
+
+    @Setup
+    public void setUp() {
+        match = Match.createMatch(new Team(), District.SEOUL_MAPO, "망원 풋살장",
+                LocalDate.now().plusDays(3), LocalTime.of(20, 0), LocalTime.of(22, 0),
+                100_000, SportsType.FUTSAL, MatchSize.SIX, "#FFFFFF", true);
+        applicantTeam = new Team();
+    }
+
+    @Benchmark
+    public MatchApplication create() {
+        return MatchApplication.createApplication(match, applicantTeam, "우리 팀과 경기해요!");
+    }
+
+    @Benchmark
+    public MatchApplication createAndAccept() {
+        MatchApplication application = MatchApplication.createApplication(match, applicantTeam, "수락");
+        application.accept();
+        return application;
+    }
+
+    @Benchmark
+    public MatchApplication createAndReject() {
+        MatchApplication application = MatchApplication.createApplication(match, applicantTeam, "거절");
+        application.reject();
+        return application;
+    }
+
+    @Benchmark
+    public MatchApplication createAndCancel() {
+        MatchApplication application = MatchApplication.createApplication(match, applicantTeam, "취소");
+        application.cancel();
+        return application;
+    }
+
+    // 이미 처리된 신청에 대한 잘못된 전이 (예외 생성 비용 포함)
+    @Benchmark
+    public Object invalidTransition() {
+        MatchApplication application = MatchApplication.createApplication(match, applicantTeam, "중복");
+        application.accept();
+        try {
+            application.reject();
+            return application;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+}
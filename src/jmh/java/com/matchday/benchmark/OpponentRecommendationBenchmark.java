@@ -0,0 +1,98 @@
+package com.matchday.benchmark;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.recommendation.OpponentCandidates;
+import com.matchday.match.recommendation.OpponentRecommender;
+import com.matchday.match.recommendation.Recommendation;
+import com.matchday.match.recommendation.RecommendationQuery;
+import com.matchday.team.domain.enums.GroupGender;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀 10만, 모집중 매치 100만 건 스냅샷에서 상대 매치 추천 한 번에 걸리는 시간.
+ * 실제 트래픽처럼 서울 비중을 높이고 2주 범위에 고르게 흩뿌린다.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OpponentRecommendationBenchmark {
+
+    private static final int TEAM_COUNT = 100_000;
+    private static final int MATCH_COUNT = 1_000_000;
+    private static final int HORIZON_DAYS = 14;
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+
+    @Param({"10", "50"})
+    public int limit;
+
+    private OpponentCandidates candidates;
+    private RecommendationQuery wholeDay;
+    private RecommendationQuery evening;
+    private RecommendationQuery futsalSix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        District[] districts = District.values();
+        District[] seoul = District.getDistrictsByCity(City.SEOUL);
+        GroupGender[] genders = GroupGender.values();
+        MatchSize[] sizes = MatchSize.values();
+
+        District[] teamDistricts = new District[TEAM_COUNT];
+        GroupGender[] teamGenders = new GroupGender[TEAM_COUNT];
+        float[] teamSkills = new float[TEAM_COUNT];
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teamDistricts[i] = random.nextInt(3) == 0
+                    ? seoul[random.nextInt(seoul.length)]
+                    : districts[random.nextInt(districts.length)];
+            teamGenders[i] = genders[random.nextInt(genders.length)];
+            int games = random.nextInt(40);
+            int wins = games == 0 ? 0 : random.nextInt(games + 1);
+            int draws = games - wins == 0 ? 0 : random.nextInt(games - wins + 1);
+            teamSkills[i] = OpponentRecommender.skillOf(wins, draws, games - wins - draws);
+        }
+
+        OpponentCandidates.Builder builder = OpponentCandidates.builder();
+        for (int id = 1; id <= MATCH_COUNT; id++) {
+            int team = random.nextInt(TEAM_COUNT);
+            MatchSize size = sizes[random.nextInt(sizes.length)];
+            LocalTime start = LocalTime.of(6 + random.nextInt(16), random.nextBoolean() ? 0 : 30);
+            builder.add(id, team + 1L, teamDistricts[team], TODAY.plusDays(random.nextInt(HORIZON_DAYS + 1)),
+                    start, start.plusHours(2), size.getSportsType(), size, teamGenders[team], teamSkills[team]);
+        }
+        candidates = builder.build();
+
+        LocalDate until = TODAY.plusDays(HORIZON_DAYS);
+        wholeDay = new RecommendationQuery(-1L, District.SEOUL_MAPO, GroupGender.MALE, 0.55f,
+                TODAY, until, null, null, null, null);
+        evening = new RecommendationQuery(-1L, District.SEOUL_MAPO, GroupGender.MIXED, 0.4f,
+                TODAY, TODAY.plusDays(6), LocalTime.of(18, 0), LocalTime.of(23, 0), null, null);
+        futsalSix = new RecommendationQuery(-1L, District.SEOUL_GANGNAM, GroupGender.FEMALE, 0.7f,
+                TODAY, until, LocalTime.of(19, 0), LocalTime.of(22, 0), SportsType.FUTSAL, MatchSize.SIX);
+    }
+
+    @Benchmark
+    public List<Recommendation> wholeCityTwoWeeks() {
+        return OpponentRecommender.recommend(candidates, wholeDay, limit, matchId -> false);
+    }
+
+    @Benchmark
+    public List<Recommendation> eveningThisWeek() {
+        return OpponentRecommender.recommend(candidates, evening, limit, matchId -> false);
+    }
+
+    @Benchmark
+    public List<Recommendation> futsalSixEvening() {
+        return OpponentRecommender.recommend(candidates, futsalSix, limit, matchId -> false);
+    }
+}
@@ -0,0 +1,50 @@
+package com.matchday.benchmark;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.enums.Position;
+import com.matchday.user.domain.User;
+import com.matchday.user.domain.enums.Gender;
+import com.matchday.user.domain.enums.MemberRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 생성(BCrypt 인코딩 포함) 비용. strength 에 따라 지수적으로 늘어나므로 cost 별로 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class UserCreateBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        user = createUser();
+    }
+
+    @Benchmark
+    public User createUser() {
+        return User.createUser("test@example.com", "password123", "홍길동",
+                LocalDate.of(1990, 1, 1), 180, Gender.MALE,
+                Position.FW, MemberRole.ROLE_MEMBER, "010-1234-5678",
+                City.SEOUL, District.SEOUL_GANGNAM, false, passwordEncoder);
+    }
+
+    @Benchmark
+    public boolean matchesPassword() {
+        return user.matchesPassword("password123", passwordEncoder);
+    }
+}
@@ -1,18 +0,0 @@
-package com.matchday.exception;
-
-import lombok.Getter;
-
-@Getter
-public class BusinessException extends RuntimeException {
-    private final String code;
-    
-    public BusinessException(String code, String message) {
-        super(message);
-        this.code = code;
-    }
-    
-    public BusinessException(String code, String message, Throwable cause) {
-        super(message, cause);
-        this.code = code;
-    }
-}
\ No newline at end of file
@@ -1,83 +0,0 @@
-package com.matchday.exception;
-
-import com.matchday.exception.dto.ErrorResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.validation.BindException;
-import org.springframework.web.bind.MethodArgumentNotValidException;
-import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.RestControllerAdvice;
-
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-
-@Slf4j
-@RestControllerAdvice
-public class GlobalExceptionHandler {
-    
-    @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
-        log.warn("Business exception occurred: {} - {}", e.getCode(), e.getMessage());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .code(e.getCode())
-                .message(e.getMessage())
-                .timestamp(LocalDateTime.now())
-                .build();
-        
-        return ResponseEntity.badRequest().body(errorResponse);
-    }
-    
-    @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
-    public ResponseEntity<ErrorResponse> handleValidationException(BindException e) {
-        log.warn("Validation error occurred: {}", e.getMessage());
-        
-        List<ErrorResponse.FieldError> fieldErrors = e.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(error -> ErrorResponse.FieldError.builder()
-                        .field(error.getField())
-                        .rejectedValue(error.getRejectedValue())
-                        .message(error.getDefaultMessage())
-                        .build())
-                .collect(Collectors.toList());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .code("VALIDATION_ERROR")
-                .message("입력 값이 올바르지 않습니다.")
-                .timestamp(LocalDateTime.now())
-                .fieldErrors(fieldErrors)
-                .build();
-        
-        return ResponseEntity.badRequest().body(errorResponse);
-    }
-    
-    @ExceptionHandler(OptimisticLockingFailureException.class)
-    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
-        log.warn("Optimistic locking failure occurred: {}", e.getMessage());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .code("CONCURRENT_MODIFICATION")
-                .message("다른 사용자에 의해 데이터가 수정되었습니다. 다시 시도해주세요.")
-                .timestamp(LocalDateTime.now())
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
-    }
-    
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
-        log.error("Unexpected error occurred", e);
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .code("INTERNAL_SERVER_ERROR")
-                .message("서버 내부 오류가 발생했습니다.")
-                .timestamp(LocalDateTime.now())
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-    }
-}
\ No newline at end of file
@@ -1,31 +0,0 @@
-package com.matchday.exception.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-@Getter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class ErrorResponse {
-    private String code;
-    private String message;
-    private String detail;
-    private LocalDateTime timestamp;
-    private List<FieldError> fieldErrors;
-    
-    @Getter
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class FieldError {
-        private String field;
-        private Object rejectedValue;
-        private String message;
-    }
-}
\ No newline at end of file
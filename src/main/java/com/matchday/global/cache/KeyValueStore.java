@@ -0,0 +1,18 @@
+package com.matchday.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드 간에 공유되는 2차 캐시 저장소. Redis 의 GET / SET EX / INCR 에 해당하는 연산만 사용하므로
+ * Redis 클라이언트로 구현을 바꿔 끼울 수 있다. 구현체 빈이 없으면 2차 캐시 없이 동작한다.
+ */
+public interface KeyValueStore {
+
+    // 없거나 만료되었으면 null
+    String get(String key);
+
+    void set(String key, String value, Duration ttl);
+
+    // 키가 없으면 0 에서 시작한다. 만료되지 않는다.
+    long increment(String key);
+}
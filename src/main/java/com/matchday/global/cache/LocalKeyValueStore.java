@@ -0,0 +1,67 @@
+package com.matchday.global.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬/테스트용 KeyValueStore. Redis 처럼 TTL 을 가진 문자열 값과 카운터를 보관하며,
+ * 만료된 값은 조회 시점과 주기적인 쓰기 시점에 정리한다. 단일 프로세스 안에서만 공유된다.
+ */
+@Component
+@ConditionalOnProperty(name = "matchday.cache.second-tier", havingValue = "local")
+public class LocalKeyValueStore implements KeyValueStore {
+
+    private static final int SWEEP_EVERY_WRITES = 1024;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private int writesSinceSweep;
+
+    public LocalKeyValueStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, clock.millis() + ttl.toMillis()));
+        // 카운터처럼 정확할 필요는 없으므로 동기화하지 않는다
+        if (++writesSinceSweep >= SWEEP_EVERY_WRITES) {
+            writesSinceSweep = 0;
+            long now = clock.millis();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    @Override
+    public long increment(String key) {
+        Entry entry = entries.compute(key, (k, previous) -> new Entry(
+                String.valueOf(previous == null ? 1 : Long.parseLong(previous.value()) + 1), NO_EXPIRY));
+        return Long.parseLong(entry.value());
+    }
+
+    private record Entry(String value, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.matchday.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// spring.threads.virtual.enabled=true 이면 @Async 는 가상 스레드 기반 applicationTaskExecutor 에서 실행된다
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,25 @@
+package com.matchday.global.config;
+
+import com.matchday.global.entity.id.Snowflake;
+import com.matchday.global.entity.id.SnowflakeProperties;
+import com.matchday.global.monitoring.query.QueryCountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    // 요청당 SQL 문 수 집계 (QueryCountInterceptor 가 요청 범위를 정한다)
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    // EntityManagerFactory 가 만들어지기 전에 검증된 노드 번호로 @SnowflakeId 발급기를 준비한다
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeNode(SnowflakeProperties snowflakeProperties) {
+        return properties -> Snowflake.configureShared(snowflakeProperties.resolvedNodeId());
+    }
+}
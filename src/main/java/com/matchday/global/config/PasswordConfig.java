@@ -1,15 +1,47 @@
 package com.matchday.global.config;
 
+import com.matchday.global.security.PasswordHashingProperties;
+import com.matchday.global.security.PasswordHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class PasswordConfig {
 
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingService passwordHashingService(PasswordHashingProperties properties,
+                                                        MeterRegistry meterRegistry) {
+        return new PasswordHashingService(createDelegatingPasswordEncoder(properties), properties, meterRegistry);
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingService passwordHashingService) {
+        return passwordHashingService.asPasswordEncoder();
+    }
+
+    /**
+     * {id} 접두사로 알고리즘을 구분하는 인코더. 새 해시는 encodingId 로 만들고,
+     * 접두사가 없는 기존 BCrypt 해시도 검증할 수 있어야 하므로 기본 matches 인코더를 BCrypt 로 둔다.
+     */
+    public static DelegatingPasswordEncoder createDelegatingPasswordEncoder(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.bcryptStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2@SpringSecurity_v5_8", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(properties.encodingId(), encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.matchday.global.config;
+
+import com.matchday.global.converter.StringToCityConverter;
+import com.matchday.global.converter.StringToSportsTypeConverter;
+import com.matchday.global.monitoring.query.QueryCountInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final QueryCountInterceptor queryCountInterceptor;
+
+    // 쿼리 파라미터/경로 변수의 지역/종목 값을 한글 이름으로도 받을 수 있도록 조회 테이블 기반 컨버터를 등록한다
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(new StringToCityConverter());
+        registry.addConverter(new StringToSportsTypeConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor).addPathPatterns("/api/**");
+    }
+}
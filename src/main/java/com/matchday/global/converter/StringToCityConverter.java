@@ -0,0 +1,12 @@
+package com.matchday.global.converter;
+
+import com.matchday.global.entity.enums.City;
+import org.springframework.core.convert.converter.Converter;
+
+public class StringToCityConverter implements Converter<String, City> {
+
+    @Override
+    public City convert(String source) {
+        return City.from(source.trim());
+    }
+}
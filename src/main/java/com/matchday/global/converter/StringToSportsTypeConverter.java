@@ -0,0 +1,12 @@
+package com.matchday.global.converter;
+
+import com.matchday.match.domain.enums.SportsType;
+import org.springframework.core.convert.converter.Converter;
+
+public class StringToSportsTypeConverter implements Converter<String, SportsType> {
+
+    @Override
+    public SportsType convert(String source) {
+        return SportsType.from(source.trim());
+    }
+}
@@ -7,25 +7,48 @@ import com.matchday.global.entity.enums.ResponseCode;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 @Getter
 @JsonPropertyOrder({"isSuccess", "code", "message", "result"})
 public class BaseResponse<T> {
 
+    // result 가 없는 실패 응답은 코드마다 하나만 만들어 두고 공유한다 (모든 필드가 final 이라 안전)
+    private static final Map<ResponseCode, BaseResponse<?>> FAILURES;
+
+    static {
+        Map<ResponseCode, BaseResponse<?>> failures = new EnumMap<>(ResponseCode.class);
+        for (ResponseCode code : ResponseCode.values()) {
+            failures.put(code, new BaseResponse<>(false, code.getCode(), code.getMessage(), null));
+        }
+        FAILURES = Collections.unmodifiableMap(failures);
+    }
+
     @JsonProperty("isSuccess")
     private final Boolean isSuccess;
     private final String code;
     private final String message;
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    private T result;
+    private final T result;
 
     public static <T> BaseResponse<T> onSuccess(T data, ResponseCode code) {
         return new BaseResponse<>(true, code.getCode(), code.getMessage(), data);
     }
 
     public static <T> BaseResponse<T> onFailure(T errors, ResponseCode code) {
+        if (errors == null) {
+            return onFailure(code);
+        }
         return new BaseResponse<>(false, code.getCode(), code.getMessage(), errors);
     }
 
+    @SuppressWarnings("unchecked")
+    public static <T> BaseResponse<T> onFailure(ResponseCode code) {
+        return (BaseResponse<T>) FAILURES.get(code);
+    }
+
     @Builder
     public BaseResponse(Boolean isSuccess, String code, String message, T result) {
         this.isSuccess = isSuccess;
@@ -36,8 +59,8 @@ public class BaseResponse<T> {
 
     @Getter
     public static class FieldError {
-        private String field;
-        private String message;
+        private final String field;
+        private final String message;
 
         @Builder
         public FieldError(String field, String message) {
@@ -45,4 +68,4 @@ public class BaseResponse<T> {
             this.message = message;
         }
     }
-}
\ No newline at end of file
+}
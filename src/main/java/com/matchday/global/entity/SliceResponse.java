@@ -0,0 +1,24 @@
+package com.matchday.global.entity;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 (전체 개수를 세지 않는다)
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private SliceResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> SliceResponse<T> of(List<T> content, String nextCursor) {
+        return new SliceResponse<>(content, nextCursor, nextCursor != null);
+    }
+}
@@ -1,5 +1,12 @@
 package com.matchday.global.entity.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum City {
     SEOUL("서울특별시"),
     BUSAN("부산광역시"),
@@ -19,6 +26,11 @@ public enum City {
     GYEONGNAM("경상남도"),
     JEJU("제주특별자치도");
     
+    private static final Map<String, City> BY_KOREAN_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(City::getKoreanName, Function.identity()));
+    private static final Map<String, City> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(City::name, Function.identity()));
+
     private final String koreanName;
     
     City(String koreanName) {
@@ -30,11 +42,17 @@ public enum City {
     }
     
     public static City fromKoreanName(String koreanName) {
-        for (City city : values()) {
-            if (city.koreanName.equals(koreanName)) {
-                return city;
-            }
+        City city = koreanName == null ? null : BY_KOREAN_NAME.get(koreanName);
+        if (city == null) {
+            throw new IllegalArgumentException("해당하는 시/도를 찾을 수 없습니다: " + koreanName);
         }
-        throw new IllegalArgumentException("해당하는 시/도를 찾을 수 없습니다: " + koreanName);
+        return city;
+    }
+
+    // 요청 바인딩용: 상수 이름(SEOUL) 과 한글 이름(서울특별시) 을 모두 받는다
+    @JsonCreator
+    public static City from(String value) {
+        City city = value == null ? null : BY_NAME.get(value);
+        return city != null ? city : fromKoreanName(value);
     }
 }
@@ -1,5 +1,12 @@
 package com.matchday.global.entity.enums;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public enum District {
     // 서울특별시 (25개구)
     SEOUL_GANGNAM("강남구", City.SEOUL),
@@ -264,6 +271,36 @@ public enum District {
     JEJU_JEJU("제주시", City.JEJU),
     JEJU_SEOGWIPO("서귀포시", City.JEJU);
     
+    private static final Map<City, District[]> BY_CITY;
+    private static final Map<City, List<District>> LIST_BY_CITY;
+    private static final Map<City, Map<String, District>> BY_CITY_AND_KOREAN_NAME;
+
+    static {
+        Map<City, List<District>> grouped = new EnumMap<>(City.class);
+        Map<City, Map<String, District>> byKoreanName = new EnumMap<>(City.class);
+        for (City city : City.values()) {
+            grouped.put(city, new ArrayList<>());
+            byKoreanName.put(city, new HashMap<>());
+        }
+        for (District district : values()) {
+            grouped.get(district.city).add(district);
+            // 같은 이름의 상수(JEONNAM_YEONGKWANG/JEONNAM_YEONGGWANG)가 있으면 선언 순서상 먼저 나온 상수를 돌려준다
+            byKoreanName.get(district.city).putIfAbsent(district.koreanName, district);
+        }
+
+        Map<City, District[]> byCity = new EnumMap<>(City.class);
+        Map<City, List<District>> listByCity = new EnumMap<>(City.class);
+        grouped.forEach((city, districts) -> {
+            byCity.put(city, districts.toArray(District[]::new));
+            listByCity.put(city, List.copyOf(districts));
+        });
+        byKoreanName.replaceAll((city, districts) -> Map.copyOf(districts));
+
+        BY_CITY = Collections.unmodifiableMap(byCity);
+        LIST_BY_CITY = Collections.unmodifiableMap(listByCity);
+        BY_CITY_AND_KOREAN_NAME = Collections.unmodifiableMap(byKoreanName);
+    }
+
     private final String koreanName;
     private final City city;
     
@@ -280,18 +317,24 @@ public enum District {
         return city;
     }
     
+    // 호출자가 배열을 수정해도 캐시가 오염되지 않도록 복사본을 반환한다
     public static District[] getDistrictsByCity(City city) {
-        return java.util.Arrays.stream(values())
-                .filter(district -> district.city == city)
-                .toArray(District[]::new);
+        District[] districts = BY_CITY.get(city);
+        return districts == null ? new District[0] : districts.clone();
+    }
+
+    // 복사 없이 공유되는 불변 목록
+    public static List<District> districtsOf(City city) {
+        List<District> districts = LIST_BY_CITY.get(city);
+        return districts == null ? List.of() : districts;
     }
     
     public static District fromKoreanName(String koreanName, City city) {
-        for (District district : values()) {
-            if (district.koreanName.equals(koreanName) && district.city == city) {
-                return district;
-            }
+        Map<String, District> districts = BY_CITY_AND_KOREAN_NAME.get(city);
+        District district = districts == null || koreanName == null ? null : districts.get(koreanName);
+        if (district == null) {
+            throw new IllegalArgumentException("해당하는 구/군을 찾을 수 없습니다: " + koreanName + " in " + city.getKoreanName());
         }
-        throw new IllegalArgumentException("해당하는 구/군을 찾을 수 없습니다: " + koreanName + " in " + city.getKoreanName());
+        return district;
     }
 }
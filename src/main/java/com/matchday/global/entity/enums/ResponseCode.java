@@ -7,6 +7,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -25,6 +28,9 @@ public enum ResponseCode {
     _FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON004", "금지된 요청입니다."),
     _INVALID_FORMAT(HttpStatus.BAD_REQUEST, "COMMON005", "날짜 형식이 잘못되었습니다."),
     _MISMATCHED_INPUT(HttpStatus.BAD_REQUEST, "COMMON006", "필드 타입이 일치하지 않습니다."),
+    _SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "COMMON007", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    _CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "COMMON008", "다른 사용자에 의해 데이터가 수정되었습니다. 다시 시도해주세요."),
+    _NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON009", "요청한 리소스를 찾을 수 없습니다."),
 
     // Member Error
     MEMBER_NOT_FOUND(HttpStatus.BAD_REQUEST, "MEMBER4001", "사용자가 없습니다."),
@@ -32,6 +38,8 @@ public enum ResponseCode {
 
     // Review Error
     REVIEW_ALREADY_FOUND(HttpStatus.BAD_REQUEST, "REVIEW4001", "지정된 리뷰의 개수를 초과했습니다."),
+    REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "REVIEW4002", "리뷰를 찾을 수 없습니다."),
+    REVIEW_MATCH_NOT_ENDED(HttpStatus.BAD_REQUEST, "REVIEW4003", "경기가 끝난 뒤에 리뷰를 작성할 수 있습니다."),
 
     // Match Error
     MATCH_NOT_FOUND(HttpStatus.NOT_FOUND, "MATCH4001", "매치를 찾을 수 없습니다."),
@@ -43,6 +51,15 @@ public enum ResponseCode {
     MATCH_NOT_CONFIRMED(HttpStatus.BAD_REQUEST, "MATCH4008", "확정된 매치가 아닙니다."),
     MATCH_SCHEDULE_NOT_FOUND(HttpStatus.BAD_REQUEST, "MATCH4009", "매치 일정이 확정되지 않았거나, 존재하지 않습니다."),
     MATCH_DUPLICATED(HttpStatus.BAD_REQUEST, "MATCH4010", "해당 시간에 다른 매치가 존재합니다."),
+    MATCH_ALREADY_CONFIRMED(HttpStatus.CONFLICT, "MATCH4011", "이미 상대 팀이 확정된 매치입니다."),
+    MATCH_INVALID_SCHEDULE(HttpStatus.BAD_REQUEST, "MATCH4012", "매치 종료 시간은 시작 시간 이후여야 합니다."),
+    MATCH_APPLICATION_ALREADY_PROCESSED(HttpStatus.CONFLICT, "MATCH4013", "이미 처리된 매치 신청입니다."),
+    MATCH_CLOSED(HttpStatus.CONFLICT, "MATCH4014", "모집이 마감된 매치입니다."),
+
+    // Inquiry Error
+    INQUIRY_NOT_FOUND(HttpStatus.NOT_FOUND, "INQUIRY4001", "문의를 찾을 수 없습니다."),
+    INQUIRY_PASSWORD_INCORRECT(HttpStatus.UNAUTHORIZED, "INQUIRY4002", "문의 비밀번호가 틀렸습니다."),
+    INQUIRY_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "INQUIRY4003", "비밀번호 확인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // MatchUser Error
     MATCH_USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "MATCHUSER4001", "가입된 모임이 없습니다."),
@@ -69,6 +86,8 @@ public enum ResponseCode {
     CLUB_PASSWORD_INCORRECT(HttpStatus.UNAUTHORIZED, "CLUB4004", "모임 비밀번호가 틀렸습니다."),
     CLUB_CHECK_PASSWORD_INCORRECT(HttpStatus.UNAUTHORIZED, "CLUB4005", "모임 확인 비밀번호가 틀렸습니다."),
     CLUB_USER_ALREADY_JOINED(HttpStatus.CONFLICT, "CLUB4006", "해당 사용자는 이미 모임에 가입되어 있습니다."),
+    CLUB_MEMBER_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "CLUB4007", "모임 정원이 가득 찼습니다."),
+    CLUB_INVITE_CODE_INCORRECT(HttpStatus.BAD_REQUEST, "CLUB4008", "초대 코드가 올바르지 않습니다."),
 
     // Schedule Error
     SCHEDULE_NOT_FOUND(HttpStatus.BAD_REQUEST, "SCHEDULE4001", "존재하지 않는 일정입니다."),
@@ -90,6 +109,28 @@ public enum ResponseCode {
     INVALID_SCHEDULE_CATEGORY(HttpStatus.BAD_REQUEST, "ENUM4009", "유효하지 않은 일정 종류입니다."),
     INVALID_ATTENDANCE_TYPE(HttpStatus.BAD_REQUEST, "ENUM4010", "유효하지 않은 투표입니다.(참석/불참)");
 
+    // HttpStatus 별 대표 코드를 미리 계산해 둔다 (선언 순서상 처음 매칭되는 코드, 없으면 4xx/5xx 기본 코드)
+    private static final Map<HttpStatus, ResponseCode> BY_HTTP_STATUS;
+
+    static {
+        Map<HttpStatus, ResponseCode> byHttpStatus = new EnumMap<>(HttpStatus.class);
+        for (HttpStatus httpStatus : HttpStatus.values()) {
+            byHttpStatus.put(httpStatus, Arrays.stream(values())
+                    .filter(errorCode -> errorCode.getHttpStatus() == httpStatus)
+                    .findFirst()
+                    .orElseGet(() -> {
+                        if(httpStatus.is4xxClientError()) {
+                            return ResponseCode._BAD_REQUEST;
+                        } else if (httpStatus.is5xxServerError()) {
+                            return ResponseCode._INTERNAL_SERVER_ERROR;
+                        } else {
+                            return ResponseCode.OK;
+                        }
+                    }));
+        }
+        BY_HTTP_STATUS = Collections.unmodifiableMap(byHttpStatus);
+    }
+
     private final HttpStatus httpStatus;
     private final String code;
     private final String message;
@@ -110,17 +151,6 @@ public enum ResponseCode {
             throw new GeneralException("HttpStatus is null.");
         }
 
-        return Arrays.stream(values())
-                .filter(errorCode -> errorCode.getHttpStatus() == httpStatus)
-                .findFirst()
-                .orElseGet(() -> {
-                    if(httpStatus.is4xxClientError()) {
-                        return ResponseCode._BAD_REQUEST;
-                    } else if (httpStatus.is5xxServerError()) {
-                        return ResponseCode._INTERNAL_SERVER_ERROR;
-                    } else {
-                        return ResponseCode.OK;
-                    }
-                });
+        return BY_HTTP_STATUS.get(httpStatus);
     }
 }
@@ -0,0 +1,91 @@
+package com.matchday.global.entity.id;
+
+import java.time.Instant;
+
+/**
+ * 시간 순으로 증가하는 id 발급기.
+ * <pre>
+ * | 41bit: 기준 시각(2025-01-01) 이후 ms | 4bit: 노드 | 8bit: ms 내 순번 |
+ * </pre>
+ * 전체 53bit 이므로 JSON 으로 내려가도 JavaScript Number 에서 정밀도를 잃지 않는다.
+ * 노드당 ms 마다 256개(초당 25만 개)까지 발급하며, 순번이 소진되면 다음 ms 로 넘어간다.
+ * 시계가 뒤로 가면 마지막으로 사용한 ms 를 계속 사용해 단조 증가를 유지한다.
+ * 노드 번호는 matchday.id.node-id 로 인스턴스마다 다르게 지정하며, 시작 시 {@link SnowflakeProperties} 검증을 거쳐
+ * {@link #configureShared(int)} 로 프로세스 공용 발급기에 반영된다.
+ */
+public final class Snowflake {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final int TIMESTAMP_BITS = 41;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static volatile Snowflake shared;
+
+    private final long node;
+    private long lastMillis = -1;
+    private int sequence;
+
+    public Snowflake(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.node = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public static Snowflake shared() {
+        Snowflake snowflake = shared;
+        if (snowflake == null) {
+            throw new IllegalStateException("Snowflake 노드 번호가 설정되기 전에 id 발급이 요청되었습니다");
+        }
+        return snowflake;
+    }
+
+    // 같은 노드로 다시 설정되면 기존 발급기를 유지해 ms 내 순번이 초기화되지 않게 한다
+    public static synchronized void configureShared(int nodeId) {
+        if (shared == null || shared.nodeId() != nodeId) {
+            shared = new Snowflake(nodeId);
+        }
+    }
+
+    int nodeId() {
+        return (int) (node >>> SEQUENCE_BITS);
+    }
+
+    public synchronized long nextId() {
+        long millis = Math.max(currentMillis(), lastMillis);
+        if (millis == lastMillis) {
+            if (sequence == MAX_SEQUENCE) {
+                millis = waitNextMillis(millis);
+                sequence = 0;
+            } else {
+                sequence++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = millis;
+        return ((millis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | node | sequence;
+    }
+
+    // id 에 담긴 발급 시각
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    private static long currentMillis() {
+        return System.currentTimeMillis();
+    }
+
+    // 시계가 뒤로 간 상태라면 기다리지 않고 마지막 ms 다음 값을 사용한다
+    private static long waitNextMillis(long millis) {
+        long next = currentMillis();
+        while (next == millis) {
+            Thread.onSpinWait();
+            next = currentMillis();
+        }
+        return Math.max(next, millis + 1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.matchday.global.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 모든 엔티티가 공유하는 시간 순 64bit id. INSERT 전에 애플리케이션에서 id 를 만들기 때문에
+ * IDENTITY 와 달리 Hibernate 의 JDBC insert batching 이 동작한다.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
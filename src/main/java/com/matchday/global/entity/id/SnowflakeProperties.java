@@ -0,0 +1,28 @@
+package com.matchday.global.entity.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param nodeId        이 인스턴스의 Snowflake 노드 번호 (0 ~ 15). 인스턴스마다 달라야 id 가 겹치지 않는다
+ * @param requireNodeId true 면 노드 번호가 없을 때 기본값(0)을 쓰지 않고 시작을 실패시킨다 (prod)
+ */
+@ConfigurationProperties(prefix = "matchday.id")
+public record SnowflakeProperties(
+        Integer nodeId,
+        @DefaultValue("false") boolean requireNodeId) {
+
+    public SnowflakeProperties {
+        if (nodeId == null && requireNodeId) {
+            throw new IllegalStateException("matchday.id.node-id(MATCHDAY_ID_NODE_ID) 가 설정되지 않았습니다");
+        }
+        if (nodeId != null && (nodeId < 0 || nodeId > Snowflake.MAX_NODE_ID)) {
+            throw new IllegalStateException(
+                    "matchday.id.node-id 는 0 ~ " + Snowflake.MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+    }
+
+    public int resolvedNodeId() {
+        return nodeId == null ? 0 : nodeId;
+    }
+}
@@ -0,0 +1,60 @@
+package com.matchday.global.exception.handler;
+
+import com.matchday.global.entity.enums.ResponseCode;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 같은 종류의 예외 로그를 (예외 클래스, 응답 코드) 별로 window 당 한 번만 남기도록 거른다.
+ * GeneralException 처럼 여러 오류 코드를 싣는 예외도 코드마다 따로 세므로, 한 코드의 폭주가 다른 코드의 첫 로그를 가리지 않는다.
+ * 장애로 같은 예외가 초당 수천 건 발생해도 스택 트레이스 출력이 요청 지연과 디스크를 잡아먹지 않게 하고,
+ * 그 사이 생략된 건수는 다음 로그에 함께 남긴다.
+ */
+class ErrorLogThrottle {
+
+    static final long NOT_ALLOWED = -1;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    ErrorLogThrottle(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ErrorLogThrottle(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 지금 로그를 남겨도 되면 직전 로그 이후 생략된 건수를, 아니면 NOT_ALLOWED 를 반환한다.
+     */
+    long tryAcquire(Class<?> type, ResponseCode code) {
+        Window window = windows.computeIfAbsent(new Key(type, code),
+                key -> new Window(nanoClock.getAsLong() - windowNanos));
+        long now = nanoClock.getAsLong();
+        long openedAt = window.openedAt.get();
+        if (now - openedAt >= windowNanos && window.openedAt.compareAndSet(openedAt, now)) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return NOT_ALLOWED;
+    }
+
+    private record Key(Class<?> type, ResponseCode code) {
+    }
+
+    private static final class Window {
+        private final AtomicLong openedAt;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(long openedAt) {
+            this.openedAt = new AtomicLong(openedAt);
+        }
+    }
+}
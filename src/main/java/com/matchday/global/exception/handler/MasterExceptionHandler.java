@@ -7,100 +7,142 @@ import com.matchday.global.entity.enums.ResponseCode;
 import com.matchday.global.exception.GeneralException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+/**
+ * 모든 REST 예외를 BaseResponse 로 변환하는 단일 advice.
+ * 다른 advice(라이브러리 포함)보다 먼저 선택되도록 우선순위를 고정한다.
+ * result 가 없는 응답은 ResponseCode 마다 미리 만든 ResponseEntity 를 그대로 돌려준다.
+ */
 @Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RestControllerAdvice(annotations = {RestController.class})
 public class MasterExceptionHandler {
 
+    private static final Map<ResponseCode, ResponseEntity<Object>> RESPONSES;
+
+    static {
+        Map<ResponseCode, ResponseEntity<Object>> responses = new EnumMap<>(ResponseCode.class);
+        for (ResponseCode code : ResponseCode.values()) {
+            responses.put(code, ResponseEntity.status(code.getHttpStatus()).body(BaseResponse.onFailure(code)));
+        }
+        RESPONSES = Collections.unmodifiableMap(responses);
+    }
+
+    private final ErrorLogThrottle errorLogThrottle = new ErrorLogThrottle(Duration.ofSeconds(10));
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Object> validation(ConstraintViolationException e, WebRequest request) {
-        return handleExceptionInternal(e, ResponseCode._UNAUTHORIZED, request);
+        return handleExceptionInternal(ResponseCode._UNAUTHORIZED);
     }
 
     @ExceptionHandler(GeneralException.class)
     public ResponseEntity<Object> general(GeneralException e, WebRequest request) {
-        return handleExceptionInternal(e, e.getErrorCode(), request);
+        ResponseCode errorCode = e.getErrorCode();
+        if (errorCode.getHttpStatus().is5xxServerError()) {
+            logThrottled(e, errorCode, request);
+        }
+        return handleExceptionInternal(errorCode);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Object> formatException(HttpMessageNotReadableException e, WebRequest request) {
         Throwable root = getRootCause(e);
         if (root instanceof DateTimeParseException) {
-            return handleExceptionInternal(e, ResponseCode._INVALID_FORMAT, request);
+            return handleExceptionInternal(ResponseCode._INVALID_FORMAT);
         } else if (root instanceof MismatchedInputException) {
-            return handleExceptionInternal(e, ResponseCode._MISMATCHED_INPUT, request);
+            return handleExceptionInternal(ResponseCode._MISMATCHED_INPUT);
+        }
+        return handleExceptionInternal(ResponseCode._BAD_REQUEST);
+    }
 
+    @ExceptionHandler(TypeMismatchException.class)
+    public ResponseEntity<Object> typeMismatch(TypeMismatchException e, WebRequest request) {
+        Class<?> requiredType = e.getRequiredType();
+        if (requiredType != null && requiredType.isEnum()) {
+            return handleExceptionInternal(ResponseCode.INVALID_ENUM_VALUE);
         }
-        return handleExceptionInternal(e, ResponseCode._BAD_REQUEST, request);
+        return handleExceptionInternal(ResponseCode._BAD_REQUEST);
+    }
+
+    // 재시도까지 소진한 동시 수정 충돌
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> optimisticLockingFailure(OptimisticLockingFailureException e, WebRequest request) {
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+        return handleExceptionInternal(ResponseCode._CONCURRENT_MODIFICATION);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> exception(Exception e, WebRequest request) {
-        e.printStackTrace(); // 클라이언트에게 불필요한 정보를 노출할 수 있으므로 삭제
-        return handleExceptionInternalFalse(e, ResponseCode._INTERNAL_SERVER_ERROR, HttpHeaders.EMPTY, ResponseCode._INTERNAL_SERVER_ERROR.getHttpStatus(),request);
+        // 누락된 헤더/파라미터, 지원하지 않는 Content-Type, 없는 경로 등은 Spring MVC 가 정해 둔 상태 코드를 따른다
+        ResponseCode errorCode = e instanceof ErrorResponse errorResponse
+                ? toResponseCode(errorResponse)
+                : ResponseCode._INTERNAL_SERVER_ERROR;
+        if (errorCode.getHttpStatus().is5xxServerError()) {
+            // 스택 트레이스는 서버 로그에만 남기고 클라이언트에는 공통 메시지만 보낸다
+            logThrottled(e, errorCode, request);
+        }
+        return handleExceptionInternal(errorCode);
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Object> processValidationError(MethodArgumentNotValidException exception) {
-
+    // @RequestBody(MethodArgumentNotValidException) 와 @ModelAttribute(BindException) 검증 실패
+    @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
+    public ResponseEntity<Object> processValidationError(BindException exception) {
         final List<BaseResponse.FieldError> fieldErrors = getFieldErrors(exception.getBindingResult());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(buildFieldErrors(ResponseCode._BAD_REQUEST, fieldErrors));
-
+                .body(BaseResponse.onFailure(fieldErrors, ResponseCode._BAD_REQUEST));
     }
 
+    // 필드 오류는 보통 몇 개뿐이므로 공용 ForkJoinPool 을 쓰지 않고 순차로 변환한다
     private List<BaseResponse.FieldError> getFieldErrors(BindingResult bindingResult) {
         final List<FieldError> errors = bindingResult.getFieldErrors();
-        return errors.parallelStream()
-                .map(error -> BaseResponse.FieldError.builder()
-                        .field(error.getField())
-                        .message(error.getDefaultMessage()).build())
-                .collect(Collectors.toList());
-    }
-
-    private BaseResponse buildFieldErrors(ResponseCode responseCode, List<BaseResponse.FieldError> errors) {
-        return BaseResponse.builder()
-                .isSuccess(false)
-                .code(responseCode.getCode())
-                .message(responseCode.getMessage())
-                .result(errors)
-                .build();
+        final List<BaseResponse.FieldError> fieldErrors = new ArrayList<>(errors.size());
+        for (FieldError error : errors) {
+            fieldErrors.add(new BaseResponse.FieldError(error.getField(), error.getDefaultMessage()));
+        }
+        return fieldErrors;
     }
 
-    private ResponseEntity<Object> handleExceptionInternal(Exception e, ResponseCode errorCode,
-                                                           WebRequest request) {
-        return handleExceptionInternal(e, errorCode, HttpHeaders.EMPTY, errorCode.getHttpStatus(),
-                request);
+    private ResponseCode toResponseCode(ErrorResponse errorResponse) {
+        HttpStatus httpStatus = HttpStatus.resolve(errorResponse.getStatusCode().value());
+        return httpStatus == null ? ResponseCode._INTERNAL_SERVER_ERROR : ResponseCode.valueOf(httpStatus);
     }
 
-
-    private ResponseEntity<Object> handleExceptionInternal(Exception e, ResponseCode errorCode,
-                                                           HttpHeaders headers, HttpStatus status, WebRequest request) {
-        BaseResponse<Object> body = BaseResponse.onFailure(null, errorCode);
-        return ResponseEntity.status(errorCode.getHttpStatus())
-                .body(body);
+    private ResponseEntity<Object> handleExceptionInternal(ResponseCode errorCode) {
+        return RESPONSES.get(errorCode);
     }
 
-    private ResponseEntity<Object> handleExceptionInternalFalse(Exception e, ResponseCode errorCode,
-                                                                HttpHeaders headers, HttpStatus status, WebRequest request) {
-        BaseResponse<Object> body = BaseResponse.onFailure(null, errorCode);
-        return ResponseEntity.status(errorCode.getHttpStatus())
-                .body(body);
+    private void logThrottled(Exception e, ResponseCode errorCode, WebRequest request) {
+        long suppressed = errorLogThrottle.tryAcquire(e.getClass(), errorCode);
+        if (suppressed == ErrorLogThrottle.NOT_ALLOWED) {
+            return;
+        }
+        log.error("처리되지 않은 예외: exception={}, code={}, request={}, suppressed={}",
+                e.getClass().getName(), errorCode.getCode(),
+                request == null ? "-" : request.getDescription(false), suppressed, e);
     }
 
     private Throwable getRootCause(Throwable ex) {
@@ -111,4 +153,4 @@ public class MasterExceptionHandler {
         return result;
     }
 
-}
\ No newline at end of file
+}
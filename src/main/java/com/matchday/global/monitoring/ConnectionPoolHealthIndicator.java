@@ -0,0 +1,58 @@
+package com.matchday.global.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 풀 포화 상태를 health 로 노출한다 (/actuator/health 의 connectionPool).
+ * 대기 중인 커넥션 획득 요청이 임계치를 넘으면 DEGRADED 로 표시한다. DEGRADED 는 200 으로 응답하도록 매핑해
+ * 로드밸런서가 인스턴스를 빼지는 않고, 알림만 걸 수 있게 한다 (application.yml management.endpoint.health.status).
+ */
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "커넥션 획득 대기가 임계치를 넘었습니다.");
+
+    private final HikariDataSource hikariDataSource;
+    private final int pendingThreshold;
+
+    public ConnectionPoolHealthIndicator(DataSource dataSource, ConnectionPoolHealthProperties properties) {
+        this.hikariDataSource = unwrap(dataSource);
+        this.pendingThreshold = properties.pendingThreshold();
+    }
+
+    @Override
+    public Health health() {
+        HikariPoolMXBean pool = hikariDataSource == null ? null : hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // Hikari 가 아니거나 아직 첫 커넥션을 만들기 전
+            return Health.unknown().build();
+        }
+
+        int pending = pool.getThreadsAwaitingConnection();
+        Health.Builder builder = pending > pendingThreshold ? Health.status(DEGRADED) : Health.up();
+        return builder
+                .withDetail("active", pool.getActiveConnections())
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("total", pool.getTotalConnections())
+                .withDetail("max", hikariDataSource.getMaximumPoolSize())
+                .withDetail("pending", pending)
+                .withDetail("pendingThreshold", pendingThreshold)
+                .build();
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
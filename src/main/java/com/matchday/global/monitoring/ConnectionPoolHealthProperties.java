@@ -0,0 +1,12 @@
+package com.matchday.global.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param pendingThreshold 커넥션을 기다리는 스레드가 이 수를 넘으면 health 를 DEGRADED 로 내린다
+ */
+@ConfigurationProperties(prefix = "matchday.monitoring.connection-pool")
+public record ConnectionPoolHealthProperties(
+        @DefaultValue("5") int pendingThreshold) {
+}
@@ -0,0 +1,126 @@
+package com.matchday.global.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 모드에서 carrier 스레드 고정(pinning)을 JFR jdk.VirtualThreadPinned 이벤트로 감시한다.
+ * synchronized 블록 안에서 JDBC I/O 를 기다리면 carrier 가 묶이므로, 고정이 발생한 계층(JDBC 드라이버/Hikari/Hibernate)별로 집계한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final int MIN_VIRTUAL_THREAD_FRIENDLY_DRIVER_VERSION = 9;
+
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+    private final Duration threshold;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, DataSource dataSource,
+                                       @Value("${matchday.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.dataSource = dataSource;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        verifyJdbcDriver();
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::record);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감시를 시작합니다. (threshold={})", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        String source = classifySource(event.getStackTrace());
+        counters.computeIfAbsent(source, key -> Counter.builder("matchday.virtual.thread.pinned")
+                        .description("carrier 스레드가 고정된 횟수")
+                        .tag("source", key)
+                        .register(meterRegistry))
+                .increment();
+        timers.computeIfAbsent(source, key -> Timer.builder("matchday.virtual.thread.pinned.duration")
+                        .tag("source", key)
+                        .register(meterRegistry))
+                .record(event.getDuration());
+
+        if (log.isDebugEnabled()) {
+            log.debug("가상 스레드 pinning: source={}, duration={}, stack={}", source, event.getDuration(), event.getStackTrace());
+        }
+    }
+
+    // 태그 카디널리티를 제한하기 위해 스택에서 가장 가까운 알려진 계층으로 분류한다
+    private String classifySource(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith("com.mysql.")) {
+                return "jdbc-driver";
+            }
+            if (className.startsWith("com.zaxxer.hikari.")) {
+                return "hikari";
+            }
+            if (className.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (className.startsWith("com.matchday.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+
+    // Connector/J 8.x 는 I/O 경로에 synchronized 가 남아 있어 가상 스레드에서 carrier 를 고정시킨다
+    private void verifyJdbcDriver() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (metaData.getDriverName().contains("MySQL")
+                    && metaData.getDriverMajorVersion() < MIN_VIRTUAL_THREAD_FRIENDLY_DRIVER_VERSION) {
+                log.warn("MySQL Connector/J {} 는 가상 스레드 pinning 을 유발합니다. 9.x 이상으로 올려주세요.",
+                        metaData.getDriverVersion());
+            }
+        } catch (SQLException e) {
+            log.warn("JDBC 드라이버 버전을 확인하지 못했습니다.", e);
+        }
+    }
+}
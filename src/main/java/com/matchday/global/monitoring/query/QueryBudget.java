@@ -0,0 +1,18 @@
+package com.matchday.global.monitoring.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 한 요청에서 실행해도 되는 SQL 문 수의 상한. 넘으면 QueryBudgetMonitor 가 기록하고,
+ * strict 모드(통합 테스트)에서는 테스트를 실패시킨다. 컨트롤러 메서드 또는 클래스에 붙인다.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
@@ -0,0 +1,50 @@
+package com.matchday.global.monitoring.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link QueryBudget} 초과를 기록한다. 운영에서는 경고 로그와 카운터만 남기고,
+ * strict 모드에서는 초과 내역을 모아 두었다가 테스트가 꺼내 실패시킬 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class QueryBudgetMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean strict;
+    private final Queue<QueryBudgetViolation> violations = new ConcurrentLinkedQueue<>();
+
+    public QueryBudgetMonitor(MeterRegistry meterRegistry, QueryBudgetProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.strict = properties.strict();
+    }
+
+    public void report(QueryBudgetViolation violation) {
+        log.warn("쿼리 예산 초과: {}", violation);
+        Counter.builder("matchday.http.server.queries.budget.exceeded")
+                .tag("method", violation.method())
+                .tag("uri", violation.uri())
+                .register(meterRegistry)
+                .increment();
+        if (strict) {
+            violations.add(violation);
+        }
+    }
+
+    public List<QueryBudgetViolation> drainViolations() {
+        List<QueryBudgetViolation> drained = new ArrayList<>();
+        QueryBudgetViolation violation;
+        while ((violation = violations.poll()) != null) {
+            drained.add(violation);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,12 @@
+package com.matchday.global.monitoring.query;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param strict 초과 내역을 보관해 테스트에서 QueryBudgetMonitor.drainViolations 로 확인할 수 있게 한다
+ */
+@ConfigurationProperties(prefix = "matchday.monitoring.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("false") boolean strict) {
+}
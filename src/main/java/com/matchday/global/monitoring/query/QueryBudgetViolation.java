@@ -0,0 +1,9 @@
+package com.matchday.global.monitoring.query;
+
+public record QueryBudgetViolation(String method, String uri, int budget, int actual) {
+
+    @Override
+    public String toString() {
+        return method + " " + uri + ": " + actual + " queries (budget " + budget + ")";
+    }
+}
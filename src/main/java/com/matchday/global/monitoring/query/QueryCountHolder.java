@@ -0,0 +1,36 @@
+package com.matchday.global.monitoring.query;
+
+/**
+ * 현재 스레드에서 처리 중인 요청의 SQL 문 수. 요청 범위(start ~ stop) 밖의 쿼리(스케줄러, 이벤트 리스너 스레드 등)는 세지 않는다.
+ */
+public final class QueryCountHolder {
+
+    public static final int NOT_COUNTING = -1;
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? NOT_COUNTING : count[0];
+    }
+
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? NOT_COUNTING : count[0];
+    }
+}
@@ -0,0 +1,75 @@
+package com.matchday.global.monitoring.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 컨트롤러 요청마다 실행된 SQL 문 수를 엔드포인트(uri 패턴 + method) 별 분포로 기록하고 {@link QueryBudget} 을 검사한다.
+ * StreamingResponseBody 처럼 다른 스레드에서 조회하는 비동기 응답은 세지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC_NAME = "matchday.http.server.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetMonitor queryBudgetMonitor;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryCountHolder.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountHolder.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int count = QueryCountHolder.stop();
+        if (count == QueryCountHolder.NOT_COUNTING || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        String method = request.getMethod();
+        String uri = uriPattern(request);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("요청당 실행된 SQL 문 수")
+                .baseUnit("queries")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(count);
+
+        QueryBudget budget = findBudget(handlerMethod);
+        if (budget != null && count > budget.value()) {
+            queryBudgetMonitor.report(new QueryBudgetViolation(method, uri, budget.value(), count));
+        }
+    }
+
+    // 경로 변수마다 태그가 늘어나지 않도록 매핑된 패턴을 쓴다
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static QueryBudget findBudget(HandlerMethod handlerMethod) {
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), QueryBudget.class);
+        return budget != null ? budget
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+    }
+}
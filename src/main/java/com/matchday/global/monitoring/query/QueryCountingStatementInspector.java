@@ -0,0 +1,16 @@
+package com.matchday.global.monitoring.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 JDBC 문을 준비할 때마다 호출된다. SQL 은 바꾸지 않고 현재 요청의 문 수만 센다.
+ * JdbcTemplate 등 Hibernate 를 거치지 않는 쿼리는 세지 않는다.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,52 @@
+package com.matchday.global.outbox;
+
+import com.matchday.global.entity.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태 변경과 같은 트랜잭션에 기록되는 이벤트. OutboxRelay 가 전달에 성공하면 삭제한다.
+ */
+@Getter
+@Entity
+@Table(name = "outbox_event", indexes = {
+        // 릴레이 적재 (전달 가능한 이벤트를 오래된 순으로)
+        @Index(name = "idx_outbox_available", columnList = "available_at, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    // 페이로드 클래스 이름 (OutboxEventHandler.eventType)
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 전달을 시도한다 (실패 시 재시도 간격만큼 미뤄진다)
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent create(String eventType, String payload, LocalDateTime now) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.payload = payload;
+        event.availableAt = now;
+        event.createdAt = now;
+        return event;
+    }
+}
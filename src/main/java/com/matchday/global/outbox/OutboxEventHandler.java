@@ -0,0 +1,12 @@
+package com.matchday.global.outbox;
+
+/**
+ * OutboxRelay 가 커밋된 이벤트를 전달하는 프로세스 내 핸들러. 빈으로 등록하면 된다.
+ * 전달은 at-least-once 이므로(같은 타입의 다른 핸들러가 실패하면 함께 다시 전달된다) 멱등하게 구현한다.
+ */
+public interface OutboxEventHandler<T> {
+
+    Class<T> eventType();
+
+    void handle(T event);
+}
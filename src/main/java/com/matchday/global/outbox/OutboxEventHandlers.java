@@ -0,0 +1,59 @@
+package com.matchday.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 타입별 핸들러 목록. 핸들러가 없는 타입은 outbox 에 기록하지 않는다.
+ */
+@Component
+public class OutboxEventHandlers {
+
+    private final Map<String, List<OutboxEventHandler<?>>> handlers = new HashMap<>();
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventHandlers(List<OutboxEventHandler<?>> handlers, ObjectMapper objectMapper) {
+        for (OutboxEventHandler<?> handler : handlers) {
+            this.handlers.computeIfAbsent(handler.eventType().getName(), type -> new ArrayList<>()).add(handler);
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean handles(Class<?> eventType) {
+        return handlers.containsKey(eventType.getName());
+    }
+
+    public String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox 이벤트를 직렬화할 수 없습니다: " + event.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * 페이로드를 역직렬화해 등록된 핸들러에 차례로 전달한다. 핸들러가 없으면 false 를 반환한다.
+     */
+    public boolean dispatch(OutboxEvent event) throws JsonProcessingException {
+        List<OutboxEventHandler<?>> targets = handlers.get(event.getEventType());
+        if (targets == null) {
+            return false;
+        }
+        Object payload = objectMapper.readValue(event.getPayload(), targets.get(0).eventType());
+        for (OutboxEventHandler<?> handler : targets) {
+            deliver(handler, payload);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void deliver(OutboxEventHandler<T> handler, Object payload) {
+        handler.handle((T) payload);
+    }
+}
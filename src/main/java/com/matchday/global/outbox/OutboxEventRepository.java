@@ -0,0 +1,31 @@
+package com.matchday.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 동시에 서로 다른 batch 를 가져간다
+    @Query(value = """
+            select * from outbox_event
+            where available_at <= :now
+            order by available_at, id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEvent> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.availableAt = :retryAt where e.id in :ids")
+    int postpone(@Param("ids") Collection<Long> ids, @Param("retryAt") LocalDateTime retryAt);
+}
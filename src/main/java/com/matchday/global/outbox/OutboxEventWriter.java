@@ -0,0 +1,30 @@
+package com.matchday.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 트랜잭션에 outbox 이벤트를 추가한다. 상태 변경과 함께 커밋되거나 함께 롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventHandlers handlers;
+    private final Clock clock;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        if (!handlers.handles(event.getClass())) {
+            return;
+        }
+        outboxEventRepository.save(OutboxEvent.create(
+                event.getClass().getName(), handlers.serialize(event), LocalDateTime.now(clock)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.matchday.global.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param pollInterval      릴레이가 outbox 를 확인하는 주기 (이벤트가 전달되기까지의 최대 지연)
+ * @param batchSize         한 트랜잭션에서 잠그고 전달할 최대 이벤트 수
+ * @param maxBatchesPerPoll 밀려 있을 때 한 번의 확인에서 이어서 처리할 최대 batch 수.
+ *                          남은 이벤트는 다음 주기로 넘겨 스케줄러 스레드를 오래 붙잡지 않는다
+ * @param retryDelay        전달에 실패한 이벤트를 다시 시도하기까지의 간격
+ * @param maxAttempts       이 횟수만큼 실패하면 오류 로그를 남기고 버린다
+ */
+@ConfigurationProperties(prefix = "matchday.outbox")
+public record OutboxProperties(
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("10") int maxBatchesPerPoll,
+        @DefaultValue("30s") Duration retryDelay,
+        @DefaultValue("10") int maxAttempts) {
+}
@@ -0,0 +1,109 @@
+package com.matchday.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox 에 쌓인 이벤트를 batch 로 잠가(FOR UPDATE SKIP LOCKED) 핸들러에 전달하고, 전달된 행을 한 번에 삭제한다.
+ * 잠근 행은 트랜잭션이 끝날 때까지 다른 노드가 건너뛰므로 여러 노드가 동시에 나눠서 비운다.
+ * 전달 후 커밋 전에 중단되면 다시 전달된다(at-least-once).
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventHandlers handlers;
+    private final TransactionTemplate transaction;
+    private final OutboxProperties properties;
+    private final Clock clock;
+
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter dropped;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventHandlers handlers,
+                       PlatformTransactionManager transactionManager,
+                       OutboxProperties properties,
+                       Clock clock,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+
+        this.delivered = counter(meterRegistry, "delivered");
+        this.retried = counter(meterRegistry, "retried");
+        this.dropped = counter(meterRegistry, "dropped");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("matchday.outbox.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 가득 찬 batch 가 나오면 밀린 것이므로 이어서 비우되, maxBatchesPerPoll 을 넘기면 다음 주기로 넘긴다
+    @Scheduled(fixedDelayString = "${matchday.outbox.poll-interval:1s}")
+    public void relay() {
+        Integer relayed;
+        int batches = 0;
+        do {
+            relayed = transaction.execute(status -> relayBatch());
+        } while (relayed != null && relayed == properties.batchSize() && ++batches < properties.maxBatchesPerPoll());
+    }
+
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEvent> events = outboxEventRepository.lockAvailable(now, properties.batchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> done = new ArrayList<>(events.size());
+        List<Long> failed = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                if (!handlers.dispatch(event)) {
+                    log.warn("outbox 이벤트를 처리할 핸들러가 없어 버립니다: id={}, type={}", event.getId(), event.getEventType());
+                    dropped.increment();
+                } else {
+                    delivered.increment();
+                }
+                done.add(event.getId());
+            } catch (Exception e) {
+                if (event.getAttempts() + 1 >= properties.maxAttempts()) {
+                    log.error("outbox 이벤트 전달이 {}회 실패해 버립니다: id={}, type={}, payload={}",
+                            properties.maxAttempts(), event.getId(), event.getEventType(), event.getPayload(), e);
+                    dropped.increment();
+                    done.add(event.getId());
+                } else {
+                    log.warn("outbox 이벤트 전달에 실패했습니다. {} 후 다시 시도합니다: id={}, type={}",
+                            properties.retryDelay(), event.getId(), event.getEventType(), e);
+                    retried.increment();
+                    failed.add(event.getId());
+                }
+            }
+        }
+
+        if (!done.isEmpty()) {
+            outboxEventRepository.deleteAllByIdIn(done);
+        }
+        if (!failed.isEmpty()) {
+            outboxEventRepository.postpone(failed, now.plus(properties.retryDelay()));
+        }
+        return events.size();
+    }
+}
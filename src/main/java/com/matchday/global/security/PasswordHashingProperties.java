@@ -0,0 +1,22 @@
+package com.matchday.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param encodingId     새 해시에 사용할 인코더 id (bcrypt, argon2@SpringSecurity_v5_8, pbkdf2@SpringSecurity_v5_8)
+ * @param bcryptStrength BCrypt cost (log2 rounds). 올리면 기존 해시는 다음 로그인 때 다시 해시된다
+ * @param poolSize       해시 전용 스레드 수 (CPU 코어 수 이하 권장)
+ * @param queueCapacity  대기열 크기. 가득 차면 즉시 503 으로 거절한다
+ * @param timeout        요청 스레드가 해시 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "matchday.security.password")
+public record PasswordHashingProperties(
+        @DefaultValue("bcrypt") String encodingId,
+        @DefaultValue("10") int bcryptStrength,
+        @DefaultValue("4") int poolSize,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("5s") Duration timeout) {
+}
@@ -0,0 +1,151 @@
+package com.matchday.global.security;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀에서 실행한다.
+ * 풀과 대기열이 모두 차면 요청을 즉시 거절해, 가입/문의 조회가 몰려도 다른 API 의 요청 스레드와 CPU 를 잠식하지 않는다.
+ */
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+    private final Counter upgraded;
+
+    public PasswordHashingService(PasswordEncoder delegate, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = properties.timeout();
+        this.threadPool = new ThreadPoolExecutor(
+                properties.poolSize(), properties.poolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        // executor.queued / executor.active 등 풀 상태 지표
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "passwordHashing");
+
+        this.encodeTimer = Timer.builder("matchday.password.hash")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("matchday.password.hash")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("matchday.password.hash.rejected").register(meterRegistry);
+        this.upgraded = Counter.builder("matchday.password.hash.upgraded").register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    /**
+     * 검증과 동시에 rehash 필요 여부를 판단한다. 일치하고 업그레이드가 필요하면 같은 작업 안에서 새 해시까지 만든다.
+     */
+    public CompletableFuture<PasswordVerification> verifyAsync(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> {
+            boolean matches = matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+            if (!matches) {
+                return PasswordVerification.mismatch();
+            }
+            if (!delegate.upgradeEncoding(encodedPassword)) {
+                return new PasswordVerification(true, null);
+            }
+            upgraded.increment();
+            return new PasswordVerification(true, encodeTimer.record(() -> delegate.encode(rawPassword)));
+        });
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    public PasswordVerification verify(CharSequence rawPassword, String encodedPassword) {
+        return await(verifyAsync(rawPassword, encodedPassword));
+    }
+
+    // 도메인 메서드(User.createUser, Inquiry.matchesPassword 등)에 그대로 넘길 수 있는 PasswordEncoder
+    public PasswordEncoder asPasswordEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return PasswordHashingService.this.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return await(submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword))));
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return delegate.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열이 가득 찼습니다. (active={}, queued={})",
+                    threadPool.getActiveCount(), threadPool.getQueue().size());
+            throw new GeneralException(ResponseCode._SERVICE_BUSY, e);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejected.increment();
+            throw new GeneralException(ResponseCode._SERVICE_BUSY, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ResponseCode._SERVICE_BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new GeneralException(e.getCause());
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.matchday.global.security;
+
+import java.util.Optional;
+
+/**
+ * 비밀번호 검증 결과. 일치했고 저장된 해시가 현재 정책(인코더 id, cost)보다 약하면 새 해시를 함께 돌려준다.
+ */
+public record PasswordVerification(boolean matches, String upgradedHash) {
+
+    public static PasswordVerification mismatch() {
+        return new PasswordVerification(false, null);
+    }
+
+    public Optional<String> upgradedHashIfAny() {
+        return Optional.ofNullable(upgradedHash);
+    }
+}
@@ -0,0 +1,112 @@
+package com.matchday.global.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 목록을 메모리에 모으지 않고 BaseResponse 형태({"isSuccess", "code", "message", "result": [...]}) 로 바로 써 내려간다.
+ * 행은 읽기 전용 트랜잭션 안에서 Stream 으로 하나씩 받아 JsonGenerator 로 직렬화하므로,
+ * 힙 사용량은 결과 건수와 관계없이 버퍼 몇 개 수준으로 유지된다.
+ * 응답 헤더가 이미 나간 뒤에 실패하면 상태 코드를 바꿀 수 없으므로 연결을 끊어 불완전한 JSON 으로 끝난다.
+ * <p>
+ * 스트림 하나는 다 쓸 때까지(최대 spring.mvc.async.request-timeout = 5m) DB 커넥션 하나를 붙잡는다.
+ * 동시 스트림 수를 matchday.streaming.max-concurrent-streams 로 묶지 않으면 느린 클라이언트 몇 명이
+ * 풀(prod 20개)을 모두 차지하고, 나머지 요청은 connection-timeout(3s) 뒤 실패한다.
+ * 한도를 넘는 요청은 커넥션을 잡기 전에 _SERVICE_BUSY(503) 로 거절한다. 아직 아무것도 쓰지 않은 시점이므로
+ * 일반 오류 응답으로 나간다. 30초 이상 이어지는 스트림은 leak-detection-threshold(30s) 경고를 남기지만
+ * 누수가 아니며, 그 경고 수도 이 한도를 넘지 않는다.
+ */
+@Slf4j
+@Component
+public class JsonStreamingResponses {
+
+    private static final int FLUSH_EVERY = 1_000;
+
+    // 행마다 flush 하면 소켓 쓰기가 행 수만큼 일어나므로 FLUSH_EVERY 단위로 직접 flush 한다
+    private final ObjectWriter writer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore streams;
+    private final int maxConcurrentStreams;
+    private final Counter rejected;
+
+    public JsonStreamingResponses(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                  StreamingProperties properties, MeterRegistry meterRegistry) {
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxConcurrentStreams = properties.maxConcurrentStreams();
+        this.streams = new Semaphore(maxConcurrentStreams);
+        this.rejected = Counter.builder("matchday.streaming.rejected").register(meterRegistry);
+        Gauge.builder("matchday.streaming.active", streams, s -> maxConcurrentStreams - s.availablePermits())
+                .description("현재 열려 있는 스트리밍 응답 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * rows 는 응답을 쓰는 스레드의 트랜잭션 안에서 호출된다 (Spring Data Stream 조회는 트랜잭션이 필요하다).
+     * 동시 스트림 한도를 넘으면 트랜잭션을 열기 전에 _SERVICE_BUSY 로 실패한다.
+     */
+    public <T> StreamingResponseBody stream(Supplier<Stream<T>> rows) {
+        return outputStream -> {
+            if (!streams.tryAcquire()) {
+                rejected.increment();
+                log.warn("동시 스트리밍 응답 수가 한도({})에 도달해 요청을 거절합니다.", maxConcurrentStreams);
+                throw new GeneralException(ResponseCode._SERVICE_BUSY);
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try {
+                        write(rows, outputStream);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                streams.release();
+            }
+        };
+    }
+
+    private <T> void write(Supplier<Stream<T>> rows, OutputStream outputStream) throws IOException {
+        try (Stream<T> stream = rows.get();
+             JsonGenerator generator = writer.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("isSuccess", true);
+            generator.writeStringField("code", ResponseCode.OK.getCode());
+            generator.writeStringField("message", ResponseCode.OK.getMessage());
+            generator.writeArrayFieldStart("result");
+
+            Iterator<T> iterator = stream.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
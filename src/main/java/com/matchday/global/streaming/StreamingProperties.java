@@ -0,0 +1,13 @@
+package com.matchday.global.streaming;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxConcurrentStreams 동시에 열려 있을 수 있는 스트리밍 응답 수. 스트림마다 커넥션을 끝까지 붙잡으므로
+ *                             커넥션 풀 크기보다 충분히 작게 잡아 일반 요청이 쓸 커넥션을 남겨 둔다
+ */
+@ConfigurationProperties(prefix = "matchday.streaming")
+public record StreamingProperties(
+        @DefaultValue("4") int maxConcurrentStreams) {
+}
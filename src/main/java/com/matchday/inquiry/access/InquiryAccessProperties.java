@@ -0,0 +1,32 @@
+package com.matchday.inquiry.access;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param tokenSecret           접근 토큰 HMAC 키. 비어 있으면 기동 시 임의로 만들므로 재시작/다른 인스턴스에서는 토큰이 무효가 된다
+ * @param tokenTtl              비밀번호 확인 후 발급하는 접근 토큰의 유효 시간
+ * @param burst                 (문의, IP) 당 연속으로 허용하는 비밀번호 확인 횟수
+ * @param refillInterval        (문의, IP) 확인 기회 1회가 다시 채워지는 간격
+ * @param clientBurst           IP 당 연속으로 허용하는 확인 횟수 (없는 문의 id 시도 포함)
+ * @param clientRefillInterval  IP 확인 기회 1회가 다시 채워지는 간격
+ * @param inquiryBurst          문의 하나에 대해 모든 IP 를 합쳐 연속으로 허용하는 확인 횟수
+ * @param inquiryRefillInterval 문의 확인 기회 1회가 다시 채워지는 간격
+ * @param maxBuckets            범위별로 보관하는 버킷 최대 수. 넘으면 가장 오래 쓰이지 않은 버킷부터 버린다
+ * @param stripes               버킷 맵을 나누는 잠금 단위 수
+ */
+@ConfigurationProperties(prefix = "matchday.inquiry.access")
+public record InquiryAccessProperties(
+        @DefaultValue("") String tokenSecret,
+        @DefaultValue("30m") Duration tokenTtl,
+        @DefaultValue("5") int burst,
+        @DefaultValue("1m") Duration refillInterval,
+        @DefaultValue("20") int clientBurst,
+        @DefaultValue("15s") Duration clientRefillInterval,
+        @DefaultValue("20") int inquiryBurst,
+        @DefaultValue("30s") Duration inquiryRefillInterval,
+        @DefaultValue("100000") int maxBuckets,
+        @DefaultValue("16") int stripes) {
+}
@@ -0,0 +1,7 @@
+package com.matchday.inquiry.access;
+
+import java.time.Instant;
+
+// 비밀번호를 한 번 확인한 문의에 대해 발급하는 단기 접근 토큰
+public record InquiryAccessToken(String token, Instant expiresAt) {
+}
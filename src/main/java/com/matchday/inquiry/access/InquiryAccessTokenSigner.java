@@ -0,0 +1,99 @@
+package com.matchday.inquiry.access;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * "{inquiryId}.{만료 epoch 초}.{HMAC-SHA256 서명}" 형식의 문의 접근 토큰을 만들고 검증한다.
+ * 검증은 HMAC 한 번이므로 BCrypt 와 달리 조회마다 해도 부담이 없다. 서버에 상태를 두지 않는다.
+ */
+@Slf4j
+@Component
+public class InquiryAccessTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final InquiryAccessProperties properties;
+    private final Clock clock;
+
+    // Mac 은 스레드 안전하지 않으므로 스레드마다 하나씩 둔다
+    private final ThreadLocal<Mac> mac;
+
+    public InquiryAccessTokenSigner(InquiryAccessProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.key = new SecretKeySpec(secretBytes(properties.tokenSecret()), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public InquiryAccessToken issue(long inquiryId) {
+        Instant expiresAt = clock.instant().plus(properties.tokenTtl());
+        String payload = inquiryId + "." + expiresAt.getEpochSecond();
+        return new InquiryAccessToken(payload + "." + ENCODER.encodeToString(sign(payload)), expiresAt);
+    }
+
+    /**
+     * 토큰이 해당 문의에 대해 발급되었고 만료되지 않았는지 확인한다.
+     */
+    public void verify(String token, long inquiryId) {
+        int signatureAt = token == null ? -1 : token.lastIndexOf('.');
+        if (signatureAt < 0) {
+            throw new GeneralException(ResponseCode.TOKEN_INVALID_EXCEPTION);
+        }
+        String payload = token.substring(0, signatureAt);
+        String[] parts = payload.split("\\.");
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureAt + 1));
+            if (parts.length != 2 || !MessageDigest.isEqual(sign(payload), signature)
+                    || Long.parseLong(parts[0]) != inquiryId) {
+                throw new GeneralException(ResponseCode.TOKEN_INVALID_EXCEPTION);
+            }
+            if (clock.instant().getEpochSecond() >= Long.parseLong(parts[1])) {
+                throw new GeneralException(ResponseCode.TOKEN_EXPIRED_EXCEPTION);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ResponseCode.TOKEN_INVALID_EXCEPTION, e);
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("문의 접근 토큰 서명 키를 초기화하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (StringUtils.hasText(secret)) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("matchday.inquiry.access.token-secret 이 설정되지 않아 임의 키를 사용합니다. 재시작하면 발급된 토큰이 무효가 됩니다.");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,159 @@
+package com.matchday.inquiry.access;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 문의 비밀번호 확인 횟수를 세 범위의 토큰 버킷으로 제한한다.
+ * <ul>
+ *     <li>IP: 존재 여부와 관계없이 모든 확인 요청이 쓴다. 한 IP 가 여러 문의를 돌아가며 시도해도 BCrypt 비용이 묶인다</li>
+ *     <li>(문의, IP): 존재하는 문의에 대해서만 만든다</li>
+ *     <li>문의: 존재하는 문의에 대해서만 만든다. 여러 IP 에서 한 문의를 나눠 시도하는 경우를 막는다</li>
+ * </ul>
+ * 버킷 맵은 stripes 개의 LRU(LinkedHashMap access-order) 로 나눠 잠금 경합을 줄이고,
+ * 조각마다 maxBuckets / stripes 개를 넘으면 가장 오래 쓰이지 않은 버킷을 버려 메모리를 제한한다.
+ * 버려진 버킷은 다음 요청 때 가득 찬 상태로 다시 만들어진다. 없는 문의 id 로는 (문의, IP)/문의 버킷을 만들 수 없으므로,
+ * 자기 버킷을 밀어내려면 실제 문의를 수천 건 시도해야 하고 그 시도는 모두 IP 버킷에서 먼저 거절된다.
+ */
+@Component
+public class InquiryAttemptLimiter {
+
+    private final BucketMap<String> clients;
+    private final BucketMap<String> pairs;
+    private final BucketMap<Long> inquiries;
+    private final Clock clock;
+
+    public InquiryAttemptLimiter(InquiryAccessProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.clients = new BucketMap<>("client", properties.clientBurst(), properties.clientRefillInterval(),
+                properties, meterRegistry);
+        this.pairs = new BucketMap<>("inquiry-client", properties.burst(), properties.refillInterval(),
+                properties, meterRegistry);
+        this.inquiries = new BucketMap<>("inquiry", properties.inquiryBurst(), properties.inquiryRefillInterval(),
+                properties, meterRegistry);
+    }
+
+    /**
+     * 문의를 조회하기 전에 호출한다. IP 버킷에 확인 기회가 남아 있으면 하나를 쓰고 true 를 반환한다.
+     */
+    public boolean tryAcquireClient(String clientIp) {
+        return clients.tryAcquire(clientIp, clock.millis());
+    }
+
+    /**
+     * 문의가 존재하는 것을 확인한 뒤 호출한다. (문의, IP) 와 문의 버킷 모두에 기회가 남아 있어야 true 를 반환한다.
+     */
+    public boolean tryAcquire(long inquiryId, String clientIp) {
+        long now = clock.millis();
+        return pairs.tryAcquire(inquiryId + "|" + clientIp, now) && inquiries.tryAcquire(inquiryId, now);
+    }
+
+    public int size() {
+        return clients.size() + pairs.size() + inquiries.size();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // 범위 하나의 버킷 맵
+    private static final class BucketMap<K> {
+        private final Stripe<K>[] stripes;
+        private final int burst;
+        private final long refillIntervalMillis;
+
+        @SuppressWarnings("unchecked")
+        BucketMap(String scope, int burst, Duration refillInterval,
+                  InquiryAccessProperties properties, MeterRegistry meterRegistry) {
+            this.burst = burst;
+            this.refillIntervalMillis = refillInterval.toMillis();
+
+            Counter evictions = Counter.builder("matchday.inquiry.verification.buckets.evicted")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+            int capacityPerStripe = Math.max(1, properties.maxBuckets() / properties.stripes());
+            this.stripes = new Stripe[properties.stripes()];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe<>(capacityPerStripe, evictions);
+            }
+            Gauge.builder("matchday.inquiry.verification.buckets", this, BucketMap::size)
+                    .description("보관 중인 비밀번호 확인 토큰 버킷 수")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+        }
+
+        boolean tryAcquire(K key, long now) {
+            Stripe<K> stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+            synchronized (stripe) {
+                TokenBucket bucket = stripe.get(key);
+                if (bucket == null) {
+                    bucket = new TokenBucket(burst, now);
+                    stripe.put(key, bucket);
+                }
+                return bucket.tryConsume(now, burst, refillIntervalMillis);
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Stripe<K> stripe : stripes) {
+                synchronized (stripe) {
+                    size += stripe.size();
+                }
+            }
+            return size;
+        }
+    }
+
+    private static final class Stripe<K> extends LinkedHashMap<K, TokenBucket> {
+        private final int capacity;
+        private final Counter evictions;
+
+        Stripe(int capacity, Counter evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, TokenBucket> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictions.increment();
+            return true;
+        }
+    }
+
+    // stripe 잠금 안에서만 접근한다
+    private static final class TokenBucket {
+        private int tokens;
+        private long refilledAt;
+
+        TokenBucket(int tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        boolean tryConsume(long now, int burst, long refillIntervalMillis) {
+            long refills = (now - refilledAt) / refillIntervalMillis;
+            if (refills > 0) {
+                tokens = (int) Math.min(burst, tokens + refills);
+                // 채워지지 않은 나머지 시간은 다음 충전에 이어서 센다
+                refilledAt = tokens == burst ? now : refilledAt + refills * refillIntervalMillis;
+            }
+            if (tokens == 0) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
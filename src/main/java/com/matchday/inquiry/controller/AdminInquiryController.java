@@ -0,0 +1,34 @@
+package com.matchday.inquiry.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.monitoring.query.QueryBudget;
+import com.matchday.inquiry.dto.InquirySearchCondition;
+import com.matchday.inquiry.dto.InquirySummaryResponse;
+import com.matchday.inquiry.service.InquirySearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin Inquiry", description = "관리자 문의함 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/inquiries")
+public class AdminInquiryController {
+
+    private final InquirySearchService inquirySearchService;
+
+    @Operation(summary = "문의 검색", description = "상태별 문의를 최신순으로 조회합니다. 검색어가 있으면 제목/본문/답변을 전문 검색합니다.")
+    @QueryBudget(1)
+    @GetMapping
+    public BaseResponse<SliceResponse<InquirySummaryResponse>> search(
+            @Valid @ModelAttribute InquirySearchCondition condition) {
+        return BaseResponse.onSuccess(inquirySearchService.search(condition), ResponseCode.OK);
+    }
+}
@@ -0,0 +1,43 @@
+package com.matchday.inquiry.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.inquiry.access.InquiryAccessToken;
+import com.matchday.inquiry.dto.InquiryDetailResponse;
+import com.matchday.inquiry.dto.InquiryVerifyRequest;
+import com.matchday.inquiry.service.InquiryAccessService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Inquiry", description = "비회원 문의 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/inquiries")
+public class InquiryController {
+
+    public static final String ACCESS_TOKEN_HEADER = "X-Inquiry-Token";
+
+    private final InquiryAccessService inquiryAccessService;
+
+    @Operation(summary = "문의 비밀번호 확인", description = "비밀번호가 맞으면 문의 조회에 쓸 단기 접근 토큰을 발급합니다.")
+    @PostMapping("/{inquiryId}/verify")
+    public BaseResponse<InquiryAccessToken> verify(@PathVariable Long inquiryId,
+                                                   @Valid @RequestBody InquiryVerifyRequest request,
+                                                   HttpServletRequest httpRequest) {
+        // 프록시 뒤에서는 server.forward-headers-strategy(prod: native) 로 원래 클라이언트 주소가 들어온다
+        return BaseResponse.onSuccess(
+                inquiryAccessService.verify(inquiryId, request.getPassword(), httpRequest.getRemoteAddr()),
+                ResponseCode.OK);
+    }
+
+    @Operation(summary = "문의 조회", description = "비밀번호 확인으로 발급받은 접근 토큰을 헤더에 담아 조회합니다.")
+    @GetMapping("/{inquiryId}")
+    public BaseResponse<InquiryDetailResponse> getInquiry(@PathVariable Long inquiryId,
+                                                          @RequestHeader(ACCESS_TOKEN_HEADER) String accessToken) {
+        return BaseResponse.onSuccess(inquiryAccessService.getInquiry(inquiryId, accessToken), ResponseCode.OK);
+    }
+}
@@ -1,6 +1,7 @@
 package com.matchday.inquiry.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.inquiry.domain.enums.Status;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,11 +11,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Getter
 @Entity
-@Table(name = "inquiry")
+@Table(name = "inquiry", indexes = {
+        // 관리자 문의함: 상태 필터 + 최신순 keyset 조회
+        @Index(name = "idx_inquiry_status_created", columnList = "status, created_date, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Inquiry extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -23,8 +27,8 @@ public class Inquiry extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(nullable = false)
-    private String password;
+    @Column(name = "password", nullable = false)
+    private String passwordHash;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -37,13 +41,21 @@ public class Inquiry extends BaseEntity {
         Inquiry inquiry = new Inquiry();
         inquiry.title = title;
         inquiry.content = content;
-        inquiry.password = passwordEncoder.encode(rawPassword);
+        inquiry.passwordHash = passwordEncoder.encode(rawPassword);
         inquiry.status = Status.PENDING;
+        // 목록 커서의 정렬 키이므로 생성 시점에 바로 채운다
+        inquiry.setCreatedDate();
+        inquiry.setUpdatedDate();
         return inquiry;
     }
 
     public boolean matchesPassword(String rawPassword, PasswordEncoder passwordEncoder) {
-        return passwordEncoder.matches(rawPassword, this.password);
+        return passwordEncoder.matches(rawPassword, this.passwordHash);
+    }
+
+    // 검증 성공 시 더 강한 정책으로 다시 만든 해시로 교체 (PasswordHashingService.verify 결과)
+    public void rehashPassword(String encodedPassword) {
+        this.passwordHash = encodedPassword;
     }
 
     public void updateStatus(Status status) {
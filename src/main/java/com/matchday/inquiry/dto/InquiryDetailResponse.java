@@ -0,0 +1,24 @@
+package com.matchday.inquiry.dto;
+
+import com.matchday.inquiry.domain.Inquiry;
+import com.matchday.inquiry.domain.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class InquiryDetailResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private Status status;
+    private String answer;
+    private LocalDateTime createdDate;
+
+    public static InquiryDetailResponse from(Inquiry inquiry) {
+        return new InquiryDetailResponse(inquiry.getId(), inquiry.getTitle(), inquiry.getContent(),
+                inquiry.getStatus(), inquiry.getAnswer(), inquiry.getCreatedDate());
+    }
+}
@@ -0,0 +1,29 @@
+package com.matchday.inquiry.dto;
+
+import com.matchday.inquiry.domain.enums.Status;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class InquirySearchCondition {
+    public static final int DEFAULT_SIZE = 20;
+
+    private Status status = Status.PENDING;
+
+    // 제목/본문/답변 전문 검색어 (없으면 상태별 최신순 목록)
+    @Size(max = 100)
+    private String keyword;
+
+    // 이전 페이지 마지막 행의 keyset (InquirySearchCursor 인코딩 값)
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    private Integer size = DEFAULT_SIZE;
+}
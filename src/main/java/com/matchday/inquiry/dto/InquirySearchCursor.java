@@ -0,0 +1,37 @@
+package com.matchday.inquiry.dto;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// keyset 페이지네이션 커서: 정렬 키 (createdDate, id) 를 불투명 문자열로 인코딩한다.
+public record InquirySearchCursor(LocalDateTime createdDate, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static InquirySearchCursor from(InquirySummaryResponse last) {
+        return new InquirySearchCursor(last.getCreatedDate(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static InquirySearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new GeneralException(ResponseCode._BAD_REQUEST, "잘못된 커서입니다.");
+            }
+            return new InquirySearchCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.matchday.inquiry.dto;
+
+import com.matchday.inquiry.domain.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 문의 목록 projection: 본문/답변(TEXT)과 비밀번호 해시는 읽지 않는다
+@Getter
+@AllArgsConstructor
+public class InquirySummaryResponse {
+    private Long id;
+    private String title;
+    private Status status;
+    private LocalDateTime createdDate;
+}
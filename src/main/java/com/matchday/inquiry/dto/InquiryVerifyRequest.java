@@ -0,0 +1,16 @@
+package com.matchday.inquiry.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InquiryVerifyRequest {
+    @NotBlank
+    @Size(max = 72)
+    private String password;
+}
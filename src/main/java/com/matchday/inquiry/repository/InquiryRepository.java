@@ -0,0 +1,15 @@
+package com.matchday.inquiry.repository;
+
+import com.matchday.inquiry.domain.Inquiry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
+
+    // 비밀번호 확인에는 해시만 필요하므로 본문/답변(TEXT)은 읽지 않는다
+    @Query("select i.passwordHash from Inquiry i where i.id = :inquiryId")
+    Optional<String> findPasswordHashById(@Param("inquiryId") Long inquiryId);
+}
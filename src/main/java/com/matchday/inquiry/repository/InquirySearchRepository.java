@@ -0,0 +1,96 @@
+package com.matchday.inquiry.repository;
+
+import com.matchday.inquiry.domain.enums.Status;
+import com.matchday.inquiry.dto.InquirySearchCursor;
+import com.matchday.inquiry.dto.InquirySummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class InquirySearchRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 상태별 문의를 (createdDate desc, id desc) 순으로 keyset 조회한다. idx_inquiry_status_created 를 그대로 탄다.
+     * hasNext 판단을 위해 limit + 1 건을 읽는다.
+     */
+    public List<InquirySummaryResponse> findByStatus(Status status, InquirySearchCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                select new com.matchday.inquiry.dto.InquirySummaryResponse(i.id, i.title, i.status, i.createdDate)
+                from Inquiry i
+                where i.status = :status
+                """);
+        if (cursor != null) {
+            jpql.append("""
+                     and (i.createdDate < :cursorCreatedDate
+                       or (i.createdDate = :cursorCreatedDate and i.id < :cursorId))
+                    """);
+        }
+        jpql.append(" order by i.createdDate desc, i.id desc");
+
+        TypedQuery<InquirySummaryResponse> query = entityManager
+                .createQuery(jpql.toString(), InquirySummaryResponse.class)
+                .setParameter("status", status)
+                .setMaxResults(limit + 1);
+        if (cursor != null) {
+            query.setParameter("cursorCreatedDate", cursor.createdDate())
+                    .setParameter("cursorId", cursor.id());
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * 제목/본문/답변을 FULLTEXT(ngram) 인덱스로 검색한다. MATCH ... AGAINST 는 JPQL 로 표현할 수 없어 native 로 조회하며,
+     * 정렬과 커서는 findByStatus 와 같다. booleanQuery 는 InquiryKeyword.toBooleanQuery 로 만든 값이어야 한다.
+     */
+    public List<InquirySummaryResponse> searchByKeyword(Status status, String booleanQuery,
+                                                        InquirySearchCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                select i.id, i.title, i.status, i.created_date
+                from inquiry i
+                where match(i.title, i.content, i.answer) against (:query in boolean mode)
+                  and i.status = :status
+                """);
+        if (cursor != null) {
+            sql.append("""
+                     and (i.created_date < :cursorCreatedDate
+                       or (i.created_date = :cursorCreatedDate and i.id < :cursorId))
+                    """);
+        }
+        sql.append(" order by i.created_date desc, i.id desc");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", booleanQuery)
+                .setParameter("status", status.name())
+                .setMaxResults(limit + 1);
+        if (cursor != null) {
+            query.setParameter("cursorCreatedDate", cursor.createdDate())
+                    .setParameter("cursorId", cursor.id());
+        }
+        query.unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("status", StandardBasicTypes.STRING)
+                .addScalar("created_date", StandardBasicTypes.LOCAL_DATE_TIME);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<InquirySummaryResponse> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new InquirySummaryResponse((Long) row[0], (String) row[1],
+                    Status.valueOf((String) row[2]), (LocalDateTime) row[3]));
+        }
+        return result;
+    }
+}
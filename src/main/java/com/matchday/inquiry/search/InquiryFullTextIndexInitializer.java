@@ -0,0 +1,61 @@
+package com.matchday.inquiry.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문의 전문 검색용 FULLTEXT 인덱스를 확인한다.
+ * JPA @Index 로는 FULLTEXT / WITH PARSER 를 선언할 수 없으므로 기동 시 information_schema 로 존재 여부를 본다.
+ * 한국어는 공백 단위 토큰화로 검색되지 않으므로 ngram 파서(ngram_token_size 기본 2)를 쓴다.
+ * <p>
+ * 스키마를 create-drop 하는 로컬/테스트 환경에서는 없으면 바로 만든다.
+ * 운영(matchday.inquiry.search.create-fulltext-index=false)에서는 첫 FULLTEXT 인덱스 추가가 테이블을 다시 만들고
+ * 그동안 쓰기를 막으므로 기동 중에 만들지 않는다. db/migration/inquiry_fulltext_index.sql 을 배포 전에 적용하고,
+ * 여기서는 빠져 있으면 오류 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class InquiryFullTextIndexInitializer implements ApplicationRunner {
+
+    static final String INDEX_NAME = "ft_inquiry_text";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean createIndex;
+
+    public InquiryFullTextIndexInitializer(JdbcTemplate jdbcTemplate,
+                                           @Value("${matchday.inquiry.search.create-fulltext-index:true}") boolean createIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.createIndex = createIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Integer existing = jdbcTemplate.queryForObject("""
+                    select count(*) from information_schema.statistics
+                    where table_schema = database() and table_name = 'inquiry' and index_name = ?
+                    """, Integer.class, INDEX_NAME);
+            if (existing != null && existing > 0) {
+                return;
+            }
+            if (!createIndex) {
+                log.error("문의 FULLTEXT 인덱스({})가 없습니다. db/migration/inquiry_fulltext_index.sql 을 적용하기 전까지 "
+                        + "키워드 검색이 동작하지 않습니다.", INDEX_NAME);
+                return;
+            }
+
+            long startedAt = System.nanoTime();
+            jdbcTemplate.execute("alter table inquiry add fulltext index " + INDEX_NAME
+                    + " (title, content, answer) with parser ngram");
+            log.info("문의 FULLTEXT 인덱스 생성: {}ms", (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (DataAccessException e) {
+            // 인덱스가 없으면 키워드 검색만 실패하고 상태별 목록은 그대로 동작한다
+            log.error("문의 FULLTEXT 인덱스를 확인하거나 만들지 못했습니다. 키워드 검색이 동작하지 않을 수 있습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.matchday.inquiry.search;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자 검색어를 MySQL FULLTEXT BOOLEAN MODE 질의로 바꾼다.
+ * 연산자 문자는 제거하고 모든 단어를 필수(+)로 묶는다. ngram 토큰(2글자)보다 짧은 단어는 인덱스에 걸리지 않으므로 버린다.
+ */
+public final class InquiryKeyword {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERMS = 8;
+
+    private static final String OPERATORS = "[+\\-<>()~*\"@]";
+
+    private InquiryKeyword() {
+    }
+
+    public static String toBooleanQuery(String keyword) {
+        List<String> terms = new ArrayList<>();
+        for (String term : keyword.replaceAll(OPERATORS, " ").trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (term.length() >= MIN_TERM_LENGTH && !terms.contains(term)) {
+                terms.add(term);
+            }
+            if (terms.size() == MAX_TERMS) {
+                break;
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "검색어는 두 글자 이상이어야 합니다.");
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : terms) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(term);
+        }
+        return query.toString();
+    }
+}
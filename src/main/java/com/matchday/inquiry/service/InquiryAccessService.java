@@ -0,0 +1,101 @@
+package com.matchday.inquiry.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.global.security.PasswordHashingService;
+import com.matchday.global.security.PasswordVerification;
+import com.matchday.inquiry.access.InquiryAccessToken;
+import com.matchday.inquiry.access.InquiryAccessTokenSigner;
+import com.matchday.inquiry.access.InquiryAttemptLimiter;
+import com.matchday.inquiry.dto.InquiryDetailResponse;
+import com.matchday.inquiry.repository.InquiryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비회원 문의 열람. 비밀번호(BCrypt)는 토큰 발급 시 한 번만 확인하고, 이후 조회는 HMAC 토큰 검증으로 대신한다.
+ * 해시 검증은 트랜잭션 밖에서 수행해 커넥션을 잡은 채 BCrypt 를 기다리지 않는다.
+ */
+@Service
+public class InquiryAccessService {
+
+    private final InquiryRepository inquiryRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final InquiryAccessTokenSigner tokenSigner;
+    private final InquiryAttemptLimiter attemptLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Counter verified;
+    private final Counter mismatched;
+    private final Counter rejected;
+    private final Counter cached;
+
+    public InquiryAccessService(InquiryRepository inquiryRepository,
+                                PasswordHashingService passwordHashingService,
+                                InquiryAccessTokenSigner tokenSigner,
+                                InquiryAttemptLimiter attemptLimiter,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.inquiryRepository = inquiryRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.tokenSigner = tokenSigner;
+        this.attemptLimiter = attemptLimiter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.verified = verificationCounter(meterRegistry, "verified");
+        this.mismatched = verificationCounter(meterRegistry, "mismatch");
+        this.rejected = verificationCounter(meterRegistry, "rejected");
+        this.cached = verificationCounter(meterRegistry, "cached");
+    }
+
+    public InquiryAccessToken verify(Long inquiryId, String rawPassword, String clientIp) {
+        // 없는 문의 id 시도도 IP 버킷에서 차감되도록 조회보다 먼저 확인한다
+        if (!attemptLimiter.tryAcquireClient(clientIp)) {
+            throw tooManyAttempts();
+        }
+        String passwordHash = inquiryRepository.findPasswordHashById(inquiryId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.INQUIRY_NOT_FOUND));
+        // (문의, IP)/문의 버킷은 존재하는 문의에 대해서만 만들어, 가짜 id 로 버킷을 밀어낼 수 없게 한다
+        if (!attemptLimiter.tryAcquire(inquiryId, clientIp)) {
+            throw tooManyAttempts();
+        }
+
+        PasswordVerification verification = passwordHashingService.verify(rawPassword, passwordHash);
+        if (!verification.matches()) {
+            mismatched.increment();
+            throw new GeneralException(ResponseCode.INQUIRY_PASSWORD_INCORRECT);
+        }
+
+        verification.upgradedHashIfAny().ifPresent(upgradedHash -> transactionTemplate.executeWithoutResult(
+                status -> inquiryRepository.findById(inquiryId)
+                        .ifPresent(inquiry -> inquiry.rehashPassword(upgradedHash))));
+        verified.increment();
+        return tokenSigner.issue(inquiryId);
+    }
+
+    public InquiryDetailResponse getInquiry(Long inquiryId, String accessToken) {
+        tokenSigner.verify(accessToken, inquiryId);
+        cached.increment();
+
+        return readOnlyTransaction.execute(status -> inquiryRepository.findById(inquiryId)
+                .map(InquiryDetailResponse::from)
+                .orElseThrow(() -> new GeneralException(ResponseCode.INQUIRY_NOT_FOUND)));
+    }
+
+    private GeneralException tooManyAttempts() {
+        rejected.increment();
+        return new GeneralException(ResponseCode.INQUIRY_TOO_MANY_ATTEMPTS);
+    }
+
+    private static Counter verificationCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("matchday.inquiry.verification")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.matchday.inquiry.service;
+
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.inquiry.domain.enums.Status;
+import com.matchday.inquiry.dto.InquirySearchCondition;
+import com.matchday.inquiry.dto.InquirySearchCursor;
+import com.matchday.inquiry.dto.InquirySummaryResponse;
+import com.matchday.inquiry.repository.InquirySearchRepository;
+import com.matchday.inquiry.search.InquiryKeyword;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InquirySearchService {
+
+    private final InquirySearchRepository inquirySearchRepository;
+
+    public SliceResponse<InquirySummaryResponse> search(InquirySearchCondition condition) {
+        Status status = condition.getStatus() == null ? Status.PENDING : condition.getStatus();
+        int size = condition.getSize() == null ? InquirySearchCondition.DEFAULT_SIZE : condition.getSize();
+        InquirySearchCursor cursor = condition.getCursor() == null ? null : InquirySearchCursor.decode(condition.getCursor());
+
+        List<InquirySummaryResponse> rows = StringUtils.hasText(condition.getKeyword())
+                ? inquirySearchRepository.searchByKeyword(status,
+                        InquiryKeyword.toBooleanQuery(condition.getKeyword()), cursor, size)
+                : inquirySearchRepository.findByStatus(status, cursor, size);
+        if (rows.size() <= size) {
+            return SliceResponse.of(rows, null);
+        }
+
+        List<InquirySummaryResponse> content = rows.subList(0, size);
+        return SliceResponse.of(content, InquirySearchCursor.from(content.get(size - 1)).encode());
+    }
+}
@@ -0,0 +1,43 @@
+package com.matchday.match.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.dto.MatchApplicationAcceptResponse;
+import com.matchday.match.dto.MatchApplicationBulkRequest;
+import com.matchday.match.dto.MatchApplicationBulkResponse;
+import com.matchday.match.service.MatchApplicationAcceptService;
+import com.matchday.match.service.MatchApplicationBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Match Application", description = "매치 신청 처리 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/matches/{matchId}/applications")
+public class MatchApplicationController {
+
+    private final MatchApplicationAcceptService matchApplicationAcceptService;
+    private final MatchApplicationBulkService matchApplicationBulkService;
+
+    @Operation(summary = "매치 신청 수락", description = "신청을 수락하고 같은 매치의 나머지 신청은 자동으로 거절합니다.")
+    @PostMapping("/{applicationId}/accept")
+    public BaseResponse<MatchApplicationAcceptResponse> accept(@PathVariable Long matchId,
+                                                               @PathVariable Long applicationId) {
+        return BaseResponse.onSuccess(matchApplicationAcceptService.accept(matchId, applicationId), ResponseCode.OK);
+    }
+
+    @Operation(summary = "매치 신청 일괄 처리",
+            description = "여러 신청을 한 번에 거절/취소합니다. 수락은 한 건만 가능하며 항목별 처리 결과를 반환합니다.")
+    @PostMapping("/bulk")
+    public BaseResponse<MatchApplicationBulkResponse> process(@PathVariable Long matchId,
+                                                              @Valid @RequestBody MatchApplicationBulkRequest request) {
+        return BaseResponse.onSuccess(matchApplicationBulkService.process(matchId, request), ResponseCode.OK);
+    }
+}
@@ -0,0 +1,38 @@
+package com.matchday.match.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.dto.MatchAvailabilityResponse;
+import com.matchday.match.service.MatchAvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Tag(name = "Match Availability", description = "구/날짜별 모집중 매치 조회 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/matches/availability")
+public class MatchAvailabilityController {
+
+    private final MatchAvailabilityService matchAvailabilityService;
+
+    @Operation(summary = "구/날짜별 모집중 매치 id 조회", description = "인메모리 인덱스로 응답하며, 범위 밖 날짜는 DB 에서 조회합니다.")
+    @GetMapping
+    public BaseResponse<MatchAvailabilityResponse> getOpenMatches(
+            @RequestParam District district,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime startTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime startTimeTo) {
+        return BaseResponse.onSuccess(
+                matchAvailabilityService.getOpenMatches(district, date, startTimeFrom, startTimeTo), ResponseCode.OK);
+    }
+}
@@ -0,0 +1,53 @@
+package com.matchday.match.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.dto.MatchCreateRequest;
+import com.matchday.match.dto.MatchResultRequest;
+import com.matchday.match.dto.MatchUpdateRequest;
+import com.matchday.match.service.MatchCommandService;
+import com.matchday.match.service.MatchResultService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Match", description = "매치 등록/수정/삭제 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/matches")
+public class MatchController {
+
+    private final MatchCommandService matchCommandService;
+    private final MatchResultService matchResultService;
+
+    @Operation(summary = "매치 등록")
+    @PostMapping
+    public BaseResponse<Long> createMatch(@Valid @RequestBody MatchCreateRequest request) {
+        return BaseResponse.onSuccess(matchCommandService.createMatch(request), ResponseCode.OK);
+    }
+
+    @Operation(summary = "매치 수정", description = "모집중인 매치의 일정/장소/대관비를 변경합니다.")
+    @PutMapping("/{matchId}")
+    public BaseResponse<Void> updateMatch(@PathVariable Long matchId,
+                                          @Valid @RequestBody MatchUpdateRequest request) {
+        matchCommandService.updateMatch(matchId, request);
+        return BaseResponse.onSuccess(null, ResponseCode.OK);
+    }
+
+    @Operation(summary = "매치 삭제", description = "모집중인 매치만 삭제할 수 있습니다.")
+    @DeleteMapping("/{matchId}")
+    public BaseResponse<Void> deleteMatch(@PathVariable Long matchId) {
+        matchCommandService.deleteMatch(matchId);
+        return BaseResponse.onSuccess(null, ResponseCode.OK);
+    }
+
+    @Operation(summary = "경기 결과 기록", description = "확정된 매치의 점수를 기록하거나 정정합니다. 경기 종료 48시간 이후에는 변경할 수 없습니다.")
+    @PutMapping("/{matchId}/result")
+    public BaseResponse<Void> recordResult(@PathVariable Long matchId,
+                                           @Valid @RequestBody MatchResultRequest request) {
+        matchResultService.recordResult(matchId, request);
+        return BaseResponse.onSuccess(null, ResponseCode.OK);
+    }
+}
@@ -0,0 +1,49 @@
+package com.matchday.match.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.dto.MatchRecommendationResponse;
+import com.matchday.match.recommendation.OpponentRecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Tag(name = "Match Recommendation", description = "상대 매치 추천 API")
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/teams/{teamId}/recommendations")
+public class MatchRecommendationController {
+
+    private final OpponentRecommendationService opponentRecommendationService;
+
+    @Operation(summary = "상대 매치 추천",
+            description = "팀의 지역, 성별, 전적과 원하는 시간대를 기준으로 모집중 매치를 점수 순으로 추천합니다.")
+    @GetMapping
+    public BaseResponse<MatchRecommendationResponse> recommend(
+            @PathVariable Long teamId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime startTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime startTimeTo,
+            @RequestParam(required = false) SportsType sportsType,
+            @RequestParam(required = false) MatchSize matchSize,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size) {
+        return BaseResponse.onSuccess(opponentRecommendationService.recommend(teamId, dateFrom, dateTo,
+                startTimeFrom, startTimeTo, sportsType, matchSize, size), ResponseCode.OK);
+    }
+}
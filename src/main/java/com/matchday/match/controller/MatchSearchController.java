@@ -0,0 +1,55 @@
+package com.matchday.match.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.monitoring.query.QueryBudget;
+import com.matchday.match.dto.MatchSearchCondition;
+import com.matchday.match.dto.MatchSummaryResponse;
+import com.matchday.match.service.MatchSearchService;
+import com.matchday.match.service.MatchStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@Tag(name = "Match Search", description = "매치 검색 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/matches")
+public class MatchSearchController {
+
+    private final MatchSearchService matchSearchService;
+    private final MatchStreamService matchStreamService;
+
+    @Operation(summary = "모집중인 매치 검색", description = "지역/날짜/시간대/종목으로 모집중인 매치를 커서 기반으로 조회합니다.")
+    @QueryBudget(1)
+    @GetMapping("/search")
+    public BaseResponse<SliceResponse<MatchSummaryResponse>> searchOpenMatches(
+            @Valid @ModelAttribute MatchSearchCondition condition) {
+        return BaseResponse.onSuccess(matchSearchService.searchOpenMatches(condition), ResponseCode.OK);
+    }
+
+    @Operation(summary = "모집중인 매치 전체 목록", description = "페이지 없이 기간 내 모집중인 매치를 스트리밍으로 내려줍니다.")
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamOpenMatches(
+            @RequestParam City city,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(matchStreamService.streamOpenMatches(city, dateFrom, dateTo));
+    }
+}
@@ -1,20 +1,38 @@
 package com.matchday.match.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.global.entity.enums.City;
 import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchOutcome;
 import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.MatchStatus;
 import com.matchday.match.domain.enums.SportsType;
 import com.matchday.team.domain.Team;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 
+@Getter
 @Entity
+@Table(name = "matches", indexes = {
+        // 지역 + 일정 검색 (keyset 정렬 컬럼까지 포함)
+        @Index(name = "idx_match_region_schedule", columnList = "city, district, date, start_time"),
+        // 종목/인원 + 날짜 검색
+        @Index(name = "idx_match_type_schedule", columnList = "sports_type, match_size, date"),
+        // 팀 일정 충돌 검사 (커버링)
+        @Index(name = "idx_match_home_schedule", columnList = "home_team_id, date, start_time, end_time"),
+        // 생명주기 엔진 적재 (상태별 날짜 범위)
+        @Index(name = "idx_match_status_schedule", columnList = "status, date, end_time")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Match extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +50,7 @@ public class Match extends BaseEntity {
 
     private Integer fee;
 
+    @Enumerated(EnumType.STRING)
     private MatchSize matchSize;
     private String homeColor;
     private String awayColor;
@@ -41,5 +60,95 @@ public class Match extends BaseEntity {
     private Integer homeScore;
     private Integer awayScore;
 
+    @Enumerated(EnumType.STRING)
     private SportsType sportsType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MatchStatus status;
+
+    // 서로 다른 신청을 동시에 수락해 상대 팀이 둘 이상 확정되는 것을 막는다
+    @Version
+    private Long version;
+
+    // 매치 생성 팩토리 메서드
+    public static Match createMatch(Team homeTeam, District district, String placeName,
+                                    LocalDate date, LocalTime startTime, LocalTime endTime,
+                                    Integer fee, SportsType sportsType, MatchSize matchSize,
+                                    String homeColor, Boolean hasBall) {
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간 이후여야 합니다.");
+        }
+        if (matchSize.getSportsType() != sportsType) {
+            throw new IllegalArgumentException("종목에 맞지 않는 매치 인원입니다.");
+        }
+
+        Match match = new Match();
+        match.homeTeam = homeTeam;
+        match.city = district.getCity();
+        match.district = district;
+        match.placeName = placeName;
+        match.date = date;
+        match.startTime = startTime;
+        match.endTime = endTime;
+        match.fee = fee;
+        match.sportsType = sportsType;
+        match.matchSize = matchSize;
+        match.homeColor = homeColor;
+        match.hasBall = hasBall;
+        match.status = MatchStatus.OPEN;
+        return match;
+    }
+
+    // 매치 일정/장소 변경 (모집중일 때만 가능)
+    public void changeSchedule(District district, String placeName, LocalDate date,
+                               LocalTime startTime, LocalTime endTime, Integer fee) {
+        if (!isOpen()) {
+            throw new IllegalStateException("모집중인 매치만 변경할 수 있습니다.");
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간 이후여야 합니다.");
+        }
+        this.city = district.getCity();
+        this.district = district;
+        this.placeName = placeName;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.fee = fee;
+    }
+
+    // 상대 팀 확정
+    public void confirm() {
+        if (!isOpen()) {
+            throw new IllegalStateException("모집중인 매치만 확정할 수 있습니다.");
+        }
+        this.status = MatchStatus.CONFIRMED;
+    }
+
+    // 경기 결과 기록 (확정된 매치만, 이미 기록된 결과는 정정)
+    public void recordResult(int homeScore, int awayScore) {
+        if (this.status != MatchStatus.CONFIRMED) {
+            throw new IllegalStateException("확정된 매치만 결과를 기록할 수 있습니다.");
+        }
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("점수는 0 이상이어야 합니다.");
+        }
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    public boolean hasResult() {
+        return this.homeScore != null && this.awayScore != null;
+    }
+
+    // 홈 팀 기준 결과
+    public MatchOutcome getOutcome() {
+        return hasResult() ? MatchOutcome.of(homeScore, awayScore) : null;
+    }
+
+    // 상대 팀 모집 중인지 확인
+    public boolean isOpen() {
+        return this.status == MatchStatus.OPEN;
+    }
 }
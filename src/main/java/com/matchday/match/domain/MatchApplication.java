@@ -1,6 +1,7 @@
 package com.matchday.match.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.match.domain.enums.MatchApplicationStatus;
 import com.matchday.team.domain.Team;
 import jakarta.persistence.*;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MatchApplication extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +37,10 @@ public class MatchApplication extends BaseEntity {
 
     private LocalDateTime processedAt;
 
+    // 같은 신청을 동시에 처리(수락/거절/취소)하는 것을 막는다
+    @Version
+    private Long version;
+
     // 매치 신청 생성 팩토리 메서드
     public static MatchApplication createApplication(Match match, Team applicantTeam, String message) {
         MatchApplication application = new MatchApplication();
@@ -49,31 +54,43 @@ public class MatchApplication extends BaseEntity {
     }
 
     // 처리 가능한 상태인지 확인(신청 상태에서만 처리 가능)
-    private void validateCanProcess() {
+    private void validateCanProcess(String message) {
         if (this.status != MatchApplicationStatus.APPLIED) {
-            throw new IllegalStateException("신청 상태에서만 처리할 수 있습니다.");
+            throw new IllegalStateException(message);
         }
     }
 
     // 매치 수락
     public void accept() {
-        validateCanProcess();
+        accept(LocalDateTime.now());
+    }
+
+    public void accept(LocalDateTime processedAt) {
+        validateCanProcess("신청 상태에서만 처리할 수 있습니다.");
         this.status = MatchApplicationStatus.ACCEPTED;
-        this.processedAt = LocalDateTime.now();
+        this.processedAt = processedAt;
     }
 
     // 매치 거절
     public void reject() {
-        validateCanProcess();
+        reject(LocalDateTime.now());
+    }
+
+    public void reject(LocalDateTime processedAt) {
+        validateCanProcess("신청 상태에서만 처리할 수 있습니다.");
         this.status = MatchApplicationStatus.REJECTED;
-        this.processedAt = LocalDateTime.now();
+        this.processedAt = processedAt;
     }
 
     // 매치 취소
     public void cancel() {
-        validateCanProcess();
+        cancel(LocalDateTime.now());
+    }
+
+    public void cancel(LocalDateTime processedAt) {
+        validateCanProcess("신청 상태에서만 취소할 수 있습니다.");
         this.status = MatchApplicationStatus.CANCELED;
-        this.processedAt = LocalDateTime.now();
+        this.processedAt = processedAt;
     }
 
     // 매치 신청 상태 확인
@@ -1,13 +1,22 @@
 package com.matchday.match.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.team.domain.Team;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+// 매치 신청이 수락되어 확정된 상대(원정) 팀
+@Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_match_entry_match_team", columnNames = {"match_id", "team_id"}),
+        indexes = @Index(name = "idx_match_entry_team", columnList = "team_id, match_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MatchEntry extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -15,4 +24,11 @@ public class MatchEntry extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     private Team team;
+
+    public static MatchEntry createEntry(Match match, Team team) {
+        MatchEntry entry = new MatchEntry();
+        entry.match = match;
+        entry.team = team;
+        return entry;
+    }
 }
@@ -0,0 +1,40 @@
+package com.matchday.match.domain;
+
+import com.matchday.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 생명주기 엔진이 어디까지 처리했는지. processedUntil 이전에 예정된 전환은 모두 반영되었으므로
+ * 재기동하면 이 시각 이후의 작업만 다시 읽는다.
+ */
+@Getter
+@Entity
+@Table(name = "match_lifecycle_cursor")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchLifecycleCursor extends BaseEntity {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime processedUntil;
+
+    public static MatchLifecycleCursor start(String name, LocalDateTime processedUntil) {
+        MatchLifecycleCursor cursor = new MatchLifecycleCursor();
+        cursor.name = name;
+        cursor.processedUntil = processedUntil;
+        return cursor;
+    }
+
+    // 뒤로 가지 않는다
+    public void advance(LocalDateTime processedUntil) {
+        if (processedUntil.isAfter(this.processedUntil)) {
+            this.processedUntil = processedUntil;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.matchday.match.domain.enums;
+
+public enum MatchApplicationAction {
+    ACCEPT("수락"),
+    REJECT("거절"),
+    CANCEL("취소");
+
+    private final String description;
+
+    MatchApplicationAction(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
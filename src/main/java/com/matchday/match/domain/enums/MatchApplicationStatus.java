@@ -4,7 +4,9 @@ public enum MatchApplicationStatus {
     APPLIED("신청함"),
     ACCEPTED("수락됨"),
     REJECTED("거절됨"),
-    CANCELED("취소됨");
+    CANCELED("취소됨"),
+    // 처리되지 않은 채 매치가 시작됨
+    EXPIRED("만료됨");
 
     private final String description;
 
@@ -0,0 +1,34 @@
+package com.matchday.match.domain.enums;
+
+// 홈 팀 기준 경기 결과
+public enum MatchOutcome {
+    WIN("승"),
+    DRAW("무"),
+    LOSS("패");
+
+    private final String description;
+
+    MatchOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static MatchOutcome of(int homeScore, int awayScore) {
+        if (homeScore > awayScore) {
+            return WIN;
+        }
+        return homeScore == awayScore ? DRAW : LOSS;
+    }
+
+    // 상대(원정) 팀 기준 결과
+    public MatchOutcome opposite() {
+        return switch (this) {
+            case WIN -> LOSS;
+            case DRAW -> DRAW;
+            case LOSS -> WIN;
+        };
+    }
+}
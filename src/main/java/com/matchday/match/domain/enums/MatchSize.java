@@ -1,20 +1,38 @@
 package com.matchday.match.domain.enums;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
 public enum MatchSize {
     FIVE(SportsType.FUTSAL),
     SIX(SportsType.FUTSAL),
     EIGHT(SportsType.SOCCER),
     ELEVEN(SportsType.SOCCER);
 
+    private static final Map<SportsType, MatchSize[]> BY_SPORTS_TYPE = new EnumMap<>(SportsType.class);
+
+    static {
+        for (SportsType type : SportsType.values()) {
+            BY_SPORTS_TYPE.put(type, Arrays.stream(values())
+                    .filter(matchSize -> matchSize.sportsType == type)
+                    .toArray(MatchSize[]::new));
+        }
+    }
+
     private final SportsType sportsType;
 
     MatchSize(SportsType sportsType) {
         this.sportsType = sportsType;
     }
 
+    public SportsType getSportsType() {
+        return sportsType;
+    }
+
+    // 캐시된 배열이 수정되지 않도록 복사본을 반환한다
     public static MatchSize[] getMatchSizeBySportsType(SportsType type) {
-        return java.util.Arrays.stream(values())
-                .filter(matchSize -> matchSize.sportsType == type)
-                .toArray(MatchSize[]::new);
+        MatchSize[] matchSizes = BY_SPORTS_TYPE.get(type);
+        return matchSizes == null ? new MatchSize[0] : matchSizes.clone();
     }
 }
@@ -0,0 +1,20 @@
+package com.matchday.match.domain.enums;
+
+public enum MatchStatus {
+    OPEN("모집중"),
+    CONFIRMED("확정됨"),
+    // 상대 팀 없이 경기 시간이 지남
+    CLOSED("모집마감"),
+    // 경기 종료 후 결과 기록 기간(48시간)이 지나 결과가 잠김
+    FINISHED("경기종료");
+
+    private final String description;
+
+    MatchStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,9 +1,21 @@
 package com.matchday.match.domain.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum SportsType {
     FUTSAL("풋살"),
     SOCCER("축구");
 
+    private static final Map<String, SportsType> BY_KOREAN_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(SportsType::getKoreanName, Function.identity()));
+    private static final Map<String, SportsType> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(SportsType::name, Function.identity()));
+
     private final String koreanName;
 
     SportsType(String koreanName) {
@@ -15,11 +27,17 @@ public enum SportsType {
     }
 
     public static SportsType fromKoreanName(String koreanName) {
-        for (SportsType type : values()) {
-            if (type.koreanName.equals(koreanName)) {
-                return type;
-            }
+        SportsType type = koreanName == null ? null : BY_KOREAN_NAME.get(koreanName);
+        if (type == null) {
+            throw new IllegalArgumentException("해당하는 매치 유형을 찾을 수 없습니다: " + koreanName);
         }
-        throw new IllegalArgumentException("해당하는 매치 유형을 찾을 수 없습니다: " + koreanName);
+        return type;
+    }
+
+    // 요청 바인딩용: 상수 이름(FUTSAL) 과 한글 이름(풋살) 을 모두 받는다
+    @JsonCreator
+    public static SportsType from(String value) {
+        SportsType type = value == null ? null : BY_NAME.get(value);
+        return type != null ? type : fromKoreanName(value);
     }
 }
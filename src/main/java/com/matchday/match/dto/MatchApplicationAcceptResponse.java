@@ -0,0 +1,15 @@
+package com.matchday.match.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MatchApplicationAcceptResponse {
+    private Long applicationId;
+    private Long matchEntryId;
+    // 수락과 함께 자동 거절된 경쟁 신청
+    private List<Long> rejectedApplicationIds;
+}
@@ -0,0 +1,23 @@
+package com.matchday.match.dto;
+
+import com.matchday.match.domain.enums.MatchApplicationAction;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchApplicationBulkRequest {
+    @NotNull
+    private MatchApplicationAction action;
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> applicationIds;
+}
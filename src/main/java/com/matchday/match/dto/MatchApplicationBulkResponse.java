@@ -0,0 +1,41 @@
+package com.matchday.match.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.domain.enums.MatchApplicationAction;
+import com.matchday.match.domain.enums.MatchApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MatchApplicationBulkResponse {
+    private MatchApplicationAction action;
+    // 이번 요청으로 처리된 신청은 모두 같은 처리 시각을 가진다
+    private LocalDateTime processedAt;
+    private int processedCount;
+    private List<Item> results;
+
+    // 신청별 처리 결과 (실패한 항목은 status 없이 code/message 만 내려간다)
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private Long applicationId;
+        private boolean processed;
+        private MatchApplicationStatus status;
+        private String code;
+        private String message;
+
+        public static Item processed(Long applicationId, MatchApplicationStatus status) {
+            return new Item(applicationId, true, status, ResponseCode.OK.getCode(), null);
+        }
+
+        public static Item failed(Long applicationId, ResponseCode code) {
+            return new Item(applicationId, false, null, code.getCode(), code.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.matchday.match.dto;
+
+import com.matchday.global.entity.enums.District;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class MatchAvailabilityResponse {
+    private District district;
+    private LocalDate date;
+    // 시작 시간 순으로 정렬된 모집중 매치 id
+    private long[] matchIds;
+}
@@ -0,0 +1,8 @@
+package com.matchday.match.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 생명주기 엔진 적재용 최소 projection
+public record MatchLifecycleRow(Long matchId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+}
@@ -0,0 +1,13 @@
+package com.matchday.match.dto;
+
+import com.matchday.match.recommendation.Recommendation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * @param recommendations 점수 높은 순 (같으면 날짜, 시작 시간 순)
+ */
+public record MatchRecommendationResponse(Long teamId, LocalDate dateFrom, LocalDate dateTo,
+                                          List<Recommendation> recommendations) {
+}
@@ -0,0 +1,22 @@
+package com.matchday.match.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchResultRequest {
+    @NotNull
+    @PositiveOrZero
+    @Max(99)
+    private Integer homeScore;
+    @NotNull
+    @PositiveOrZero
+    @Max(99)
+    private Integer awayScore;
+}
@@ -0,0 +1,5 @@
+package com.matchday.match.dto;
+
+// 전적 재계산용 (홈 팀, 상대 팀, 점수)
+public record MatchResultRow(Long homeTeamId, Long awayTeamId, Integer homeScore, Integer awayScore) {
+}
@@ -0,0 +1,48 @@
+package com.matchday.match.dto;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class MatchSearchCondition {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int DEFAULT_DAYS = 14;
+
+    @NotNull
+    private City city;
+    private District district;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dateTo;
+
+    @DateTimeFormat(pattern = "HH:mm")
+    private LocalTime startTimeFrom;
+    @DateTimeFormat(pattern = "HH:mm")
+    private LocalTime startTimeTo;
+
+    private SportsType sportsType;
+    private MatchSize matchSize;
+
+    // 이전 페이지 마지막 행의 keyset (MatchSearchCursor 인코딩 값)
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    private Integer size = DEFAULT_SIZE;
+}
@@ -0,0 +1,38 @@
+package com.matchday.match.dto;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// keyset(seek) 페이지네이션 커서: 정렬 키 (date, startTime, id) 를 불투명 문자열로 인코딩한다.
+public record MatchSearchCursor(LocalDate date, LocalTime startTime, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static MatchSearchCursor from(MatchSummaryResponse last) {
+        return new MatchSearchCursor(last.getDate(), last.getStartTime(), last.getId());
+    }
+
+    public String encode() {
+        String raw = date + DELIMITER + startTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MatchSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new GeneralException(ResponseCode._BAD_REQUEST, "잘못된 커서입니다.");
+            }
+            return new MatchSearchCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.matchday.match.dto;
+
+import com.matchday.global.entity.enums.District;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 가용 매치 인덱스 재구성용 최소 projection
+public record MatchSlot(Long matchId, District district, LocalDate date, LocalTime startTime) {
+}
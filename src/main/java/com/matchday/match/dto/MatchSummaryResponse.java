@@ -0,0 +1,33 @@
+package com.matchday.match.dto;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 매치 목록 화면에 필요한 컬럼만 담는 projection (JPQL constructor expression 으로 생성)
+// 기본 생성자는 매치 피드 2차 캐시의 JSON 역직렬화용
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchSummaryResponse {
+    private Long id;
+    private Long homeTeamId;
+    private String homeTeamName;
+    private City city;
+    private District district;
+    private String placeName;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer fee;
+    private SportsType sportsType;
+    private MatchSize matchSize;
+}
@@ -0,0 +1,38 @@
+package com.matchday.match.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.matchday.global.entity.enums.District;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchUpdateRequest {
+    @NotNull
+    private District district;
+    @NotBlank
+    private String placeName;
+
+    @NotNull
+    @FutureOrPresent
+    private LocalDate date;
+    @NotNull
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+    @NotNull
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    @NotNull(message = "대관비를 입력해주세요.")
+    @PositiveOrZero
+    private Integer fee;
+}
@@ -0,0 +1,7 @@
+package com.matchday.match.dto;
+
+import java.time.LocalTime;
+
+// 팀 일정 충돌 검사용 최소 projection (home_team_id, date, start_time, end_time 인덱스만으로 읽힌다)
+public record ScheduleInterval(Long matchId, LocalTime startTime, LocalTime endTime) {
+}
@@ -0,0 +1,16 @@
+package com.matchday.match.event;
+
+import com.matchday.match.domain.MatchApplication;
+import com.matchday.match.domain.enums.MatchApplicationStatus;
+
+import java.time.LocalDateTime;
+
+// 신청이 거절/취소됨 (수락은 MatchConfirmedEvent 로 알린다)
+public record MatchApplicationProcessedEvent(Long applicationId, Long matchId, Long applicantTeamId,
+                                             MatchApplicationStatus status, LocalDateTime processedAt) {
+
+    public static MatchApplicationProcessedEvent from(MatchApplication application) {
+        return new MatchApplicationProcessedEvent(application.getId(), application.getMatch().getId(),
+                application.getApplicantTeam().getId(), application.getStatus(), application.getProcessedAt());
+    }
+}
@@ -0,0 +1,5 @@
+package com.matchday.match.event;
+
+// 상대 팀 없이 경기 시간이 지나 모집이 마감됨 (생명주기 엔진이 발행)
+public record MatchClosedEvent(MatchSnapshot match) implements MatchEvent {
+}
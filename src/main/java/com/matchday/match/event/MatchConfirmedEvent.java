@@ -0,0 +1,5 @@
+package com.matchday.match.event;
+
+// 신청이 수락되어 상대 팀이 확정됨 (더 이상 모집하지 않는 매치)
+public record MatchConfirmedEvent(MatchSnapshot match, Long applicationId, Long awayTeamId) implements MatchEvent {
+}
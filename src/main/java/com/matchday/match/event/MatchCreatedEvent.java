@@ -0,0 +1,4 @@
+package com.matchday.match.event;
+
+public record MatchCreatedEvent(MatchSnapshot match) implements MatchEvent {
+}
@@ -0,0 +1,4 @@
+package com.matchday.match.event;
+
+public record MatchDeletedEvent(MatchSnapshot match) implements MatchEvent {
+}
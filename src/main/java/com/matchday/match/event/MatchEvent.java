@@ -0,0 +1,7 @@
+package com.matchday.match.event;
+
+public sealed interface MatchEvent permits MatchCreatedEvent, MatchUpdatedEvent, MatchDeletedEvent, MatchConfirmedEvent,
+        MatchClosedEvent {
+
+    MatchSnapshot match();
+}
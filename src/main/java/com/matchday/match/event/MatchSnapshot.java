@@ -0,0 +1,35 @@
+package com.matchday.match.event;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.domain.enums.SportsType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 트랜잭션 종료 후에도 안전하게 읽을 수 있도록 이벤트 발행 시점의 매치 상태를 복사해 둔다
+public record MatchSnapshot(Long matchId, Long homeTeamId, City city, District district,
+                            LocalDate date, LocalTime startTime, LocalTime endTime,
+                            SportsType sportsType, MatchSize matchSize, MatchStatus status) {
+
+    public static MatchSnapshot from(Match match) {
+        return new MatchSnapshot(
+                match.getId(),
+                match.getHomeTeam() == null ? null : match.getHomeTeam().getId(),
+                match.getCity(),
+                match.getDistrict(),
+                match.getDate(),
+                match.getStartTime(),
+                match.getEndTime(),
+                match.getSportsType(),
+                match.getMatchSize(),
+                match.getStatus());
+    }
+
+    public boolean isOpen() {
+        return status == MatchStatus.OPEN;
+    }
+}
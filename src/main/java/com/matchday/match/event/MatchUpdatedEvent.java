@@ -0,0 +1,7 @@
+package com.matchday.match.event;
+
+import com.matchday.global.entity.enums.City;
+
+// previousCity: 변경 전 시/도 (시/도 단위로 캐시된 검색 결과를 양쪽 모두 무효화하기 위함)
+public record MatchUpdatedEvent(MatchSnapshot match, City previousCity) implements MatchEvent {
+}
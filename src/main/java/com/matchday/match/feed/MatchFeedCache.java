@@ -0,0 +1,146 @@
+package com.matchday.match.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matchday.global.cache.KeyValueStore;
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.match.dto.MatchSummaryResponse;
+import com.matchday.match.event.MatchEvent;
+import com.matchday.match.event.MatchUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 모집중 매치 검색 결과의 cache-aside 계층. 노드별 Caffeine(1차) → KeyValueStore(2차, 선택) → DB 순으로 조회한다.
+ *
+ * 무효화는 시/도 단위 세대 번호로 한다. 키에 세대 번호가 들어가므로, 무효화 직전에 시작된 조회가
+ * 끝나면서 옛 결과를 넣더라도 새 키로는 읽히지 않는다. 2차 캐시의 세대 번호는 INCR 로 올려 노드 간에 공유된다.
+ */
+@Slf4j
+@Component
+public class MatchFeedCache {
+
+    private static final String KEY_PREFIX = "match-feed:";
+
+    private final Cache<GenerationKey, SliceResponse<MatchSummaryResponse>> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(City.values().length);
+    private final KeyValueStore secondTier;
+    private final ObjectMapper objectMapper;
+    private final Duration secondTierTtl;
+
+    private final Timer databaseLoads;
+    private final Timer secondTierLoads;
+
+    public MatchFeedCache(MatchFeedProperties properties,
+                          ObjectProvider<KeyValueStore> secondTier,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.secondTier = secondTier.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.secondTierTtl = properties.secondTierTtl();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "match-feed");
+        this.databaseLoads = loadTimer(meterRegistry, "database");
+        this.secondTierLoads = loadTimer(meterRegistry, "second-tier");
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("matchday.match.feed.load")
+                .description("1차 캐시 미스 시 검색 결과를 채우는 데 걸린 시간")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader 로 조회해 채운다. 같은 키의 동시 미스는 한 번만 조회한다.
+     */
+    public SliceResponse<MatchSummaryResponse> get(MatchFeedKey key, Supplier<SliceResponse<MatchSummaryResponse>> loader) {
+        GenerationKey generationKey = new GenerationKey(key, generations.get(key.city().ordinal()));
+        return cache.get(generationKey, k -> load(k.key(), loader));
+    }
+
+    @TransactionalEventListener
+    public void onMatchChanged(MatchEvent event) {
+        City city = event.match().city();
+        invalidate(city);
+        // 다른 시/도로 옮겨진 매치는 이전 시/도의 결과에서도 빠져야 한다
+        if (event instanceof MatchUpdatedEvent updated && updated.previousCity() != city) {
+            invalidate(updated.previousCity());
+        }
+    }
+
+    public void invalidate(City city) {
+        long generation = generations.incrementAndGet(city.ordinal());
+        cache.asMap().keySet().removeIf(key -> key.key().city() == city && key.generation() < generation);
+        if (secondTier != null) {
+            try {
+                secondTier.increment(generationKey(city));
+            } catch (RuntimeException e) {
+                // 2차 캐시는 TTL 이 지나면 저절로 맞춰진다
+                log.warn("매치 피드 2차 캐시 무효화에 실패했습니다: city={}", city, e);
+            }
+        }
+    }
+
+    private SliceResponse<MatchSummaryResponse> load(MatchFeedKey key, Supplier<SliceResponse<MatchSummaryResponse>> loader) {
+        if (secondTier == null) {
+            return databaseLoads.record(loader);
+        }
+
+        String storeKey = null;
+        try {
+            storeKey = storeKey(key);
+            String cached = secondTier.get(storeKey);
+            if (cached != null) {
+                long startedAt = System.nanoTime();
+                SliceResponse<MatchSummaryResponse> slice = objectMapper.readValue(cached, MatchFeedPage.class).toSlice();
+                secondTierLoads.record(Duration.ofNanos(System.nanoTime() - startedAt));
+                return slice;
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("매치 피드 2차 캐시 조회에 실패해 DB 에서 조회합니다.", e);
+        }
+
+        SliceResponse<MatchSummaryResponse> slice = databaseLoads.record(loader);
+        if (storeKey != null) {
+            try {
+                secondTier.set(storeKey, objectMapper.writeValueAsString(MatchFeedPage.from(slice)), secondTierTtl);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("매치 피드 2차 캐시 저장에 실패했습니다.", e);
+            }
+        }
+        return slice;
+    }
+
+    // match-feed:{city}:{세대}:{조건}
+    private String storeKey(MatchFeedKey key) {
+        String generation = secondTier.get(generationKey(key.city()));
+        return KEY_PREFIX + key.city() + ":" + (generation == null ? "0" : generation) + ":" + key.toStoreKey();
+    }
+
+    private static String generationKey(City city) {
+        return KEY_PREFIX + "generation:" + city;
+    }
+
+    private record GenerationKey(MatchFeedKey key, long generation) {
+    }
+}
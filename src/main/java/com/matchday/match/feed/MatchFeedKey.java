@@ -0,0 +1,23 @@
+package com.matchday.match.feed;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 기본값을 채우고 지난 날짜를 잘라낸 뒤의 검색 조건. 같은 결과를 내는 요청은 같은 키가 된다.
+ */
+public record MatchFeedKey(City city, District district, LocalDate dateFrom, LocalDate dateTo,
+                           LocalTime startTimeFrom, LocalTime startTimeTo,
+                           SportsType sportsType, MatchSize matchSize, String cursor, int size) {
+
+    // 2차 캐시 키의 조건 부분 (시/도는 세대 번호와 함께 앞에 붙는다)
+    String toStoreKey() {
+        return district + "|" + dateFrom + "|" + dateTo + "|" + startTimeFrom + "|" + startTimeTo
+                + "|" + sportsType + "|" + matchSize + "|" + size + "|" + cursor;
+    }
+}
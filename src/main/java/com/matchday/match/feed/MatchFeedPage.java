@@ -0,0 +1,18 @@
+package com.matchday.match.feed;
+
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.match.dto.MatchSummaryResponse;
+
+import java.util.List;
+
+// 2차 캐시에 JSON 으로 저장하는 형태 (SliceResponse 는 역직렬화할 수 없어 따로 둔다)
+record MatchFeedPage(List<MatchSummaryResponse> content, String nextCursor) {
+
+    static MatchFeedPage from(SliceResponse<MatchSummaryResponse> slice) {
+        return new MatchFeedPage(slice.getContent(), slice.getNextCursor());
+    }
+
+    SliceResponse<MatchSummaryResponse> toSlice() {
+        return SliceResponse.of(content, nextCursor);
+    }
+}
@@ -0,0 +1,18 @@
+package com.matchday.match.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize   노드별 1차 캐시에 보관할 검색 결과 페이지 수
+ * @param ttl           1차 캐시 보관 시간. 다른 노드에서 일어난 변경은 이 시간만큼 늦게 보일 수 있다
+ * @param secondTierTtl 2차 캐시(KeyValueStore) 보관 시간. 변경 시 세대 번호로 무효화되므로 길게 잡아도 된다
+ */
+@ConfigurationProperties(prefix = "matchday.match.feed")
+public record MatchFeedProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10s") Duration ttl,
+        @DefaultValue("5m") Duration secondTierTtl) {
+}
@@ -0,0 +1,244 @@
+package com.matchday.match.index;
+
+import com.matchday.global.entity.enums.District;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * District.ordinal() 로 바로 찾아가는 배열 + 날짜별 버킷으로 모집중인 매치 id 를 보관한다.
+ * 버킷은 시작 시간(분) 순으로 정렬된 primitive 배열이며, 변경 시 새 배열로 교체(copy-on-write)하므로
+ * 조회는 락 없이 이루어진다.
+ */
+public class DistrictDayIndex {
+
+    private static final long[] NO_MATCHES = new long[0];
+
+    private final Map<LocalDate, DayBucket>[] buckets;
+    private final Map<Long, Location> locations;
+
+    public DistrictDayIndex() {
+        this(emptyBuckets(), new ConcurrentHashMap<>());
+    }
+
+    private DistrictDayIndex(Map<LocalDate, DayBucket>[] buckets, Map<Long, Location> locations) {
+        this.buckets = buckets;
+        this.locations = locations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<LocalDate, DayBucket>[] emptyBuckets() {
+        Map<LocalDate, DayBucket>[] buckets = new Map[District.values().length];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ConcurrentHashMap<>();
+        }
+        return buckets;
+    }
+
+    // 매치를 추가하거나 위치(구/날짜/시간)가 바뀐 경우 옮긴다
+    public void put(long matchId, District district, LocalDate date, LocalTime startTime) {
+        Location next = new Location(district.ordinal(), date, toMinute(startTime));
+        Location previous = locations.put(matchId, next);
+        if (previous != null) {
+            removeFromBucket(matchId, previous);
+        }
+        buckets[next.districtOrdinal()].compute(date,
+                (day, bucket) -> (bucket == null ? DayBucket.EMPTY : bucket).with(matchId, next.minute()));
+    }
+
+    public void remove(long matchId) {
+        Location previous = locations.remove(matchId);
+        if (previous != null) {
+            removeFromBucket(matchId, previous);
+        }
+    }
+
+    // [from, to] 시간대에 시작하는 매치 id 를 시작 시간 순으로 반환한다
+    public long[] find(District district, LocalDate date, LocalTime from, LocalTime to) {
+        DayBucket bucket = buckets[district.ordinal()].get(date);
+        if (bucket == null) {
+            return NO_MATCHES;
+        }
+        int fromMinute = from == null ? 0 : toMinute(from);
+        int toMinute = to == null ? Integer.MAX_VALUE : toMinute(to);
+        return bucket.range(fromMinute, toMinute);
+    }
+
+    // 지난 날짜 버킷 정리
+    public void evictBefore(LocalDate date) {
+        for (Map<LocalDate, DayBucket> byDay : buckets) {
+            byDay.keySet().removeIf(day -> day.isBefore(date));
+        }
+        locations.values().removeIf(location -> location.date().isBefore(date));
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    private void removeFromBucket(long matchId, Location location) {
+        buckets[location.districtOrdinal()].computeIfPresent(location.date(),
+                (day, bucket) -> bucket.without(matchId, location.minute()));
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record Location(int districtOrdinal, LocalDate date, int minute) {
+    }
+
+    /**
+     * 시작 시간(분), 매치 id 순으로 정렬된 불변 버킷.
+     */
+    private record DayBucket(long[] matchIds, int[] minutes) {
+
+        static final DayBucket EMPTY = new DayBucket(new long[0], new int[0]);
+
+        DayBucket with(long matchId, int minute) {
+            int index = insertionPoint(minute, matchId);
+            long[] ids = new long[matchIds.length + 1];
+            int[] mins = new int[minutes.length + 1];
+            System.arraycopy(matchIds, 0, ids, 0, index);
+            System.arraycopy(minutes, 0, mins, 0, index);
+            ids[index] = matchId;
+            mins[index] = minute;
+            System.arraycopy(matchIds, index, ids, index + 1, matchIds.length - index);
+            System.arraycopy(minutes, index, mins, index + 1, minutes.length - index);
+            return new DayBucket(ids, mins);
+        }
+
+        // 비게 되면 null 을 반환해 맵에서 날짜 키를 제거한다
+        DayBucket without(long matchId, int minute) {
+            int index = -1;
+            for (int i = lowerBound(minute); i < minutes.length && minutes[i] == minute; i++) {
+                if (matchIds[i] == matchId) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return this;
+            }
+            if (matchIds.length == 1) {
+                return null;
+            }
+            long[] ids = new long[matchIds.length - 1];
+            int[] mins = new int[minutes.length - 1];
+            System.arraycopy(matchIds, 0, ids, 0, index);
+            System.arraycopy(minutes, 0, mins, 0, index);
+            System.arraycopy(matchIds, index + 1, ids, index, matchIds.length - index - 1);
+            System.arraycopy(minutes, index + 1, mins, index, minutes.length - index - 1);
+            return new DayBucket(ids, mins);
+        }
+
+        long[] range(int fromMinute, int toMinute) {
+            int start = lowerBound(fromMinute);
+            int end = toMinute == Integer.MAX_VALUE ? minutes.length : lowerBound(toMinute + 1);
+            return start >= end ? NO_MATCHES : Arrays.copyOfRange(matchIds, start, end);
+        }
+
+        // minute 이상인 첫 위치
+        private int lowerBound(int minute) {
+            int low = 0;
+            int high = minutes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (minutes[mid] < minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int insertionPoint(int minute, long matchId) {
+            int index = lowerBound(minute);
+            while (index < minutes.length && minutes[index] == minute && matchIds[index] < matchId) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 전체 재구성용 빌더. (district, date, startTime, id) 순으로 정렬된 스트림을 받으면
+     * 버킷마다 배열 끝에 덧붙이기만 하므로 O(n) 으로 만들어진다.
+     */
+    public static class Builder {
+
+        private final Map<Long, Location> locations = new HashMap<>();
+        private final Map<LocalDate, SlotBuffer>[] buffers;
+
+        @SuppressWarnings("unchecked")
+        private Builder() {
+            buffers = new Map[District.values().length];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = new HashMap<>();
+            }
+        }
+
+        public Builder add(long matchId, District district, LocalDate date, LocalTime startTime) {
+            Location location = new Location(district.ordinal(), date, toMinute(startTime));
+            if (locations.put(matchId, location) != null) {
+                throw new IllegalArgumentException("중복된 매치 id 입니다: " + matchId);
+            }
+            buffers[location.districtOrdinal()]
+                    .computeIfAbsent(date, day -> new SlotBuffer())
+                    .add(matchId, location.minute());
+            return this;
+        }
+
+        public DistrictDayIndex build() {
+            Map<LocalDate, DayBucket>[] buckets = emptyBuckets();
+            for (int i = 0; i < buffers.length; i++) {
+                for (Map.Entry<LocalDate, SlotBuffer> entry : buffers[i].entrySet()) {
+                    buckets[i].put(entry.getKey(), entry.getValue().toBucket());
+                }
+            }
+            return new DistrictDayIndex(buckets, new ConcurrentHashMap<>(locations));
+        }
+    }
+
+    private static class SlotBuffer {
+        private long[] matchIds = new long[8];
+        private int[] minutes = new int[8];
+        private int size;
+        private boolean sorted = true;
+
+        void add(long matchId, int minute) {
+            if (size == matchIds.length) {
+                matchIds = Arrays.copyOf(matchIds, size * 2);
+                minutes = Arrays.copyOf(minutes, size * 2);
+            }
+            if (size > 0 && (minutes[size - 1] > minute
+                    || (minutes[size - 1] == minute && matchIds[size - 1] > matchId))) {
+                sorted = false;
+            }
+            matchIds[size] = matchId;
+            minutes[size] = minute;
+            size++;
+        }
+
+        DayBucket toBucket() {
+            if (sorted) {
+                return new DayBucket(Arrays.copyOf(matchIds, size), Arrays.copyOf(minutes, size));
+            }
+            // 정렬되지 않은 입력은 하나씩 삽입한다
+            DayBucket bucket = DayBucket.EMPTY;
+            for (int i = 0; i < size; i++) {
+                bucket = bucket.with(matchIds[i], minutes[i]);
+            }
+            return bucket;
+        }
+    }
+}
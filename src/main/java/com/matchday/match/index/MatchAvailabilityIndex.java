@@ -0,0 +1,173 @@
+package com.matchday.match.index;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchSlot;
+import com.matchday.match.event.MatchDeletedEvent;
+import com.matchday.match.event.MatchEvent;
+import com.matchday.match.event.MatchSnapshot;
+import com.matchday.match.repository.MatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.stream.Stream;
+
+/**
+ * "X 구의 Y 날짜에 모집중인 매치" 를 DB 조회 없이 응답하기 위한 인메모리 인덱스.
+ * 기동 시 스트리밍 조회로 재구성하고, 이후에는 매치 생성/수정/삭제 이벤트로 증분 갱신한다.
+ */
+@Slf4j
+@Component
+public class MatchAvailabilityIndex {
+
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MatchAvailabilityProperties properties;
+    private final Clock clock;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile DistrictDayIndex index = new DistrictDayIndex();
+    private volatile boolean ready;
+    private volatile Instant lastSyncedAt;
+
+    // 재구성 중 들어온 이벤트는 새 인덱스로 교체한 뒤 다시 적용한다.
+    // 상태 확인 + 적재와 비우기를 같은 락으로 묶어, 비운 뒤에 적재된 이벤트가 다음 재구성(더 새로운 스냅샷) 위에 재적용되지 않게 한다
+    private final Object pendingLock = new Object();
+    private boolean rebuilding;
+    private final Queue<MatchEvent> pendingEvents = new ArrayDeque<>();
+
+    public MatchAvailabilityIndex(MatchRepository matchRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MatchAvailabilityProperties properties,
+                                  Clock clock,
+                                  MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+
+        this.hits = Counter.builder("matchday.match.availability.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("matchday.match.availability.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("matchday.match.availability.size", this, it -> it.index.size())
+                .description("인덱스에 올라간 모집중 매치 수")
+                .register(meterRegistry);
+        Gauge.builder("matchday.match.availability.staleness", this, MatchAvailabilityIndex::stalenessSeconds)
+                .description("마지막 전체 재구성 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인덱스가 해당 날짜를 담당하면 매치 id 를, 아니면 empty 를 반환한다(호출자가 DB 로 대체 조회).
+     */
+    public Optional<long[]> findOpenMatchIds(District district, LocalDate date, LocalTime from, LocalTime to) {
+        if (!covers(date)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(index.find(district, date, from, to));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${matchday.match.availability.rebuild-interval:6h}",
+            initialDelayString = "${matchday.match.availability.rebuild-interval:6h}")
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate until = today.plusDays(properties.horizonDays());
+        long startedAt = System.nanoTime();
+
+        synchronized (pendingLock) {
+            rebuilding = true;
+        }
+        try {
+            DistrictDayIndex rebuilt = readOnlyTransaction.execute(status -> {
+                DistrictDayIndex.Builder builder = DistrictDayIndex.builder();
+                try (Stream<MatchSlot> slots = matchRepository.streamSlots(MatchStatus.OPEN, today, until)) {
+                    slots.forEach(slot -> builder.add(slot.matchId(), slot.district(), slot.date(), slot.startTime()));
+                }
+                return builder.build();
+            });
+            index = rebuilt;
+            ready = true;
+            lastSyncedAt = clock.instant();
+        } catch (RuntimeException e) {
+            log.error("모집중 매치 인덱스 재구성에 실패했습니다. 기존 인덱스를 유지합니다.", e);
+        } finally {
+            synchronized (pendingLock) {
+                rebuilding = false;
+                MatchEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    apply(event);
+                }
+            }
+        }
+
+        log.info("모집중 매치 인덱스 재구성: {}건, {}ms", index.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onMatchChanged(MatchEvent event) {
+        synchronized (pendingLock) {
+            if (rebuilding) {
+                pendingEvents.add(event);
+            }
+        }
+        apply(event);
+    }
+
+    // 자정이 지나면 지난 날짜 버킷을 비운다
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void evictPastDays() {
+        index.evictBefore(LocalDate.now(clock));
+    }
+
+    private void apply(MatchEvent event) {
+        MatchSnapshot match = event.match();
+        if (event instanceof MatchDeletedEvent || !match.isOpen() || !covers(match.date())) {
+            index.remove(match.matchId());
+        } else {
+            index.put(match.matchId(), match.district(), match.date(), match.startTime());
+        }
+    }
+
+    private boolean covers(LocalDate date) {
+        if (!ready) {
+            return false;
+        }
+        LocalDate today = LocalDate.now(clock);
+        return !date.isBefore(today) && !date.isAfter(today.plusDays(properties.horizonDays()));
+    }
+
+    private double stalenessSeconds() {
+        Instant synced = lastSyncedAt;
+        return synced == null ? Double.NaN : (clock.millis() - synced.toEpochMilli()) / 1000.0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.matchday.match.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param horizonDays     오늘부터 며칠 뒤까지의 매치를 메모리에 올릴지
+ * @param rebuildInterval 이벤트 누락에 대비한 전체 재구성 주기
+ */
+@ConfigurationProperties(prefix = "matchday.match.availability")
+public record MatchAvailabilityProperties(
+        @DefaultValue("30") int horizonDays,
+        @DefaultValue("6h") Duration rebuildInterval) {
+}
@@ -0,0 +1,195 @@
+package com.matchday.match.lifecycle;
+
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchLifecycleRow;
+import com.matchday.match.event.MatchEvent;
+import com.matchday.match.event.MatchSnapshot;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.match.service.MatchResultService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+
+/**
+ * 시간이 되면 매치/신청 상태를 바꾸는 생명주기 엔진.
+ * <ul>
+ *     <li>매치 시작: 처리되지 않은 신청 APPLIED -> EXPIRED</li>
+ *     <li>경기 종료: 상대 팀 없는 매치 OPEN -> CLOSED</li>
+ *     <li>경기 종료 48시간 후: 결과 잠금 CONFIRMED -> FINISHED</li>
+ * </ul>
+ * 전체 테이블을 주기적으로 훑는 대신, 커서 이후 lookahead 안에 예정된 전환만 (status, date) 인덱스로 읽어
+ * DelayQueue 에 올리고, 전용 스레드가 때가 된 작업을 batch 로 꺼내 반영한 뒤 커서를 저장한다.
+ * 큐에 올린 뒤 생성/변경된 매치는 이벤트로 바로 큐에 넣는다.
+ */
+@Slf4j
+@Component
+public class MatchLifecycleEngine {
+
+    private final MatchRepository matchRepository;
+    private final MatchLifecycleProcessor processor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MatchLifecycleProperties properties;
+    private final Clock clock;
+
+    private final DelayQueue<MatchLifecycleTask> queue = new DelayQueue<>();
+    private final Set<MatchLifecycleTask> queued = ConcurrentHashMap.newKeySet();
+
+    // 이 시각까지 예정된 전환은 반영됨 (저장된 커서와 같다)
+    private volatile LocalDateTime cursor;
+    // 이 시각까지 예정된 전환은 큐에 올라감
+    private volatile LocalDateTime loadedUntil;
+    private volatile Thread worker;
+
+    public MatchLifecycleEngine(MatchRepository matchRepository,
+                                MatchLifecycleProcessor processor,
+                                PlatformTransactionManager transactionManager,
+                                MatchLifecycleProperties properties,
+                                Clock clock,
+                                MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.processor = processor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+
+        Gauge.builder("matchday.match.lifecycle.queue", queue, DelayQueue::size)
+                .description("큐에서 때를 기다리는 전환 수")
+                .register(meterRegistry);
+        Gauge.builder("matchday.match.lifecycle.lag", this, MatchLifecycleEngine::lagSeconds)
+                .description("현재 시각과 커서의 차이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        cursor = processor.processedUntil(now.minus(properties.initialLookback()));
+        load();
+        worker = Thread.ofPlatform().name("match-lifecycle").daemon().start(this::run);
+        log.info("매치 생명주기 엔진 시작: 커서 {}, 대기 {}건", cursor, queue.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread running = worker;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    // 커서 이후 lookahead 까지 예정된 전환을 큐에 올린다. 이미 올라간 작업은 건너뛴다
+    @Scheduled(fixedDelayString = "${matchday.match.lifecycle.poll-interval:30s}",
+            initialDelayString = "${matchday.match.lifecycle.poll-interval:30s}")
+    public synchronized void load() {
+        LocalDateTime from = cursor;
+        if (from == null) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now(clock).plus(properties.lookahead());
+        Duration editable = MatchResultService.RESULT_EDITABLE_PERIOD;
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (MatchLifecycleRow row : matchRepository.findLifecycleRows(
+                    MatchStatus.OPEN, from.toLocalDate(), until.toLocalDate())) {
+                offer(MatchLifecycleTask.Type.EXPIRE_APPLICATIONS, row.matchId(), row.date().atTime(row.startTime()), from, until);
+                offer(MatchLifecycleTask.Type.CLOSE_MATCH, row.matchId(), row.date().atTime(row.endTime()), from, until);
+            }
+            for (MatchLifecycleRow row : matchRepository.findLifecycleRows(
+                    MatchStatus.CONFIRMED, from.minus(editable).toLocalDate(), until.minus(editable).toLocalDate())) {
+                offer(MatchLifecycleTask.Type.FINISH_MATCH, row.matchId(),
+                        row.date().atTime(row.endTime()).plus(editable), from, until);
+            }
+        });
+        loadedUntil = until;
+    }
+
+    // 이미 큐에 올린 구간에서 생긴 전환은 다음 적재를 기다리지 않고 바로 넣는다 (지난 시각이면 곧바로 실행된다)
+    @TransactionalEventListener
+    public void onMatchChanged(MatchEvent event) {
+        LocalDateTime until = loadedUntil;
+        MatchSnapshot match = event.match();
+        if (until == null || match.date() == null) {
+            return;
+        }
+        if (match.isOpen()) {
+            offer(MatchLifecycleTask.Type.EXPIRE_APPLICATIONS, match.matchId(),
+                    match.date().atTime(match.startTime()), LocalDateTime.MIN, until);
+            offer(MatchLifecycleTask.Type.CLOSE_MATCH, match.matchId(),
+                    match.date().atTime(match.endTime()), LocalDateTime.MIN, until);
+        } else if (match.status() == MatchStatus.CONFIRMED) {
+            offer(MatchLifecycleTask.Type.FINISH_MATCH, match.matchId(),
+                    match.date().atTime(match.endTime()).plus(MatchResultService.RESULT_EDITABLE_PERIOD),
+                    LocalDateTime.MIN, until);
+        }
+    }
+
+    private void offer(MatchLifecycleTask.Type type, long matchId, LocalDateTime dueAt,
+                       LocalDateTime after, LocalDateTime until) {
+        if (!dueAt.isAfter(after) || dueAt.isAfter(until)) {
+            return;
+        }
+        MatchLifecycleTask task = MatchLifecycleTask.of(type, matchId, dueAt, clock.getZone());
+        if (queued.add(task)) {
+            queue.add(task);
+        }
+    }
+
+    private void run() {
+        List<MatchLifecycleTask> batch = new ArrayList<>(properties.batchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, properties.batchSize() - 1);
+                LocalDateTime processedUntil = processedUntil(batch);
+                try {
+                    processor.process(batch, processedUntil);
+                    if (processedUntil.isAfter(cursor)) {
+                        cursor = processedUntil;
+                    }
+                    batch.forEach(queued::remove);
+                } catch (RuntimeException e) {
+                    // 뒤의 작업이 먼저 반영되어 커서가 이 작업들을 지나치지 않도록 다시 넣고 잠시 쉰다
+                    log.error("매치 생명주기 전환 {}건 반영에 실패했습니다.", batch.size(), e);
+                    queue.addAll(batch);
+                    Thread.sleep(properties.pollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 큐는 예정 시각 순이므로 batch 의 마지막 시각까지는 모두 처리된 것이다.
+    // 같은 시각의 작업이 batch 크기 때문에 큐에 남았다면 그 직전까지만 처리된 것으로 본다
+    private LocalDateTime processedUntil(List<MatchLifecycleTask> batch) {
+        LocalDateTime last = batch.get(batch.size() - 1).dueAt();
+        MatchLifecycleTask next = queue.peek();
+        return next != null && !next.dueAt().isAfter(last) ? last.minusSeconds(1) : last;
+    }
+
+    private double lagSeconds() {
+        LocalDateTime processed = cursor;
+        return processed == null ? Double.NaN : Duration.between(processed, LocalDateTime.now(clock)).toSeconds();
+    }
+}
@@ -0,0 +1,103 @@
+package com.matchday.match.lifecycle;
+
+import com.matchday.match.domain.MatchLifecycleCursor;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.event.MatchClosedEvent;
+import com.matchday.match.repository.MatchApplicationRepository;
+import com.matchday.match.repository.MatchLifecycleCursorRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.match.service.MatchResultService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 꺼내진 전환들을 종류별 bulk update 로 한 트랜잭션에서 반영하고 커서를 옮긴다.
+ * 모든 update 는 현재 상태와 시각을 다시 확인하므로 같은 작업이 두 번 실행되어도 결과가 같다.
+ */
+@Component
+class MatchLifecycleProcessor {
+
+    static final String CURSOR_NAME = "match-lifecycle";
+
+    private final MatchRepository matchRepository;
+    private final MatchApplicationRepository matchApplicationRepository;
+    private final MatchLifecycleCursorRepository cursorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Map<MatchLifecycleTask.Type, Counter> transitions = new EnumMap<>(MatchLifecycleTask.Type.class);
+
+    MatchLifecycleProcessor(MatchRepository matchRepository,
+                            MatchApplicationRepository matchApplicationRepository,
+                            MatchLifecycleCursorRepository cursorRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            Clock clock,
+                            MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.matchApplicationRepository = matchApplicationRepository;
+        this.cursorRepository = cursorRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        for (MatchLifecycleTask.Type type : MatchLifecycleTask.Type.values()) {
+            transitions.put(type, Counter.builder("matchday.match.lifecycle.transitions")
+                    .tag("type", type.name().toLowerCase())
+                    .description("생명주기 엔진이 바꾼 행 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public LocalDateTime processedUntil(LocalDateTime fallback) {
+        return cursorRepository.findById(CURSOR_NAME)
+                .map(MatchLifecycleCursor::getProcessedUntil)
+                .orElse(fallback);
+    }
+
+    @Transactional
+    public void process(List<MatchLifecycleTask> batch, LocalDateTime processedUntil) {
+        Map<MatchLifecycleTask.Type, List<Long>> matchIds = new EnumMap<>(MatchLifecycleTask.Type.class);
+        for (MatchLifecycleTask task : batch) {
+            matchIds.computeIfAbsent(task.type(), type -> new ArrayList<>()).add(task.matchId());
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> expiring = matchIds.get(MatchLifecycleTask.Type.EXPIRE_APPLICATIONS);
+        if (expiring != null) {
+            int expired = matchApplicationRepository.expireStarted(expiring, now, now.toLocalDate(), now.toLocalTime());
+            transitions.get(MatchLifecycleTask.Type.EXPIRE_APPLICATIONS).increment(expired);
+        }
+
+        List<Long> closing = matchIds.get(MatchLifecycleTask.Type.CLOSE_MATCH);
+        if (closing != null) {
+            int closed = matchRepository.transitionEnded(closing, MatchStatus.OPEN, MatchStatus.CLOSED,
+                    now.toLocalDate(), now.toLocalTime());
+            transitions.get(MatchLifecycleTask.Type.CLOSE_MATCH).increment(closed);
+            if (closed > 0) {
+                // 모집중 매치 인덱스/추천 후보에서 빠지도록 알린다
+                matchRepository.findSnapshots(closing, MatchStatus.CLOSED)
+                        .forEach(snapshot -> eventPublisher.publishEvent(new MatchClosedEvent(snapshot)));
+            }
+        }
+
+        List<Long> finishing = matchIds.get(MatchLifecycleTask.Type.FINISH_MATCH);
+        if (finishing != null) {
+            LocalDateTime endedBefore = now.minus(MatchResultService.RESULT_EDITABLE_PERIOD);
+            int finished = matchRepository.transitionEnded(finishing, MatchStatus.CONFIRMED, MatchStatus.FINISHED,
+                    endedBefore.toLocalDate(), endedBefore.toLocalTime());
+            transitions.get(MatchLifecycleTask.Type.FINISH_MATCH).increment(finished);
+        }
+
+        cursorRepository.findById(CURSOR_NAME)
+                .orElseGet(() -> cursorRepository.save(MatchLifecycleCursor.start(CURSOR_NAME, processedUntil)))
+                .advance(processedUntil);
+    }
+}
@@ -0,0 +1,20 @@
+package com.matchday.match.lifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param pollInterval    DB 에서 다가오는 전환을 읽어 큐에 올리는 주기
+ * @param lookahead       한 번에 얼마나 앞의 전환까지 큐에 올릴지
+ * @param batchSize       한 트랜잭션에서 함께 반영할 최대 전환 수
+ * @param initialLookback 저장된 커서가 없을 때(최초 기동) 얼마나 과거부터 따라잡을지
+ */
+@ConfigurationProperties(prefix = "matchday.match.lifecycle")
+public record MatchLifecycleProperties(
+        @DefaultValue("30s") Duration pollInterval,
+        @DefaultValue("10m") Duration lookahead,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("7d") Duration initialLookback) {
+}
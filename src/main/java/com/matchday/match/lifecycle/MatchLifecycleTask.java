@@ -0,0 +1,41 @@
+package com.matchday.match.lifecycle;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매치 하나에 예정된 상태 전환 하나. DelayQueue 에서 dueAt 이 지나면 꺼내진다.
+ */
+record MatchLifecycleTask(Type type, long matchId, LocalDateTime dueAt, long dueAtMillis) implements Delayed {
+
+    private static final Comparator<MatchLifecycleTask> ORDER = Comparator
+            .comparingLong(MatchLifecycleTask::dueAtMillis)
+            .thenComparing(MatchLifecycleTask::type)
+            .thenComparingLong(MatchLifecycleTask::matchId);
+
+    enum Type {
+        // 매치 시작 시각: 처리되지 않은 신청 만료
+        EXPIRE_APPLICATIONS,
+        // 경기 종료 시각: 상대 팀 없는 매치 모집 마감
+        CLOSE_MATCH,
+        // 경기 종료 48시간 후: 결과 잠금
+        FINISH_MATCH
+    }
+
+    static MatchLifecycleTask of(Type type, long matchId, LocalDateTime dueAt, ZoneId zone) {
+        return new MatchLifecycleTask(type, matchId, dueAt, dueAt.atZone(zone).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return ORDER.compare(this, (MatchLifecycleTask) other);
+    }
+}
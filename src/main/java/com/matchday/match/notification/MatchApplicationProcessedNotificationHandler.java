@@ -0,0 +1,25 @@
+package com.matchday.match.notification;
+
+import com.matchday.global.outbox.OutboxEventHandler;
+import com.matchday.match.event.MatchApplicationProcessedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 신청 거절/취소를 신청 팀에 알린다
+@Component
+@RequiredArgsConstructor
+public class MatchApplicationProcessedNotificationHandler implements OutboxEventHandler<MatchApplicationProcessedEvent> {
+
+    private final TeamNotifier teamNotifier;
+
+    @Override
+    public Class<MatchApplicationProcessedEvent> eventType() {
+        return MatchApplicationProcessedEvent.class;
+    }
+
+    @Override
+    public void handle(MatchApplicationProcessedEvent event) {
+        teamNotifier.notify(event.applicantTeamId(), "application-" + event.status().name().toLowerCase(),
+                "매치 신청이 " + event.status().getDescription() + " 처리되었습니다. (matchId=" + event.matchId() + ")");
+    }
+}
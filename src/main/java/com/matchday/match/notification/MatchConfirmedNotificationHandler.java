@@ -0,0 +1,28 @@
+package com.matchday.match.notification;
+
+import com.matchday.global.outbox.OutboxEventHandler;
+import com.matchday.match.event.MatchConfirmedEvent;
+import com.matchday.match.event.MatchSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 매치 확정을 홈 팀과 상대 팀에 알린다
+@Component
+@RequiredArgsConstructor
+public class MatchConfirmedNotificationHandler implements OutboxEventHandler<MatchConfirmedEvent> {
+
+    private final TeamNotifier teamNotifier;
+
+    @Override
+    public Class<MatchConfirmedEvent> eventType() {
+        return MatchConfirmedEvent.class;
+    }
+
+    @Override
+    public void handle(MatchConfirmedEvent event) {
+        MatchSnapshot match = event.match();
+        String schedule = match.date() + " " + match.startTime() + " (matchId=" + match.matchId() + ")";
+        teamNotifier.notify(match.homeTeamId(), "match-confirmed", "상대 팀이 확정되었습니다. " + schedule);
+        teamNotifier.notify(event.awayTeamId(), "application-accepted", "매치 신청이 수락되었습니다. " + schedule);
+    }
+}
@@ -0,0 +1,31 @@
+package com.matchday.match.notification;
+
+import com.matchday.global.outbox.OutboxEventWriter;
+import com.matchday.match.event.MatchApplicationProcessedEvent;
+import com.matchday.match.event.MatchEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매치/신청 이벤트를 커밋 직전에 같은 트랜잭션의 outbox 에 기록한다.
+ * 인메모리 인덱스/캐시는 지금처럼 AFTER_COMMIT 리스너로 갱신하고, 다른 팀 알림처럼 느리거나 실패할 수 있는
+ * 후속 처리만 OutboxRelay 를 거쳐 요청 밖에서 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchOutboxRecorder {
+
+    private final OutboxEventWriter outboxEventWriter;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMatchChanged(MatchEvent event) {
+        outboxEventWriter.append(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onApplicationProcessed(MatchApplicationProcessedEvent event) {
+        outboxEventWriter.append(event);
+    }
+}
@@ -0,0 +1,22 @@
+package com.matchday.match.notification;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀 알림 발송. 푸시/메일 채널이 붙기 전까지는 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamNotifier {
+
+    private final MeterRegistry meterRegistry;
+
+    public void notify(Long teamId, String type, String message) {
+        meterRegistry.counter("matchday.match.notifications", "type", type).increment();
+        log.info("팀 알림 [{}] teamId={}: {}", type, teamId, message);
+    }
+}
@@ -0,0 +1,207 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.team.domain.enums.GroupGender;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 구/군별로 미리 나눠 둔 추천 후보 매치 스냅샷 (불변).
+ * 각 구/군의 후보는 (날짜, 시작 시간, 매치 id) 순으로 정렬된 primitive 배열(struct-of-arrays)이어서
+ * 날짜 범위를 이진 탐색으로 자른 뒤 객체 생성 없이 순차 스캔할 수 있다.
+ */
+public final class OpponentCandidates {
+
+    private static final OpponentCandidates EMPTY = builder().build();
+
+    private final DistrictCandidates[] byDistrict;
+    private final int size;
+
+    private OpponentCandidates(DistrictCandidates[] byDistrict) {
+        this.byDistrict = byDistrict;
+        this.size = Arrays.stream(byDistrict).mapToInt(DistrictCandidates::size).sum();
+    }
+
+    public static OpponentCandidates empty() {
+        return EMPTY;
+    }
+
+    public DistrictCandidates of(District district) {
+        return byDistrict[district.ordinal()];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 한 구/군의 후보들. 같은 인덱스가 같은 매치를 가리킨다.
+     */
+    public static final class DistrictCandidates {
+
+        static final DistrictCandidates EMPTY = new DistrictCandidates(null, 0);
+
+        final District district;
+        final long[] matchIds;
+        final long[] homeTeamIds;
+        final int[] epochDays;
+        final short[] startMinutes;
+        final short[] endMinutes;
+        final byte[] sportsTypes;
+        final byte[] matchSizes;
+        final byte[] homeGenders;
+        final float[] homeSkills;
+
+        private DistrictCandidates(District district, int size) {
+            this.district = district;
+            matchIds = new long[size];
+            homeTeamIds = new long[size];
+            epochDays = new int[size];
+            startMinutes = new short[size];
+            endMinutes = new short[size];
+            sportsTypes = new byte[size];
+            matchSizes = new byte[size];
+            homeGenders = new byte[size];
+            homeSkills = new float[size];
+        }
+
+        public int size() {
+            return matchIds.length;
+        }
+
+        // epochDay 이상인 첫 위치
+        int lowerBound(int epochDay) {
+            int low = 0;
+            int high = epochDays.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    public static final class Builder {
+
+        private final CandidateBuffer[] buffers = new CandidateBuffer[District.values().length];
+
+        private Builder() {
+        }
+
+        public Builder add(RecommendationCandidate candidate) {
+            return add(candidate.matchId(), candidate.homeTeamId(), candidate.district(), candidate.date(),
+                    candidate.startTime(), candidate.endTime(), candidate.sportsType(), candidate.matchSize(),
+                    candidate.homeGender(), OpponentRecommender.skillOf(
+                            valueOf(candidate.homeWins()), valueOf(candidate.homeDraws()), valueOf(candidate.homeLosses())));
+        }
+
+        public Builder add(long matchId, long homeTeamId, District district, LocalDate date,
+                           LocalTime startTime, LocalTime endTime, SportsType sportsType, MatchSize matchSize,
+                           GroupGender homeGender, float homeSkill) {
+            int ordinal = district.ordinal();
+            if (buffers[ordinal] == null) {
+                buffers[ordinal] = new CandidateBuffer();
+            }
+            buffers[ordinal].add(matchId, homeTeamId, (int) date.toEpochDay(), minuteOf(startTime), minuteOf(endTime),
+                    ordinalOf(sportsType), ordinalOf(matchSize), ordinalOf(homeGender), homeSkill);
+            return this;
+        }
+
+        public OpponentCandidates build() {
+            DistrictCandidates[] byDistrict = new DistrictCandidates[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                byDistrict[i] = buffers[i] == null
+                        ? DistrictCandidates.EMPTY
+                        : buffers[i].toSorted(District.values()[i]);
+            }
+            return new OpponentCandidates(byDistrict);
+        }
+
+        private static short minuteOf(LocalTime time) {
+            return (short) (time.getHour() * 60 + time.getMinute());
+        }
+
+        private static byte ordinalOf(Enum<?> value) {
+            return (byte) (value == null ? -1 : value.ordinal());
+        }
+
+        private static int valueOf(Integer value) {
+            return value == null ? 0 : value;
+        }
+    }
+
+    private static final class CandidateBuffer {
+        private long[] matchIds = new long[16];
+        private long[] homeTeamIds = new long[16];
+        private long[] sortKeys = new long[16];
+        private short[] endMinutes = new short[16];
+        private byte[] sportsTypes = new byte[16];
+        private byte[] matchSizes = new byte[16];
+        private byte[] homeGenders = new byte[16];
+        private float[] homeSkills = new float[16];
+        private int size;
+
+        void add(long matchId, long homeTeamId, int epochDay, short startMinute, short endMinute,
+                 byte sportsType, byte matchSize, byte homeGender, float homeSkill) {
+            if (size == matchIds.length) {
+                int capacity = size * 2;
+                matchIds = Arrays.copyOf(matchIds, capacity);
+                homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+                sortKeys = Arrays.copyOf(sortKeys, capacity);
+                endMinutes = Arrays.copyOf(endMinutes, capacity);
+                sportsTypes = Arrays.copyOf(sportsTypes, capacity);
+                matchSizes = Arrays.copyOf(matchSizes, capacity);
+                homeGenders = Arrays.copyOf(homeGenders, capacity);
+                homeSkills = Arrays.copyOf(homeSkills, capacity);
+            }
+            matchIds[size] = matchId;
+            homeTeamIds[size] = homeTeamId;
+            // 정렬 키: 상위 32bit 날짜, 그 아래 16bit 시작 분
+            sortKeys[size] = ((long) epochDay << 32) | ((long) startMinute << 16);
+            endMinutes[size] = endMinute;
+            sportsTypes[size] = sportsType;
+            matchSizes[size] = matchSize;
+            homeGenders[size] = homeGender;
+            homeSkills[size] = homeSkill;
+            size++;
+        }
+
+        DistrictCandidates toSorted(District district) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int compared = Long.compare(sortKeys[a], sortKeys[b]);
+                return compared != 0 ? compared : Long.compare(matchIds[a], matchIds[b]);
+            });
+
+            DistrictCandidates sorted = new DistrictCandidates(district, size);
+            for (int i = 0; i < size; i++) {
+                int from = order[i];
+                sorted.matchIds[i] = matchIds[from];
+                sorted.homeTeamIds[i] = homeTeamIds[from];
+                sorted.epochDays[i] = (int) (sortKeys[from] >>> 32);
+                sorted.startMinutes[i] = (short) ((sortKeys[from] >>> 16) & 0xFFFF);
+                sorted.endMinutes[i] = endMinutes[from];
+                sorted.sportsTypes[i] = sportsTypes[from];
+                sorted.matchSizes[i] = matchSizes[from];
+                sorted.homeGenders[i] = homeGenders[from];
+                sorted.homeSkills[i] = homeSkills[from];
+            }
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.event.MatchCreatedEvent;
+import com.matchday.match.event.MatchEvent;
+import com.matchday.match.repository.MatchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 구/군별 추천 후보 스냅샷. 모집중 매치 + 홈 팀 프로필을 주기적으로 스트리밍 조회해 통째로 교체한다.
+ * 스냅샷 사이에 확정/삭제/수정된 매치는 제외 목록으로 걸러 내고(다음 재구성 때 비운다),
+ * 새로 등록된 매치는 다음 재구성부터 후보가 된다.
+ */
+@Slf4j
+@Component
+public class OpponentRecommendationIndex {
+
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final OpponentRecommendationProperties properties;
+    private final Clock clock;
+
+    private volatile OpponentCandidates candidates = OpponentCandidates.empty();
+    private volatile Set<Long> excluded = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public OpponentRecommendationIndex(MatchRepository matchRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       OpponentRecommendationProperties properties,
+                                       Clock clock,
+                                       MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+
+        Gauge.builder("matchday.match.recommendation.candidates", this, it -> it.candidates.size())
+                .description("추천 후보 스냅샷에 올라간 매치 수")
+                .register(meterRegistry);
+        Gauge.builder("matchday.match.recommendation.excluded", this, it -> it.excluded.size())
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public OpponentCandidates candidates() {
+        return candidates;
+    }
+
+    public boolean isExcluded(long matchId) {
+        return excluded.contains(matchId);
+    }
+
+    public int horizonDays() {
+        return properties.horizonDays();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${matchday.match.recommendation.rebuild-interval:5m}",
+            initialDelayString = "${matchday.match.recommendation.rebuild-interval:5m}")
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate until = today.plusDays(properties.horizonDays());
+        long startedAt = System.nanoTime();
+
+        // 재구성 도중 들어온 제외 대상도 새 스냅샷에 반영되도록 조회 전에 교체한다
+        Set<Long> nextExcluded = ConcurrentHashMap.newKeySet();
+        Set<Long> previousExcluded = excluded;
+        excluded = nextExcluded;
+        try {
+            candidates = readOnlyTransaction.execute(status -> {
+                OpponentCandidates.Builder builder = OpponentCandidates.builder();
+                try (Stream<RecommendationCandidate> rows =
+                             matchRepository.streamRecommendationCandidates(MatchStatus.OPEN, today, until)) {
+                    rows.forEach(builder::add);
+                }
+                return builder.build();
+            });
+            ready = true;
+        } catch (RuntimeException e) {
+            nextExcluded.addAll(previousExcluded);
+            log.error("추천 후보 스냅샷 재구성에 실패했습니다. 기존 스냅샷을 유지합니다.", e);
+        }
+        log.info("추천 후보 스냅샷 재구성: {}건, {}ms", candidates.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onMatchChanged(MatchEvent event) {
+        if (!(event instanceof MatchCreatedEvent)) {
+            excluded.add(event.match().matchId());
+        }
+    }
+}
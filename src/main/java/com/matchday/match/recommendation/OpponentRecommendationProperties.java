@@ -0,0 +1,16 @@
+package com.matchday.match.recommendation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param horizonDays     오늘부터 며칠 뒤까지의 모집중 매치를 후보로 둘지
+ * @param rebuildInterval 후보 스냅샷 재구성 주기 (새로 등록/수정된 매치는 다음 재구성부터 후보가 된다)
+ */
+@ConfigurationProperties(prefix = "matchday.match.recommendation")
+public record OpponentRecommendationProperties(
+        @DefaultValue("14") int horizonDays,
+        @DefaultValue("5m") Duration rebuildInterval) {
+}
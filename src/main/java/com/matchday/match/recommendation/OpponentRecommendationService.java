@@ -0,0 +1,80 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.dto.MatchRecommendationResponse;
+import com.matchday.team.dto.TeamStanding;
+import com.matchday.team.ranking.TeamRankingIndex;
+import com.matchday.team.repository.TeamRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Service
+public class OpponentRecommendationService {
+
+    private final OpponentRecommendationIndex recommendationIndex;
+    private final TeamRankingIndex teamRankingIndex;
+    private final TeamRepository teamRepository;
+    private final Clock clock;
+    private final Timer latency;
+
+    public OpponentRecommendationService(OpponentRecommendationIndex recommendationIndex,
+                                         TeamRankingIndex teamRankingIndex,
+                                         TeamRepository teamRepository,
+                                         Clock clock,
+                                         MeterRegistry meterRegistry) {
+        this.recommendationIndex = recommendationIndex;
+        this.teamRankingIndex = teamRankingIndex;
+        this.teamRepository = teamRepository;
+        this.clock = clock;
+        this.latency = Timer.builder("matchday.match.recommendation.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public MatchRecommendationResponse recommend(Long teamId, LocalDate dateFrom, LocalDate dateTo,
+                                                 LocalTime startTimeFrom, LocalTime startTimeTo,
+                                                 SportsType sportsType, MatchSize matchSize, int size) {
+        if (!recommendationIndex.isReady()) {
+            throw new GeneralException(ResponseCode._SERVICE_BUSY);
+        }
+        if (matchSize != null && sportsType != null && matchSize.getSportsType() != sportsType) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "종목에 맞지 않는 매치 인원입니다.");
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = dateFrom == null || dateFrom.isBefore(today) ? today : dateFrom;
+        LocalDate to = dateTo == null ? today.plusDays(recommendationIndex.horizonDays()) : dateTo;
+        if (to.isBefore(from)) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "조회 종료일은 시작일 이후여야 합니다.");
+        }
+
+        TeamStanding team = profileOf(teamId);
+        if (team.district() == null) {
+            // 활동 지역이 없는 팀은 지역 점수를 매길 수 없다
+            return new MatchRecommendationResponse(teamId, from, to, List.of());
+        }
+
+        RecommendationQuery query = new RecommendationQuery(teamId, team.district(), team.gender(),
+                OpponentRecommender.skillOf(team.wins(), team.draws(), team.losses()),
+                from, to, startTimeFrom, startTimeTo, sportsType, matchSize);
+        List<Recommendation> recommendations = latency.record(() -> OpponentRecommender.recommend(
+                recommendationIndex.candidates(), query, size, recommendationIndex::isExcluded));
+        return new MatchRecommendationResponse(teamId, from, to, recommendations);
+    }
+
+    // 랭킹 인덱스에 올라간 프로필을 우선 쓰고, 없으면(기동 직후 등) DB 에서 읽는다
+    private TeamStanding profileOf(Long teamId) {
+        return teamRankingIndex.standingOf(teamId)
+                .or(() -> teamRepository.findStandings(List.of(teamId)).stream().findFirst())
+                .orElseThrow(() -> new GeneralException(ResponseCode.CLUB_NOT_FOUND));
+    }
+}
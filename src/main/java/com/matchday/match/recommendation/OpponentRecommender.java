@@ -0,0 +1,193 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.enums.GroupGender;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 요청 팀에게 맞는 상대 매치를 점수화해 상위 k 개를 고른다.
+ * <pre>
+ * score = 0.35 * 지역(같은 구/군 1, 같은 시/도 0.5)
+ *       + 0.15 * 성별(같으면 1, 한쪽이 혼성이면 0.5, 남/여가 다르면 후보 제외)
+ *       + 0.30 * 실력(1 - |실력 차|, 실력은 {@link #skillOf} 로 0~1 정규화)
+ *       + 0.20 * 일정(매치 시간 중 원하는 시간대와 겹치는 비율, 겹치지 않으면 후보 제외)
+ * </pre>
+ * 같은 시/도의 구/군 후보만 보며, 각 구/군에서는 날짜 범위를 이진 탐색으로 잘라 스캔하고
+ * 크기 k 의 최소 힙으로 상위 k 개만 유지한다. 스캔 비용은 O(같은 시/도 + 날짜 범위의 후보 수 * log k).
+ */
+public final class OpponentRecommender {
+
+    static final float REGION_WEIGHT = 0.35f;
+    static final float GENDER_WEIGHT = 0.15f;
+    static final float SKILL_WEIGHT = 0.30f;
+    static final float SCHEDULE_WEIGHT = 0.20f;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private OpponentRecommender() {
+    }
+
+    /**
+     * 승/무/패를 0~1 실력 점수로 바꾼다. 경기 수가 적은 팀이 극단값을 갖지 않도록
+     * 5경기 분량의 중간값(0.5)을 사전 분포로 섞는다.
+     */
+    public static float skillOf(int wins, int draws, int losses) {
+        return (wins + 0.5f * draws + 2.5f) / (wins + draws + losses + 5f);
+    }
+
+    public static List<Recommendation> recommend(OpponentCandidates candidates, RecommendationQuery query,
+                                                 int limit, LongPredicate excluded) {
+        TopK top = new TopK(limit);
+        int fromDay = (int) query.dateFrom().toEpochDay();
+        int toDay = (int) query.dateTo().toEpochDay();
+        int windowStart = query.windowStart() == null ? 0 : minuteOf(query.windowStart());
+        int windowEnd = query.windowEnd() == null ? MINUTES_PER_DAY : minuteOf(query.windowEnd());
+        byte gender = ordinalOf(query.gender());
+        byte sportsType = ordinalOf(query.sportsType());
+        byte matchSize = ordinalOf(query.matchSize());
+
+        for (District district : District.districtsOf(query.district().getCity())) {
+            OpponentCandidates.DistrictCandidates set = candidates.of(district);
+            float region = district == query.district() ? 1f : 0.5f;
+
+            for (int i = set.lowerBound(fromDay); i < set.size() && set.epochDays[i] <= toDay; i++) {
+                if (set.homeTeamIds[i] == query.teamId()
+                        || (sportsType >= 0 && set.sportsTypes[i] != sportsType)
+                        || (matchSize >= 0 && set.matchSizes[i] != matchSize)) {
+                    continue;
+                }
+                float genderScore = genderScore(gender, set.homeGenders[i]);
+                if (genderScore == 0f) {
+                    continue;
+                }
+                int start = set.startMinutes[i];
+                int end = set.endMinutes[i];
+                int overlap = Math.min(end, windowEnd) - Math.max(start, windowStart);
+                if (overlap <= 0) {
+                    continue;
+                }
+                float schedule = (float) overlap / Math.max(1, end - start);
+                float skill = 1f - Math.abs(query.skill() - set.homeSkills[i]);
+
+                float score = REGION_WEIGHT * region + GENDER_WEIGHT * genderScore
+                        + SKILL_WEIGHT * skill + SCHEDULE_WEIGHT * schedule;
+                if (top.accepts(score) && !excluded.test(set.matchIds[i])) {
+                    top.offer(score, set, i);
+                }
+            }
+        }
+        return top.toRecommendations();
+    }
+
+    private static float genderScore(byte requester, byte host) {
+        if (requester < 0 || host < 0 || requester == host) {
+            return 1f;
+        }
+        byte mixed = (byte) GroupGender.MIXED.ordinal();
+        return requester == mixed || host == mixed ? 0.5f : 0f;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static byte ordinalOf(Enum<?> value) {
+        return (byte) (value == null ? -1 : value.ordinal());
+    }
+
+    /**
+     * 점수 기준 최소 힙. 루트가 현재 k 번째 점수이므로 그보다 낮은 후보는 바로 버린다.
+     */
+    private static final class TopK {
+        private final float[] scores;
+        private final OpponentCandidates.DistrictCandidates[] sets;
+        private final int[] indexes;
+        private int size;
+
+        TopK(int capacity) {
+            scores = new float[capacity];
+            sets = new OpponentCandidates.DistrictCandidates[capacity];
+            indexes = new int[capacity];
+        }
+
+        boolean accepts(float score) {
+            return scores.length > 0 && (size < scores.length || score > scores[0]);
+        }
+
+        void offer(float score, OpponentCandidates.DistrictCandidates set, int index) {
+            if (size < scores.length) {
+                scores[size] = score;
+                sets[size] = set;
+                indexes[size] = index;
+                siftUp(size++);
+            } else {
+                scores[0] = score;
+                sets[0] = set;
+                indexes[0] = index;
+                siftDown(0);
+            }
+        }
+
+        List<Recommendation> toRecommendations() {
+            List<Recommendation> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                OpponentCandidates.DistrictCandidates set = sets[i];
+                int index = indexes[i];
+                result.add(new Recommendation(set.matchIds[index], set.homeTeamIds[index],
+                        set.district, LocalDate.ofEpochDay(set.epochDays[index]),
+                        LocalTime.of(set.startMinutes[index] / 60, set.startMinutes[index] % 60),
+                        LocalTime.of(set.endMinutes[index] / 60, set.endMinutes[index] % 60),
+                        scores[i]));
+            }
+            result.sort(Comparator.comparingDouble(Recommendation::score).reversed()
+                    .thenComparing(Recommendation::date)
+                    .thenComparing(Recommendation::startTime)
+                    .thenComparingLong(Recommendation::matchId));
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (scores[parent] <= scores[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = index * 2 + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[index] <= scores[smallest]) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            OpponentCandidates.DistrictCandidates set = sets[a];
+            sets[a] = sets[b];
+            sets[b] = set;
+            int index = indexes[a];
+            indexes[a] = indexes[b];
+            indexes[b] = index;
+        }
+    }
+}
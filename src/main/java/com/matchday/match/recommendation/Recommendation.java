@@ -0,0 +1,10 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.District;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record Recommendation(long matchId, long homeTeamId, District district,
+                             LocalDate date, LocalTime startTime, LocalTime endTime, float score) {
+}
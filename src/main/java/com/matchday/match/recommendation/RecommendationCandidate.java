@@ -0,0 +1,18 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.team.domain.enums.GroupGender;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 추천 후보가 되는 모집중 매치 한 건과 홈 팀 프로필 (스냅샷 재구성용 조회 결과).
+ */
+public record RecommendationCandidate(Long matchId, Long homeTeamId, District district,
+                                      LocalDate date, LocalTime startTime, LocalTime endTime,
+                                      SportsType sportsType, MatchSize matchSize,
+                                      GroupGender homeGender, Integer homeWins, Integer homeDraws, Integer homeLosses) {
+}
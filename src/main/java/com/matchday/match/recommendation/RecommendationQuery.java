@@ -0,0 +1,23 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.team.domain.enums.GroupGender;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 추천을 요청한 팀과 원하는 일정 조건.
+ *
+ * @param windowStart 원하는 시간대 시작 (null 이면 하루 전체)
+ * @param windowEnd   원하는 시간대 끝 (null 이면 하루 전체)
+ * @param sportsType  종목 (null 이면 전체)
+ * @param matchSize   매치 인원 (null 이면 전체)
+ */
+public record RecommendationQuery(long teamId, District district, GroupGender gender, float skill,
+                                  LocalDate dateFrom, LocalDate dateTo,
+                                  LocalTime windowStart, LocalTime windowEnd,
+                                  SportsType sportsType, MatchSize matchSize) {
+}
@@ -0,0 +1,44 @@
+package com.matchday.match.repository;
+
+import com.matchday.match.domain.MatchApplication;
+import com.matchday.match.domain.enums.MatchApplicationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MatchApplicationRepository extends JpaRepository<MatchApplication, Long> {
+
+    List<MatchApplication> findAllByMatchIdAndStatus(Long matchId, MatchApplicationStatus status);
+
+    List<MatchApplication> findAllByMatchIdAndIdIn(Long matchId, Collection<Long> ids);
+
+    // 다른 매치의 신청이면 "없음" 으로 본다
+    boolean existsByIdAndMatchId(Long id, Long matchId);
+
+    @Modifying
+    @Query("delete from MatchApplication a where a.match.id = :matchId")
+    int deleteAllByMatchId(@Param("matchId") Long matchId);
+
+    // 시작 시각(date + start_time)이 (date, time) 이전인 매치의 처리되지 않은 신청을 만료시킨다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update MatchApplication a
+            set a.status = com.matchday.match.domain.enums.MatchApplicationStatus.EXPIRED,
+                a.processedAt = :processedAt, a.version = a.version + 1
+            where a.status = com.matchday.match.domain.enums.MatchApplicationStatus.APPLIED
+              and a.match.id in (select m.id from Match m
+                                 where m.id in :matchIds
+                                   and (m.date < :date or (m.date = :date and m.startTime <= :time)))
+            """)
+    int expireStarted(@Param("matchIds") Collection<Long> matchIds,
+                      @Param("processedAt") LocalDateTime processedAt,
+                      @Param("date") LocalDate date,
+                      @Param("time") LocalTime time);
+}
@@ -0,0 +1,41 @@
+package com.matchday.match.repository;
+
+import com.matchday.match.domain.MatchEntry;
+import com.matchday.match.dto.MatchResultRow;
+import com.matchday.match.dto.ScheduleInterval;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface MatchEntryRepository extends JpaRepository<MatchEntry, Long> {
+
+    Optional<MatchEntry> findFirstByMatchId(Long matchId);
+
+    // 결과가 기록된 모든 매치를 행 단위로 스트리밍한다 (전적 재계산용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select new com.matchday.match.dto.MatchResultRow(m.homeTeam.id, e.team.id, m.homeScore, m.awayScore)
+            from MatchEntry e join e.match m
+            where m.homeScore is not null and m.awayScore is not null
+            """)
+    Stream<MatchResultRow> streamResults();
+
+    // 팀이 원정으로 확정된 하루 일정 (예약 검사용 locking read)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            select new com.matchday.match.dto.ScheduleInterval(m.id, m.startTime, m.endTime)
+            from MatchEntry e join e.match m
+            where e.team.id = :teamId and m.date = :date
+            """)
+    List<ScheduleInterval> findAwayScheduleIntervals(@Param("teamId") Long teamId, @Param("date") LocalDate date);
+}
@@ -0,0 +1,7 @@
+package com.matchday.match.repository;
+
+import com.matchday.match.domain.MatchLifecycleCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MatchLifecycleCursorRepository extends JpaRepository<MatchLifecycleCursor, String> {
+}
@@ -0,0 +1,123 @@
+package com.matchday.match.repository;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchLifecycleRow;
+import com.matchday.match.dto.MatchSlot;
+import com.matchday.match.dto.MatchSummaryResponse;
+import com.matchday.match.dto.ScheduleInterval;
+import com.matchday.match.event.MatchSnapshot;
+import com.matchday.match.recommendation.RecommendationCandidate;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface MatchRepository extends JpaRepository<Match, Long> {
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 행 단위 스트리밍을 한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select new com.matchday.match.dto.MatchSlot(m.id, m.district, m.date, m.startTime)
+            from Match m
+            where m.status = :status and m.date between :from and :to
+            order by m.district, m.date, m.startTime, m.id
+            """)
+    Stream<MatchSlot> streamSlots(@Param("status") MatchStatus status,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    @Query("""
+            select new com.matchday.match.dto.MatchSlot(m.id, m.district, m.date, m.startTime)
+            from Match m
+            where m.status = :status and m.district = :district and m.date = :date
+            order by m.startTime, m.id
+            """)
+    List<MatchSlot> findSlotsByDistrictAndDate(@Param("status") MatchStatus status,
+                                               @Param("district") District district,
+                                               @Param("date") LocalDate date);
+
+    // 매치 목록 스트리밍 응답용 (행 단위 스트리밍, 홈 팀 이름까지 한 번에)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select new com.matchday.match.dto.MatchSummaryResponse(
+                m.id, t.id, t.name, m.city, m.district, m.placeName,
+                m.date, m.startTime, m.endTime, m.fee, m.sportsType, m.matchSize)
+            from Match m left join m.homeTeam t
+            where m.status = :status and m.city = :city and m.date between :from and :to
+            order by m.date, m.startTime, m.id
+            """)
+    Stream<MatchSummaryResponse> streamSummaries(@Param("status") MatchStatus status,
+                                                 @Param("city") City city,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    // 추천 후보 스냅샷 재구성용 (홈 팀 프로필까지 한 번에, 행 단위 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select new com.matchday.match.recommendation.RecommendationCandidate(
+                m.id, t.id, m.district, m.date, m.startTime, m.endTime, m.sportsType, m.matchSize,
+                t.gender, t.statsWins, t.statsDraws, t.statsLosses)
+            from Match m join m.homeTeam t
+            where m.status = :status and m.date between :from and :to and m.district is not null
+            """)
+    Stream<RecommendationCandidate> streamRecommendationCandidates(@Param("status") MatchStatus status,
+                                                                   @Param("from") LocalDate from,
+                                                                   @Param("to") LocalDate to);
+
+    // 팀의 하루 홈 매치 일정 (idx_match_home_schedule 만으로 응답하는 커버링 조회)
+    // 예약 검사용 locking read (FOR SHARE): 스냅샷이 아닌 최신 커밋을 읽는다
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            select new com.matchday.match.dto.ScheduleInterval(m.id, m.startTime, m.endTime)
+            from Match m
+            where m.homeTeam.id = :teamId and m.date = :date
+            """)
+    List<ScheduleInterval> findScheduleIntervals(@Param("teamId") Long teamId, @Param("date") LocalDate date);
+
+    // 생명주기 엔진 적재용: 상태별 날짜 범위 (idx_match_status_schedule)
+    @Query("""
+            select new com.matchday.match.dto.MatchLifecycleRow(m.id, m.date, m.startTime, m.endTime)
+            from Match m
+            where m.status = :status and m.date between :from and :to
+            """)
+    List<MatchLifecycleRow> findLifecycleRows(@Param("status") MatchStatus status,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    // 경기 종료 시각(date + end_time)이 (date, time) 이전인 매치만 전환한다.
+    // 조건으로 다시 확인하므로 일정이 바뀐 매치의 지난 작업이 실행되어도 안전하고, @Version 을 올려 동시 수정과 충돌시킨다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Match m
+            set m.status = :to, m.version = m.version + 1
+            where m.id in :ids and m.status = :from
+              and (m.date < :date or (m.date = :date and m.endTime <= :time))
+            """)
+    int transitionEnded(@Param("ids") Collection<Long> ids,
+                        @Param("from") MatchStatus from,
+                        @Param("to") MatchStatus to,
+                        @Param("date") LocalDate date,
+                        @Param("time") LocalTime time);
+
+    @Query("""
+            select new com.matchday.match.event.MatchSnapshot(m.id, m.homeTeam.id, m.city, m.district,
+                m.date, m.startTime, m.endTime, m.sportsType, m.matchSize, m.status)
+            from Match m
+            where m.id in :ids and m.status = :status
+            """)
+    List<MatchSnapshot> findSnapshots(@Param("ids") Collection<Long> ids, @Param("status") MatchStatus status);
+}
@@ -0,0 +1,94 @@
+package com.matchday.match.repository;
+
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchSearchCondition;
+import com.matchday.match.dto.MatchSearchCursor;
+import com.matchday.match.dto.MatchSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MatchSearchRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 모집중인 매치를 (date, startTime, id) 순으로 keyset 조회한다.
+     * 조건이 있는 컬럼만 where 절에 넣어 idx_match_region_schedule / idx_match_type_schedule 을 그대로 타도록 한다.
+     * hasNext 판단을 위해 limit + 1 건을 읽는다.
+     */
+    public List<MatchSummaryResponse> searchOpenMatches(MatchSearchCondition condition,
+                                                        LocalDate dateFrom, LocalDate dateTo,
+                                                        MatchSearchCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                select new com.matchday.match.dto.MatchSummaryResponse(
+                    m.id, t.id, t.name, m.city, m.district, m.placeName,
+                    m.date, m.startTime, m.endTime, m.fee, m.sportsType, m.matchSize)
+                from Match m left join m.homeTeam t
+                where m.status = :status
+                  and m.city = :city
+                  and m.date between :dateFrom and :dateTo
+                """);
+
+        if (condition.getDistrict() != null) {
+            jpql.append(" and m.district = :district");
+        }
+        if (condition.getStartTimeFrom() != null) {
+            jpql.append(" and m.startTime >= :startTimeFrom");
+        }
+        if (condition.getStartTimeTo() != null) {
+            jpql.append(" and m.startTime <= :startTimeTo");
+        }
+        if (condition.getSportsType() != null) {
+            jpql.append(" and m.sportsType = :sportsType");
+        }
+        if (condition.getMatchSize() != null) {
+            jpql.append(" and m.matchSize = :matchSize");
+        }
+        if (cursor != null) {
+            jpql.append("""
+                     and (m.date > :cursorDate
+                       or (m.date = :cursorDate and m.startTime > :cursorStartTime)
+                       or (m.date = :cursorDate and m.startTime = :cursorStartTime and m.id > :cursorId))
+                    """);
+        }
+        jpql.append(" order by m.date asc, m.startTime asc, m.id asc");
+
+        TypedQuery<MatchSummaryResponse> query = entityManager
+                .createQuery(jpql.toString(), MatchSummaryResponse.class)
+                .setParameter("status", MatchStatus.OPEN)
+                .setParameter("city", condition.getCity())
+                .setParameter("dateFrom", dateFrom)
+                .setParameter("dateTo", dateTo)
+                .setMaxResults(limit + 1);
+
+        if (condition.getDistrict() != null) {
+            query.setParameter("district", condition.getDistrict());
+        }
+        if (condition.getStartTimeFrom() != null) {
+            query.setParameter("startTimeFrom", condition.getStartTimeFrom());
+        }
+        if (condition.getStartTimeTo() != null) {
+            query.setParameter("startTimeTo", condition.getStartTimeTo());
+        }
+        if (condition.getSportsType() != null) {
+            query.setParameter("sportsType", condition.getSportsType());
+        }
+        if (condition.getMatchSize() != null) {
+            query.setParameter("matchSize", condition.getMatchSize());
+        }
+        if (cursor != null) {
+            query.setParameter("cursorDate", cursor.date())
+                    .setParameter("cursorStartTime", cursor.startTime())
+                    .setParameter("cursorId", cursor.id());
+        }
+
+        return query.getResultList();
+    }
+}
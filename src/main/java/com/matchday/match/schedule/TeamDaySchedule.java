@@ -0,0 +1,118 @@
+package com.matchday.match.schedule;
+
+import java.util.Arrays;
+
+/**
+ * 한 팀의 하루 일정. [시작, 종료) 반열린 구간(분 단위)을 시작 시간 순으로 정렬한 불변 배열이며,
+ * maxEnds[i] 에 0..i 구간 중 가장 늦은 종료 시간을 함께 둔다.
+ * 새 구간 [s, e) 는 "시작 < e 인 마지막 구간까지의 최대 종료 > s" 일 때만 겹치므로 이진 탐색 한 번으로 검사한다.
+ * (앞 경기가 끝나는 시각에 바로 시작하는 경기는 겹치지 않는다)
+ */
+final class TeamDaySchedule {
+
+    static final TeamDaySchedule EMPTY = new TeamDaySchedule(new long[0], new int[0], new int[0]);
+
+    private final long[] matchIds;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnds;
+
+    private TeamDaySchedule(long[] matchIds, int[] starts, int[] ends) {
+        this.matchIds = matchIds;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new int[ends.length];
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    // O(log n)
+    boolean conflictsWith(int start, int end) {
+        int last = lowerBound(end) - 1;
+        return last >= 0 && maxEnds[last] > start;
+    }
+
+    // 같은 매치가 이미 있으면 옮긴다
+    TeamDaySchedule with(long matchId, int start, int end) {
+        TeamDaySchedule base = without(matchId);
+        int index = base.lowerBound(start);
+        while (index < base.starts.length && base.starts[index] == start && base.matchIds[index] < matchId) {
+            index++;
+        }
+        return new TeamDaySchedule(insert(base.matchIds, index, matchId),
+                insert(base.starts, index, start), insert(base.ends, index, end));
+    }
+
+    TeamDaySchedule without(long matchId) {
+        int index = indexOf(matchId);
+        if (index < 0) {
+            return this;
+        }
+        return new TeamDaySchedule(remove(matchIds, index), remove(starts, index), remove(ends, index));
+    }
+
+    // 매치의 [시작, 종료) 분, 없으면 null
+    int[] intervalOf(long matchId) {
+        int index = indexOf(matchId);
+        return index < 0 ? null : new int[]{starts[index], ends[index]};
+    }
+
+    int size() {
+        return matchIds.length;
+    }
+
+    private int indexOf(long matchId) {
+        for (int i = 0; i < matchIds.length; i++) {
+            if (matchIds[i] == matchId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // minute 이상인 첫 시작 위치
+    private int lowerBound(int minute) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long[] insert(long[] values, int index, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static int[] insert(int[] values, int index, int value) {
+        int[] result = new int[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static long[] remove(long[] values, int index) {
+        long[] result = Arrays.copyOf(values, values.length - 1);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    private static int[] remove(int[] values, int index) {
+        int[] result = Arrays.copyOf(values, values.length - 1);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.matchday.match.schedule;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.dto.ScheduleInterval;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.team.repository.TeamRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팀/날짜별 일정(홈 매치 + 수락된 원정 매치)으로 "같은 시간에 다른 매치가 있는지" 를 DB 에서 검사한다.
+ * 호출한 트랜잭션 안에서 팀 행을 잠가(SELECT ... FOR UPDATE) 같은 팀의 예약을 인스턴스와 무관하게 직렬화하고,
+ * 잠근 뒤 (home_team_id, date, ...) / (team_id, match_id) 인덱스를 locking read 로 읽어 최신 일정과 비교한다.
+ * 메모리에는 아무것도 남기지 않으며, 팀 행 잠금은 호출한 트랜잭션이 끝날 때 풀린다.
+ */
+@Component
+public class TeamScheduleGuard {
+
+    private final MatchRepository matchRepository;
+    private final MatchEntryRepository matchEntryRepository;
+    private final TeamRepository teamRepository;
+
+    private final Counter conflicts;
+    private final Counter loads;
+
+    public TeamScheduleGuard(MatchRepository matchRepository,
+                             MatchEntryRepository matchEntryRepository,
+                             TeamRepository teamRepository,
+                             MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.matchEntryRepository = matchEntryRepository;
+        this.teamRepository = teamRepository;
+
+        this.conflicts = Counter.builder("matchday.match.schedule.conflicts")
+                .description("MATCH_DUPLICATED 로 거절된 예약 수")
+                .register(meterRegistry);
+        this.loads = Counter.builder("matchday.match.schedule.loads")
+                .description("예약 검사를 위해 DB 에서 읽은 팀/날짜 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매치(새 매치, 일정 변경, 원정 확정)의 시간이 팀의 다른 매치와 겹치면 MATCH_DUPLICATED.
+     * 이미 저장된 같은 매치는 비교에서 뺀다. 팀 행 잠금을 잡으므로 호출한 트랜잭션 안에서 불러야 한다.
+     */
+    public void check(Long teamId, Long matchId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        TeamDaySchedule others = loadLocked(teamId, date).without(matchId);
+        if (others.conflictsWith(minuteOf(startTime), minuteOf(endTime))) {
+            conflicts.increment();
+            throw new GeneralException(ResponseCode.MATCH_DUPLICATED);
+        }
+    }
+
+    // 팀 행을 잠근 뒤 읽으므로 다른 인스턴스가 커밋한 예약까지 보인다.
+    // 일정 조회도 locking read(FOR SHARE)여야 트랜잭션 시작 시점의 스냅샷이 아니라 최신 커밋을 읽는다
+    private TeamDaySchedule loadLocked(Long teamId, LocalDate date) {
+        teamRepository.lockById(teamId);
+        List<ScheduleInterval> intervals = new ArrayList<>(matchRepository.findScheduleIntervals(teamId, date));
+        intervals.addAll(matchEntryRepository.findAwayScheduleIntervals(teamId, date));
+
+        TeamDaySchedule loaded = TeamDaySchedule.EMPTY;
+        for (ScheduleInterval interval : intervals) {
+            loaded = loaded.with(interval.matchId(), minuteOf(interval.startTime()), minuteOf(interval.endTime()));
+        }
+        loads.increment();
+        return loaded;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,111 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.MatchApplication;
+import com.matchday.match.domain.MatchEntry;
+import com.matchday.match.domain.enums.MatchApplicationStatus;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchApplicationAcceptResponse;
+import com.matchday.match.event.MatchApplicationProcessedEvent;
+import com.matchday.match.event.MatchConfirmedEvent;
+import com.matchday.match.event.MatchSnapshot;
+import com.matchday.match.repository.MatchApplicationRepository;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.match.schedule.TeamScheduleGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매치 신청 수락 파이프라인: 한 트랜잭션에서 신청 수락 + 경쟁 신청 자동 거절 + MatchEntry 생성 + 매치 확정.
+ * Match/MatchApplication 의 @Version 으로 동시 수락을 감지하고, 충돌 시 새 트랜잭션으로 제한된 횟수만큼 재시도한다.
+ * 재시도에서 이미 확정된 매치를 보게 되면 MATCH_ALREADY_CONFIRMED 로 끝난다.
+ */
+@Service
+public class MatchApplicationAcceptService {
+
+    private final MatchRepository matchRepository;
+    private final MatchApplicationRepository matchApplicationRepository;
+    private final MatchEntryRepository matchEntryRepository;
+    private final TeamScheduleGuard teamScheduleGuard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry retry;
+    private final Clock clock;
+
+    public MatchApplicationAcceptService(MatchRepository matchRepository,
+                                         MatchApplicationRepository matchApplicationRepository,
+                                         MatchEntryRepository matchEntryRepository,
+                                         TeamScheduleGuard teamScheduleGuard,
+                                         ApplicationEventPublisher eventPublisher,
+                                         PlatformTransactionManager transactionManager,
+                                         Clock clock,
+                                         MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.matchApplicationRepository = matchApplicationRepository;
+        this.matchEntryRepository = matchEntryRepository;
+        this.teamScheduleGuard = teamScheduleGuard;
+        this.eventPublisher = eventPublisher;
+        this.retry = new OptimisticLockRetry(
+                new TransactionTemplate(transactionManager), meterRegistry, "matchday.match.accept");
+        this.clock = clock;
+    }
+
+    public MatchApplicationAcceptResponse accept(Long matchId, Long applicationId) {
+        return retry.execute(status -> acceptInTransaction(matchId, applicationId, LocalDateTime.now(clock)));
+    }
+
+    // 일괄 처리 API 에서 같은 processedAt 으로 수락할 때 사용한다
+    MatchApplicationAcceptResponse accept(Long matchId, Long applicationId, LocalDateTime processedAt) {
+        return retry.execute(status -> acceptInTransaction(matchId, applicationId, processedAt));
+    }
+
+    private MatchApplicationAcceptResponse acceptInTransaction(Long matchId, Long applicationId,
+                                                               LocalDateTime processedAt) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.MATCH_NOT_FOUND));
+        if (!match.isOpen()) {
+            throw new GeneralException(match.getStatus() == MatchStatus.CLOSED
+                    ? ResponseCode.MATCH_CLOSED : ResponseCode.MATCH_ALREADY_CONFIRMED);
+        }
+
+        List<MatchApplication> applied = matchApplicationRepository
+                .findAllByMatchIdAndStatus(matchId, MatchApplicationStatus.APPLIED);
+        MatchApplication target = applied.stream()
+                .filter(application -> application.getId().equals(applicationId))
+                .findFirst()
+                .orElseThrow(() -> matchApplicationRepository.existsByIdAndMatchId(applicationId, matchId)
+                        ? new GeneralException(ResponseCode.MATCH_APPLICATION_ALREADY_PROCESSED)
+                        : new GeneralException(ResponseCode.MATCH_APPLICATION_NOT_FOUND));
+
+        // 상대 팀이 같은 시간에 다른 매치를 잡아 두었으면 수락하지 않는다
+        teamScheduleGuard.check(target.getApplicantTeam().getId(), matchId, match.getDate(),
+                match.getStartTime(), match.getEndTime());
+
+        target.accept(processedAt);
+        List<Long> rejectedIds = new ArrayList<>(applied.size() - 1);
+        for (MatchApplication competitor : applied) {
+            if (competitor != target) {
+                competitor.reject(processedAt);
+                rejectedIds.add(competitor.getId());
+                eventPublisher.publishEvent(MatchApplicationProcessedEvent.from(competitor));
+            }
+        }
+
+        match.confirm();
+        MatchEntry entry = matchEntryRepository.save(MatchEntry.createEntry(match, target.getApplicantTeam()));
+
+        eventPublisher.publishEvent(new MatchConfirmedEvent(
+                MatchSnapshot.from(match), target.getId(), target.getApplicantTeam().getId()));
+        return new MatchApplicationAcceptResponse(target.getId(), entry.getId(), rejectedIds);
+    }
+}
@@ -0,0 +1,144 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.MatchApplication;
+import com.matchday.match.domain.enums.MatchApplicationAction;
+import com.matchday.match.domain.enums.MatchApplicationStatus;
+import com.matchday.match.dto.MatchApplicationAcceptResponse;
+import com.matchday.match.dto.MatchApplicationBulkRequest;
+import com.matchday.match.dto.MatchApplicationBulkResponse;
+import com.matchday.match.event.MatchApplicationProcessedEvent;
+import com.matchday.match.repository.MatchApplicationRepository;
+import com.matchday.match.repository.MatchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 한 매치의 신청 여러 건을 한 번의 요청/트랜잭션으로 거절·취소한다.
+ * 신청은 IN 쿼리 한 번으로 읽고, 변경분은 커밋 시점 flush 에서 hibernate.jdbc.batch_size 단위의
+ * JDBC batch UPDATE 로 나간다. 처리 불가능한 항목은 전체를 실패시키지 않고 항목별 결과로 돌려준다.
+ * 수락은 상대 팀이 하나뿐이므로 한 건만 받으며, 나머지 신청은 수락 파이프라인에서 함께 거절된다.
+ */
+@Service
+public class MatchApplicationBulkService {
+
+    private final MatchRepository matchRepository;
+    private final MatchApplicationRepository matchApplicationRepository;
+    private final MatchApplicationAcceptService matchApplicationAcceptService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry retry;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public MatchApplicationBulkService(MatchRepository matchRepository,
+                                       MatchApplicationRepository matchApplicationRepository,
+                                       MatchApplicationAcceptService matchApplicationAcceptService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformTransactionManager transactionManager,
+                                       Clock clock,
+                                       MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.matchApplicationRepository = matchApplicationRepository;
+        this.matchApplicationAcceptService = matchApplicationAcceptService;
+        this.eventPublisher = eventPublisher;
+        this.retry = new OptimisticLockRetry(
+                new TransactionTemplate(transactionManager), meterRegistry, "matchday.match.application.bulk");
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public MatchApplicationBulkResponse process(Long matchId, MatchApplicationBulkRequest request) {
+        MatchApplicationAction action = request.getAction();
+        // 요청 순서는 유지하고 중복 id 는 한 번만 처리한다
+        Set<Long> applicationIds = new LinkedHashSet<>(request.getApplicationIds());
+        LocalDateTime processedAt = LocalDateTime.now(clock);
+
+        List<MatchApplicationBulkResponse.Item> results = action == MatchApplicationAction.ACCEPT
+                ? accept(matchId, applicationIds, processedAt)
+                : retry.execute(status -> processInTransaction(matchId, action, applicationIds, processedAt));
+
+        int processedCount = (int) results.stream().filter(MatchApplicationBulkResponse.Item::isProcessed).count();
+        record(action, "processed", processedCount);
+        record(action, "failed", results.size() - processedCount);
+        return new MatchApplicationBulkResponse(action, processedAt, processedCount, results);
+    }
+
+    private List<MatchApplicationBulkResponse.Item> processInTransaction(Long matchId,
+                                                                         MatchApplicationAction action,
+                                                                         Set<Long> applicationIds,
+                                                                         LocalDateTime processedAt) {
+        if (!matchRepository.existsById(matchId)) {
+            throw new GeneralException(ResponseCode.MATCH_NOT_FOUND);
+        }
+
+        Map<Long, MatchApplication> applications = matchApplicationRepository
+                .findAllByMatchIdAndIdIn(matchId, applicationIds).stream()
+                .collect(Collectors.toMap(MatchApplication::getId, Function.identity()));
+
+        List<MatchApplicationBulkResponse.Item> results = new ArrayList<>(applicationIds.size());
+        for (Long applicationId : applicationIds) {
+            MatchApplication application = applications.get(applicationId);
+            if (application == null) {
+                results.add(MatchApplicationBulkResponse.Item.failed(applicationId, ResponseCode.MATCH_APPLICATION_NOT_FOUND));
+            } else if (!application.isApplied()) {
+                results.add(MatchApplicationBulkResponse.Item.failed(applicationId, ResponseCode.MATCH_APPLICATION_ALREADY_PROCESSED));
+            } else {
+                if (action == MatchApplicationAction.REJECT) {
+                    application.reject(processedAt);
+                } else {
+                    application.cancel(processedAt);
+                }
+                eventPublisher.publishEvent(MatchApplicationProcessedEvent.from(application));
+                results.add(MatchApplicationBulkResponse.Item.processed(applicationId, application.getStatus()));
+            }
+        }
+        return results;
+    }
+
+    private List<MatchApplicationBulkResponse.Item> accept(Long matchId, Set<Long> applicationIds,
+                                                           LocalDateTime processedAt) {
+        if (applicationIds.size() != 1) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "매치 신청은 한 번에 하나만 수락할 수 있습니다.");
+        }
+        Long applicationId = applicationIds.iterator().next();
+
+        MatchApplicationAcceptResponse accepted;
+        try {
+            accepted = matchApplicationAcceptService.accept(matchId, applicationId, processedAt);
+        } catch (GeneralException e) {
+            if (e.getErrorCode() == ResponseCode.MATCH_APPLICATION_NOT_FOUND
+                    || e.getErrorCode() == ResponseCode.MATCH_APPLICATION_ALREADY_PROCESSED) {
+                return List.of(MatchApplicationBulkResponse.Item.failed(applicationId, e.getErrorCode()));
+            }
+            throw e;
+        }
+
+        List<MatchApplicationBulkResponse.Item> results = new ArrayList<>(accepted.getRejectedApplicationIds().size() + 1);
+        results.add(MatchApplicationBulkResponse.Item.processed(accepted.getApplicationId(), MatchApplicationStatus.ACCEPTED));
+        for (Long rejectedId : accepted.getRejectedApplicationIds()) {
+            results.add(MatchApplicationBulkResponse.Item.processed(rejectedId, MatchApplicationStatus.REJECTED));
+        }
+        return results;
+    }
+
+    private void record(MatchApplicationAction action, String result, int count) {
+        if (count > 0) {
+            meterRegistry.counter("matchday.match.application.bulk.items",
+                    "action", action.name(), "result", result).increment(count);
+        }
+    }
+}
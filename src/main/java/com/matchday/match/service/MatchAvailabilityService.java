@@ -0,0 +1,39 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchAvailabilityResponse;
+import com.matchday.match.dto.MatchSlot;
+import com.matchday.match.index.MatchAvailabilityIndex;
+import com.matchday.match.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Service
+@RequiredArgsConstructor
+public class MatchAvailabilityService {
+
+    private final MatchAvailabilityIndex matchAvailabilityIndex;
+    private final MatchRepository matchRepository;
+
+    @Transactional(readOnly = true)
+    public MatchAvailabilityResponse getOpenMatches(District district, LocalDate date,
+                                                    LocalTime startTimeFrom, LocalTime startTimeTo) {
+        long[] matchIds = matchAvailabilityIndex.findOpenMatchIds(district, date, startTimeFrom, startTimeTo)
+                .orElseGet(() -> findFromDatabase(district, date, startTimeFrom, startTimeTo));
+        return new MatchAvailabilityResponse(district, date, matchIds);
+    }
+
+    // 인덱스 범위 밖(먼 미래, 기동 직후 등)은 DB 에서 조회한다
+    private long[] findFromDatabase(District district, LocalDate date, LocalTime from, LocalTime to) {
+        return matchRepository.findSlotsByDistrictAndDate(MatchStatus.OPEN, district, date).stream()
+                .filter(slot -> from == null || !slot.startTime().isBefore(from))
+                .filter(slot -> to == null || !slot.startTime().isAfter(to))
+                .mapToLong(MatchSlot::matchId)
+                .toArray();
+    }
+}
@@ -0,0 +1,94 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchCreateRequest;
+import com.matchday.match.dto.MatchUpdateRequest;
+import com.matchday.match.event.MatchCreatedEvent;
+import com.matchday.match.event.MatchDeletedEvent;
+import com.matchday.match.event.MatchSnapshot;
+import com.matchday.match.event.MatchUpdatedEvent;
+import com.matchday.match.repository.MatchApplicationRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.match.schedule.TeamScheduleGuard;
+import com.matchday.team.domain.Team;
+import com.matchday.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MatchCommandService {
+
+    private final MatchRepository matchRepository;
+    private final MatchApplicationRepository matchApplicationRepository;
+    private final TeamRepository teamRepository;
+    private final TeamScheduleGuard teamScheduleGuard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Long createMatch(MatchCreateRequest request) {
+        validateSchedule(request.getStartTime(), request.getEndTime());
+        if (request.getMatchSize().getSportsType() != request.getSportsType()) {
+            throw new GeneralException(ResponseCode.INVALID_SPORTS_TYPE);
+        }
+        Team homeTeam = teamRepository.findById(request.getHomeTeamId())
+                .orElseThrow(() -> new GeneralException(ResponseCode.CLUB_NOT_FOUND));
+
+        Match match = Match.createMatch(homeTeam, request.getDistrict(), request.getPlaceName(),
+                request.getDate(), request.getStartTime(), request.getEndTime(), request.getFee(),
+                request.getSportsType(), request.getMatchSize(), request.getHomeColor(), request.getHasBall());
+        matchRepository.save(match);
+        teamScheduleGuard.check(homeTeam.getId(), match.getId(), match.getDate(),
+                match.getStartTime(), match.getEndTime());
+
+        eventPublisher.publishEvent(new MatchCreatedEvent(MatchSnapshot.from(match)));
+        return match.getId();
+    }
+
+    public void updateMatch(Long matchId, MatchUpdateRequest request) {
+        validateSchedule(request.getStartTime(), request.getEndTime());
+        Match match = getOpenMatch(matchId);
+        City previousCity = match.getCity();
+
+        teamScheduleGuard.check(match.getHomeTeam().getId(), matchId,
+                request.getDate(), request.getStartTime(), request.getEndTime());
+        match.changeSchedule(request.getDistrict(), request.getPlaceName(), request.getDate(),
+                request.getStartTime(), request.getEndTime(), request.getFee());
+
+        eventPublisher.publishEvent(new MatchUpdatedEvent(MatchSnapshot.from(match), previousCity));
+    }
+
+    public void deleteMatch(Long matchId) {
+        Match match = getOpenMatch(matchId);
+        MatchSnapshot snapshot = MatchSnapshot.from(match);
+
+        matchApplicationRepository.deleteAllByMatchId(matchId);
+        matchRepository.delete(match);
+
+        eventPublisher.publishEvent(new MatchDeletedEvent(snapshot));
+    }
+
+    private Match getOpenMatch(Long matchId) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.MATCH_NOT_FOUND));
+        if (!match.isOpen()) {
+            throw new GeneralException(match.getStatus() == MatchStatus.CLOSED
+                    ? ResponseCode.MATCH_CLOSED : ResponseCode.MATCH_ALREADY_CONFIRMED);
+        }
+        return match;
+    }
+
+    private void validateSchedule(LocalTime startTime, LocalTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            throw new GeneralException(ResponseCode.MATCH_INVALID_SCHEDULE);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.MatchEntry;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchResultRequest;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.team.stats.TeamStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 경기 결과 기록/정정. 점수 저장과 양 팀 전적 반영이 한 트랜잭션에서 이루어지고,
+ * 같은 매치에 대한 동시 기록은 Match 의 @Version 으로 하나만 성공한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MatchResultService {
+
+    // 경기 종료 후 결과를 기록/정정할 수 있는 기간 (지나면 생명주기 엔진이 FINISHED 로 잠근다)
+    public static final Duration RESULT_EDITABLE_PERIOD = Duration.ofHours(48);
+
+    private final MatchRepository matchRepository;
+    private final MatchEntryRepository matchEntryRepository;
+    private final TeamStatsService teamStatsService;
+    private final Clock clock;
+
+    public void recordResult(Long matchId, MatchResultRequest request) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.MATCH_NOT_FOUND));
+        if (match.getStatus() == MatchStatus.FINISHED) {
+            throw new GeneralException(ResponseCode.MATCH_TIME_OUT);
+        }
+        if (match.getStatus() != MatchStatus.CONFIRMED) {
+            throw new GeneralException(ResponseCode.MATCH_NOT_CONFIRMED);
+        }
+        LocalDateTime endedAt = LocalDateTime.of(match.getDate(), match.getEndTime());
+        if (LocalDateTime.now(clock).isAfter(endedAt.plus(RESULT_EDITABLE_PERIOD))) {
+            throw new GeneralException(ResponseCode.MATCH_TIME_OUT);
+        }
+        MatchEntry away = matchEntryRepository.findFirstByMatchId(matchId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.MATCH_NOT_CONFIRMED));
+
+        match.recordResult(request.getHomeScore(), request.getAwayScore());
+        teamStatsService.applyResult(matchId, match.getHomeTeam().getId(), away.getTeam().getId(), match.getOutcome());
+    }
+}
@@ -0,0 +1,72 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.dto.MatchSearchCondition;
+import com.matchday.match.dto.MatchSearchCursor;
+import com.matchday.match.dto.MatchSummaryResponse;
+import com.matchday.match.feed.MatchFeedCache;
+import com.matchday.match.feed.MatchFeedKey;
+import com.matchday.match.repository.MatchSearchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+// 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 DB 조회에만 건다
+@Service
+public class MatchSearchService {
+
+    private final MatchSearchRepository matchSearchRepository;
+    private final MatchFeedCache matchFeedCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+
+    public MatchSearchService(MatchSearchRepository matchSearchRepository,
+                              MatchFeedCache matchFeedCache,
+                              PlatformTransactionManager transactionManager,
+                              Clock clock) {
+        this.matchSearchRepository = matchSearchRepository;
+        this.matchFeedCache = matchFeedCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+    }
+
+    public SliceResponse<MatchSummaryResponse> searchOpenMatches(MatchSearchCondition condition) {
+        LocalDate today = LocalDate.now(clock);
+
+        // 지난 날짜는 조회하지 않는다
+        LocalDate dateFrom = condition.getDateFrom() == null || condition.getDateFrom().isBefore(today)
+                ? today : condition.getDateFrom();
+        LocalDate dateTo = condition.getDateTo() == null
+                ? dateFrom.plusDays(MatchSearchCondition.DEFAULT_DAYS) : condition.getDateTo();
+        if (dateTo.isBefore(dateFrom)) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+
+        int size = condition.getSize() == null ? MatchSearchCondition.DEFAULT_SIZE : condition.getSize();
+        MatchSearchCursor cursor = condition.getCursor() == null ? null : MatchSearchCursor.decode(condition.getCursor());
+
+        MatchFeedKey key = new MatchFeedKey(condition.getCity(), condition.getDistrict(), dateFrom, dateTo,
+                condition.getStartTimeFrom(), condition.getStartTimeTo(), condition.getSportsType(),
+                condition.getMatchSize(), condition.getCursor(), size);
+        return matchFeedCache.get(key, () -> readOnlyTransaction.execute(
+                status -> search(condition, dateFrom, dateTo, cursor, size)));
+    }
+
+    private SliceResponse<MatchSummaryResponse> search(MatchSearchCondition condition, LocalDate dateFrom,
+                                                       LocalDate dateTo, MatchSearchCursor cursor, int size) {
+        List<MatchSummaryResponse> rows = matchSearchRepository.searchOpenMatches(condition, dateFrom, dateTo, cursor, size);
+        if (rows.size() <= size) {
+            return SliceResponse.of(rows, null);
+        }
+
+        List<MatchSummaryResponse> content = rows.subList(0, size);
+        return SliceResponse.of(content, MatchSearchCursor.from(content.get(size - 1)).encode());
+    }
+}
@@ -0,0 +1,39 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.global.streaming.JsonStreamingResponses;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.dto.MatchSearchCondition;
+import com.matchday.match.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * 페이지 없이 전체 목록을 내려받는 매치 목록. 조회와 직렬화는 응답을 쓰는 시점에 JsonStreamingResponses 가 수행하므로
+ * 여기서는 트랜잭션을 열지 않는다. 동시 스트림 수 제한(_SERVICE_BUSY)도 JsonStreamingResponses 가 팀 목록과 함께 건다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchStreamService {
+
+    private final MatchRepository matchRepository;
+    private final JsonStreamingResponses jsonStreamingResponses;
+    private final Clock clock;
+
+    public StreamingResponseBody streamOpenMatches(City city, LocalDate dateFrom, LocalDate dateTo) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = dateFrom == null || dateFrom.isBefore(today) ? today : dateFrom;
+        LocalDate to = dateTo == null ? from.plusDays(MatchSearchCondition.DEFAULT_DAYS) : dateTo;
+        if (to.isBefore(from)) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+
+        return jsonStreamingResponses.stream(() -> matchRepository.streamSummaries(MatchStatus.OPEN, city, from, to));
+    }
+}
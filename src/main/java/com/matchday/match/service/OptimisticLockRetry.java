@@ -0,0 +1,60 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @Version 충돌 시 작업 전체를 새 트랜잭션으로 제한된 횟수만큼 다시 실행한다.
+ * 재시도마다 엔티티를 다시 읽으므로 콜백은 최신 상태를 기준으로 다시 판단하게 된다.
+ * {metricPrefix}.retries / {metricPrefix}.conflicts 로 재시도와 최종 실패 횟수를 기록한다.
+ */
+@Slf4j
+class OptimisticLockRetry {
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 10;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Counter retries;
+    private final Counter conflicts;
+
+    OptimisticLockRetry(TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, String metricPrefix) {
+        this.transactionTemplate = transactionTemplate;
+        this.retries = Counter.builder(metricPrefix + ".retries").register(meterRegistry);
+        this.conflicts = Counter.builder(metricPrefix + ".conflicts").register(meterRegistry);
+    }
+
+    <T> T execute(TransactionCallback<T> callback) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(callback);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    conflicts.increment();
+                    throw e;
+                }
+                retries.increment();
+                log.debug("낙관적 락 충돌, 재시도합니다. (attempt={}, cause={})", attempt, e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long millis = BASE_BACKOFF_MILLIS * attempt + ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ResponseCode._SERVICE_BUSY, e);
+        }
+    }
+}
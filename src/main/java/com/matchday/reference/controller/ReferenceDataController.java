@@ -0,0 +1,129 @@
+package com.matchday.reference.controller;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.reference.service.PreparedResponse;
+import com.matchday.reference.service.ReferenceDataRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 지역/종목/포지션 등 기준 데이터 조회. 미리 직렬화한 byte[] 를 그대로 내려주며,
+ * If-None-Match 가 일치하면 본문 없이 304 로 응답한다.
+ */
+@Tag(name = "Reference", description = "기준 데이터 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reference")
+public class ReferenceDataController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @Operation(summary = "시/도 목록")
+    @GetMapping("/cities")
+    public ResponseEntity<byte[]> cities(HttpServletRequest request) {
+        return respond(referenceDataRegistry.cities(), request);
+    }
+
+    @Operation(summary = "시/도의 구/군 목록", description = "시/도는 상수 이름(SEOUL) 또는 한글 이름(서울특별시)으로 지정합니다.")
+    @GetMapping("/cities/{city}/districts")
+    public ResponseEntity<byte[]> districts(@PathVariable City city, HttpServletRequest request) {
+        return respond(referenceDataRegistry.districts(city), request);
+    }
+
+    @Operation(summary = "종목 목록")
+    @GetMapping("/sports-types")
+    public ResponseEntity<byte[]> sportsTypes(HttpServletRequest request) {
+        return respond(referenceDataRegistry.sportsTypes(), request);
+    }
+
+    @Operation(summary = "종목별 매치 인원 목록")
+    @GetMapping("/sports-types/{sportsType}/match-sizes")
+    public ResponseEntity<byte[]> matchSizes(@PathVariable SportsType sportsType, HttpServletRequest request) {
+        return respond(referenceDataRegistry.matchSizes(sportsType), request);
+    }
+
+    @Operation(summary = "포지션 목록")
+    @GetMapping("/positions")
+    public ResponseEntity<byte[]> positions(HttpServletRequest request) {
+        return respond(referenceDataRegistry.positions(), request);
+    }
+
+    @Operation(summary = "팀 유형 목록")
+    @GetMapping("/team-types")
+    public ResponseEntity<byte[]> teamTypes(HttpServletRequest request) {
+        return respond(referenceDataRegistry.teamTypes(), request);
+    }
+
+    @Operation(summary = "팀 성별 구성 목록")
+    @GetMapping("/group-genders")
+    public ResponseEntity<byte[]> groupGenders(HttpServletRequest request) {
+        return respond(referenceDataRegistry.groupGenders(), request);
+    }
+
+    @Operation(summary = "주발 목록")
+    @GetMapping("/foot-types")
+    public ResponseEntity<byte[]> footTypes(HttpServletRequest request) {
+        return respond(referenceDataRegistry.footTypes(), request);
+    }
+
+    private ResponseEntity<byte[]> respond(PreparedResponse prepared, HttpServletRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? prepared.gzipEtag() : prepared.etag();
+
+        if (notModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CACHE_CONTROL)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CACHE_CONTROL)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(prepared.gzipBody());
+        }
+        return response.body(prepared.body());
+    }
+
+    // If-None-Match 는 weak 비교(W/ 접두사 무시)로 목록 중 하나라도 같으면 일치로 본다
+    static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        // "gzip;q=0" 같은 명시적 거부는 드물어 단순 포함 여부로 판단한다
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
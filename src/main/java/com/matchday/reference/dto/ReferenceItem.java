@@ -0,0 +1,5 @@
+package com.matchday.reference.dto;
+
+// 기준 데이터 한 항목: 요청에 쓰는 상수 이름과 화면에 표시할 이름
+public record ReferenceItem(String code, String name) {
+}
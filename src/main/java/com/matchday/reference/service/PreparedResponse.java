@@ -0,0 +1,8 @@
+package com.matchday.reference.service;
+
+/**
+ * 기동 시 한 번 직렬화해 둔 응답 본문. 원본과 gzip 본문, 각 표현의 strong ETag 를 함께 보관한다.
+ * 배열은 외부에 그대로 내보내지만 응답 본문으로만 쓰이고 수정하지 않는다.
+ */
+public record PreparedResponse(byte[] body, String etag, byte[] gzipBody, String gzipEtag) {
+}
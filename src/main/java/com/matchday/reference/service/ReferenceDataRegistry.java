@@ -0,0 +1,143 @@
+package com.matchday.reference.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.reference.dto.ReferenceItem;
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.Position;
+import com.matchday.team.domain.enums.TeamType;
+import com.matchday.user.domain.enums.FootType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기준 데이터(enum) 응답을 기동 시 BaseResponse 로 감싸 미리 직렬화/압축해 둔다.
+ * 값은 배포 단위로만 바뀌므로 ETag 는 본문 해시로 만들고, 요청 처리 중에는 Jackson 을 거치지 않는다.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    private final ObjectMapper objectMapper;
+
+    private final PreparedResponse cities;
+    private final Map<City, PreparedResponse> districtsByCity = new EnumMap<>(City.class);
+    private final PreparedResponse sportsTypes;
+    private final Map<SportsType, PreparedResponse> matchSizesBySportsType = new EnumMap<>(SportsType.class);
+    private final PreparedResponse positions;
+    private final PreparedResponse teamTypes;
+    private final PreparedResponse groupGenders;
+    private final PreparedResponse footTypes;
+
+    public ReferenceDataRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        this.cities = prepare(items(City.values(), City::getKoreanName));
+        for (City city : City.values()) {
+            districtsByCity.put(city, prepare(items(District.getDistrictsByCity(city), District::getKoreanName)));
+        }
+        this.sportsTypes = prepare(items(SportsType.values(), SportsType::getKoreanName));
+        for (SportsType sportsType : SportsType.values()) {
+            matchSizesBySportsType.put(sportsType,
+                    prepare(items(MatchSize.getMatchSizeBySportsType(sportsType), Enum::name)));
+        }
+        this.positions = prepare(items(Position.values(), Enum::name));
+        this.teamTypes = prepare(items(TeamType.values(), TeamType::getDescription));
+        this.groupGenders = prepare(items(GroupGender.values(), GroupGender::getDescription));
+        this.footTypes = prepare(items(FootType.values(), FootType::getDescription));
+    }
+
+    public PreparedResponse cities() {
+        return cities;
+    }
+
+    public PreparedResponse districts(City city) {
+        return districtsByCity.get(city);
+    }
+
+    public PreparedResponse sportsTypes() {
+        return sportsTypes;
+    }
+
+    public PreparedResponse matchSizes(SportsType sportsType) {
+        return matchSizesBySportsType.get(sportsType);
+    }
+
+    public PreparedResponse positions() {
+        return positions;
+    }
+
+    public PreparedResponse teamTypes() {
+        return teamTypes;
+    }
+
+    public PreparedResponse groupGenders() {
+        return groupGenders;
+    }
+
+    public PreparedResponse footTypes() {
+        return footTypes;
+    }
+
+    private static <E extends Enum<E>> List<ReferenceItem> items(E[] values, Function<E, String> name) {
+        List<ReferenceItem> items = new ArrayList<>(values.length);
+        for (E value : values) {
+            items.add(new ReferenceItem(value.name(), name.apply(value)));
+        }
+        return items;
+    }
+
+    private PreparedResponse prepare(List<ReferenceItem> items) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(BaseResponse.onSuccess(items, ResponseCode.OK));
+            byte[] gzipBody = gzip(body);
+            String hash = sha256(body);
+            return new PreparedResponse(body, "\"" + hash + "\"", gzipBody, "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기준 데이터 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            // 충돌 가능성이 무시할 만한 길이(128bit)만 쓴다
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.matchday.review.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.monitoring.query.QueryBudget;
+import com.matchday.review.dto.ReviewCreateRequest;
+import com.matchday.review.dto.ReviewSummaryResponse;
+import com.matchday.review.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Review", description = "매치 리뷰/평점 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @Operation(summary = "리뷰 작성", description = "경기가 끝난 매치의 원정 팀 소속 회원이 매치당 한 번 작성할 수 있습니다.")
+    @PostMapping("/matches/{matchId}/reviews")
+    public BaseResponse<Long> write(@PathVariable Long matchId, @Valid @RequestBody ReviewCreateRequest request) {
+        return BaseResponse.onSuccess(reviewService.write(matchId, request), ResponseCode.OK);
+    }
+
+    @Operation(summary = "리뷰 삭제", description = "작성자만 삭제할 수 있습니다.")
+    @DeleteMapping("/reviews/{reviewId}")
+    public BaseResponse<Void> delete(@PathVariable Long reviewId, @RequestParam Long userId) {
+        reviewService.delete(reviewId, userId);
+        return BaseResponse.onSuccess(null, ResponseCode.OK);
+    }
+
+    @Operation(summary = "매치 평점 요약", description = "평균과 점수별 분포를 미리 계산된 누적값으로 조회합니다.")
+    @QueryBudget(1)
+    @GetMapping("/matches/{matchId}/reviews/summary")
+    public BaseResponse<ReviewSummaryResponse> getMatchSummary(@PathVariable Long matchId) {
+        return BaseResponse.onSuccess(reviewService.getMatchSummary(matchId), ResponseCode.OK);
+    }
+
+    @Operation(summary = "팀 평점 요약", description = "팀이 홈으로 연 매치들의 평균과 점수별 분포를 조회합니다.")
+    @QueryBudget(1)
+    @GetMapping("/teams/{teamId}/reviews/summary")
+    public BaseResponse<ReviewSummaryResponse> getTeamSummary(@PathVariable Long teamId) {
+        return BaseResponse.onSuccess(reviewService.getTeamSummary(teamId), ResponseCode.OK);
+    }
+}
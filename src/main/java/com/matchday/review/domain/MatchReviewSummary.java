@@ -0,0 +1,19 @@
+package com.matchday.review.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 매치별 평점 누적값 (MatchReviewSummaryRepository 의 upsert 로만 갱신)
+@Getter
+@Entity
+@Table(name = "match_review_summary")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchReviewSummary {
+    @Id
+    private Long matchId;
+
+    @Embedded
+    private RatingStats stats;
+}
@@ -0,0 +1,41 @@
+package com.matchday.review.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 평점 누적값(개수, 합계, 점수별 개수). 리뷰가 추가/삭제될 때 DB 에서 원자적으로 증감되며,
+ * 읽을 때는 평균과 분포를 바로 계산한다.
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingStats {
+    @Column(nullable = false)
+    private int reviewCount;
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private int rating1;
+    @Column(nullable = false)
+    private int rating2;
+    @Column(nullable = false)
+    private int rating3;
+    @Column(nullable = false)
+    private int rating4;
+    @Column(nullable = false)
+    private int rating5;
+
+    public double average() {
+        return reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+    }
+
+    // 1점부터 5점까지 순서대로
+    public int[] distribution() {
+        return new int[]{rating1, rating2, rating3, rating4, rating5};
+    }
+}
@@ -1,19 +1,51 @@
 package com.matchday.review.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.match.domain.Match;
+import com.matchday.user.domain.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+// 원정 팀 소속 회원이 남기는 매치(홈 팀) 리뷰. 한 회원은 매치당 하나만 남길 수 있다
+@Getter
 @Entity
+@Table(name = "review", uniqueConstraints = @UniqueConstraint(
+        // match_id 로 시작하므로 매치별 조회 인덱스를 겸한다
+        name = "uk_review_match_reviewer", columnNames = {"match_id", "reviewer_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends BaseEntity {
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
     private Match match;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private User reviewer;
+
     @Column(nullable = false)
     private Integer rating;
+    @Column(length = 500)
     private String content;
+
+    public static Review write(Match match, User reviewer, int rating, String content) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new IllegalArgumentException("평점은 1~5 사이여야 합니다.");
+        }
+        Review review = new Review();
+        review.match = match;
+        review.reviewer = reviewer;
+        review.rating = rating;
+        review.content = content;
+        return review;
+    }
 }
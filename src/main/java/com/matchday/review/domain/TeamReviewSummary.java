@@ -0,0 +1,19 @@
+package com.matchday.review.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 홈 팀별 평점 누적값 (TeamReviewSummaryRepository 의 upsert 로만 갱신)
+@Getter
+@Entity
+@Table(name = "team_review_summary")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamReviewSummary {
+    @Id
+    private Long teamId;
+
+    @Embedded
+    private RatingStats stats;
+}
@@ -0,0 +1,23 @@
+package com.matchday.review.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCreateRequest {
+    @NotNull
+    private Long userId;
+    @NotNull
+    @Min(1)
+    @Max(5)
+    private Integer rating;
+    @Size(max = 500)
+    private String content;
+}
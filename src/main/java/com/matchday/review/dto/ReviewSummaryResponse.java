@@ -0,0 +1,19 @@
+package com.matchday.review.dto;
+
+import com.matchday.review.domain.RatingStats;
+
+/**
+ * @param average      소수 둘째 자리까지 반올림한 평균 (리뷰가 없으면 0)
+ * @param distribution 1점부터 5점까지 점수별 리뷰 수
+ */
+public record ReviewSummaryResponse(int reviewCount, double average, int[] distribution) {
+
+    public static ReviewSummaryResponse of(RatingStats stats) {
+        return new ReviewSummaryResponse(stats.getReviewCount(), Math.round(stats.average() * 100) / 100.0,
+                stats.distribution());
+    }
+
+    public static ReviewSummaryResponse empty() {
+        return new ReviewSummaryResponse(0, 0, new int[5]);
+    }
+}
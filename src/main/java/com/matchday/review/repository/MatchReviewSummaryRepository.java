@@ -0,0 +1,29 @@
+package com.matchday.review.repository;
+
+import com.matchday.review.domain.MatchReviewSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MatchReviewSummaryRepository extends JpaRepository<MatchReviewSummary, Long> {
+
+    // 없으면 만들고 있으면 증감한다 (delta: 추가 1, 삭제 -1). 한 문장이라 동시 리뷰에도 누락이 없다
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into match_review_summary (match_id, review_count, rating_sum,
+                                              rating1, rating2, rating3, rating4, rating5)
+            values (:matchId, :delta, :delta * :rating,
+                    if(:rating = 1, :delta, 0), if(:rating = 2, :delta, 0), if(:rating = 3, :delta, 0),
+                    if(:rating = 4, :delta, 0), if(:rating = 5, :delta, 0)) as d
+            on duplicate key update
+                review_count = review_count + d.review_count,
+                rating_sum = rating_sum + d.rating_sum,
+                rating1 = rating1 + d.rating1,
+                rating2 = rating2 + d.rating2,
+                rating3 = rating3 + d.rating3,
+                rating4 = rating4 + d.rating4,
+                rating5 = rating5 + d.rating5
+            """, nativeQuery = true)
+    int applyDelta(@Param("matchId") Long matchId, @Param("rating") int rating, @Param("delta") int delta);
+}
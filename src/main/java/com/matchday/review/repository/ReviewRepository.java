@@ -0,0 +1,9 @@
+package com.matchday.review.repository;
+
+import com.matchday.review.domain.Review;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    boolean existsByMatchIdAndReviewerId(Long matchId, Long reviewerId);
+}
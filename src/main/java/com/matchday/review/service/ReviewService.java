@@ -0,0 +1,110 @@
+package com.matchday.review.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.MatchEntry;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.review.domain.MatchReviewSummary;
+import com.matchday.review.domain.Review;
+import com.matchday.review.domain.TeamReviewSummary;
+import com.matchday.review.dto.ReviewCreateRequest;
+import com.matchday.review.dto.ReviewSummaryResponse;
+import com.matchday.review.repository.MatchReviewSummaryRepository;
+import com.matchday.review.repository.ReviewRepository;
+import com.matchday.review.repository.TeamReviewSummaryRepository;
+import com.matchday.team.repository.TeamUserRepository;
+import com.matchday.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 작성/삭제와 평점 요약 조회. 리뷰를 추가/삭제하는 트랜잭션에서 매치별·홈 팀별 누적값을 함께 증감하므로
+ * 요약 조회는 리뷰를 모으지 않고 PK 한 건만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReviewService {
+
+    private final ReviewRepository reviewRepository;
+    private final MatchReviewSummaryRepository matchReviewSummaryRepository;
+    private final TeamReviewSummaryRepository teamReviewSummaryRepository;
+    private final MatchRepository matchRepository;
+    private final MatchEntryRepository matchEntryRepository;
+    private final TeamUserRepository teamUserRepository;
+    private final UserRepository userRepository;
+    private final Clock clock;
+
+    public Long write(Long matchId, ReviewCreateRequest request) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.MATCH_NOT_FOUND));
+        if (match.getStatus() != MatchStatus.CONFIRMED && match.getStatus() != MatchStatus.FINISHED) {
+            throw new GeneralException(ResponseCode.MATCH_NOT_CONFIRMED);
+        }
+        if (LocalDateTime.now(clock).isBefore(LocalDateTime.of(match.getDate(), match.getEndTime()))) {
+            throw new GeneralException(ResponseCode.REVIEW_MATCH_NOT_ENDED);
+        }
+        Long awayTeamId = matchEntryRepository.findFirstByMatchId(matchId)
+                .map(MatchEntry::getTeam)
+                .orElseThrow(() -> new GeneralException(ResponseCode.MATCH_NOT_CONFIRMED))
+                .getId();
+        if (!teamUserRepository.existsByTeamIdAndUserId(awayTeamId, request.getUserId())) {
+            throw new GeneralException(ResponseCode.MATCH_USER_NOT_ATTENDANCE);
+        }
+        if (reviewRepository.existsByMatchIdAndReviewerId(matchId, request.getUserId())) {
+            throw new GeneralException(ResponseCode.REVIEW_ALREADY_FOUND);
+        }
+
+        Review review;
+        try {
+            // 동시에 같은 회원이 작성하면 uk_review_match_reviewer 가 하나만 남긴다
+            review = reviewRepository.saveAndFlush(Review.write(match,
+                    userRepository.getReferenceById(request.getUserId()), request.getRating(), request.getContent()));
+        } catch (DataIntegrityViolationException e) {
+            throw new GeneralException(ResponseCode.REVIEW_ALREADY_FOUND, e);
+        }
+        applyDelta(matchId, match.getHomeTeam().getId(), review.getRating(), 1);
+        return review.getId();
+    }
+
+    public void delete(Long reviewId, Long userId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.REVIEW_NOT_FOUND));
+        if (!review.getReviewer().getId().equals(userId)) {
+            throw new GeneralException(ResponseCode._FORBIDDEN);
+        }
+        Match match = review.getMatch();
+        reviewRepository.delete(review);
+        applyDelta(match.getId(), match.getHomeTeam().getId(), review.getRating(), -1);
+    }
+
+    // O(1): PK 한 건
+    @Transactional(readOnly = true)
+    public ReviewSummaryResponse getMatchSummary(Long matchId) {
+        return matchReviewSummaryRepository.findById(matchId)
+                .map(MatchReviewSummary::getStats)
+                .map(ReviewSummaryResponse::of)
+                .orElseGet(ReviewSummaryResponse::empty);
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewSummaryResponse getTeamSummary(Long teamId) {
+        return teamReviewSummaryRepository.findById(teamId)
+                .map(TeamReviewSummary::getStats)
+                .map(ReviewSummaryResponse::of)
+                .orElseGet(ReviewSummaryResponse::empty);
+    }
+
+    private void applyDelta(Long matchId, Long homeTeamId, int rating, int delta) {
+        matchReviewSummaryRepository.applyDelta(matchId, rating, delta);
+        teamReviewSummaryRepository.applyDelta(homeTeamId, rating, delta);
+    }
+}
@@ -0,0 +1,47 @@
+package com.matchday.team.cache;
+
+import com.matchday.team.event.TeamRosterChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팀 명단 2차 캐시 영역과 무효화.
+ * <ul>
+ *     <li>{@value #TEAM_REGION}: Team 엔티티 (READ_WRITE, Hibernate 가 엔티티 변경 시 직접 갱신)</li>
+ *     <li>{@value #ROSTER_REGION}: 팀원 명단 projection 쿼리 결과</li>
+ * </ul>
+ * 쿼리 캐시는 team_user/users 테이블 갱신 시각으로도 무효화되지만, 네이티브 쿼리로 바뀐 명단을 놓치지 않도록
+ * 가입/탈퇴/역할 변경 커밋 후 이 인스턴스의 명단 영역을 명시적으로 비운다.
+ * 쿼리 캐시는 파라미터별로 비울 수 없으므로 영역 전체를 비운다 (명단 변경은 조회보다 훨씬 드물다).
+ * 캐시는 인스턴스마다 로컬이므로 다른 인스턴스의 변경은 비우지 못한다. 그 지연은 application.conf 의
+ * 저장 시각 기준 만료(team.roster 1분, team 5분)가 상한이 된다.
+ */
+@Slf4j
+@Component
+public class TeamRosterCache {
+
+    public static final String TEAM_REGION = "team";
+    public static final String ROSTER_REGION = "team.roster";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Counter evictions;
+
+    public TeamRosterCache(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.evictions = Counter.builder("matchday.team.roster.cache.evictions").register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onRosterChanged(TeamRosterChangedEvent event) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictQueryRegion(ROSTER_REGION);
+        evictions.increment();
+        log.debug("팀 명단 캐시를 비웠습니다. (teamId={}, userId={})", event.teamId(), event.userId());
+    }
+}
@@ -0,0 +1,33 @@
+package com.matchday.team.controller;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.service.TeamStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Team", description = "팀 목록 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/teams")
+public class TeamListController {
+
+    private final TeamStreamService teamStreamService;
+
+    @Operation(summary = "지역 팀 전체 목록", description = "페이지 없이 지역의 모든 팀을 스트리밍으로 내려줍니다.")
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamTeams(@RequestParam City city,
+                                                             @RequestParam(required = false) District district) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(teamStreamService.streamTeams(city, district));
+    }
+}
@@ -0,0 +1,60 @@
+package com.matchday.team.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.team.dto.MyTeamResponse;
+import com.matchday.team.dto.TeamJoinRequest;
+import com.matchday.team.dto.TeamRoleChangeRequest;
+import com.matchday.team.dto.TeamRosterResponse;
+import com.matchday.team.service.TeamMemberService;
+import com.matchday.team.service.TeamRosterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Team Member", description = "팀 명단/가입/탈퇴 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class TeamMemberController {
+
+    private final TeamRosterService teamRosterService;
+    private final TeamMemberService teamMemberService;
+
+    @Operation(summary = "팀 명단 조회", description = "팀원의 역할/등번호/포지션을 한 번에 조회합니다.")
+    @GetMapping("/teams/{teamId}/members")
+    public BaseResponse<TeamRosterResponse> getRoster(@PathVariable Long teamId) {
+        return BaseResponse.onSuccess(teamRosterService.getRoster(teamId), ResponseCode.OK);
+    }
+
+    @Operation(summary = "내 팀 목록 조회")
+    @GetMapping("/users/{userId}/teams")
+    public BaseResponse<List<MyTeamResponse>> getTeamsOfUser(@PathVariable Long userId) {
+        return BaseResponse.onSuccess(teamRosterService.getTeamsOfUser(userId), ResponseCode.OK);
+    }
+
+    @Operation(summary = "팀 가입", description = "초대 코드로 팀에 가입합니다.")
+    @PostMapping("/teams/{teamId}/members")
+    public BaseResponse<Long> join(@PathVariable Long teamId, @Valid @RequestBody TeamJoinRequest request) {
+        return BaseResponse.onSuccess(teamMemberService.join(teamId, request), ResponseCode.OK);
+    }
+
+    @Operation(summary = "팀 탈퇴")
+    @DeleteMapping("/teams/{teamId}/members/{userId}")
+    public BaseResponse<Void> leave(@PathVariable Long teamId, @PathVariable Long userId) {
+        teamMemberService.leave(teamId, userId);
+        return BaseResponse.onSuccess(null, ResponseCode.OK);
+    }
+
+    @Operation(summary = "팀원 역할 변경")
+    @PatchMapping("/teams/{teamId}/members/{userId}/role")
+    public BaseResponse<Void> changeRole(@PathVariable Long teamId, @PathVariable Long userId,
+                                         @Valid @RequestBody TeamRoleChangeRequest request) {
+        teamMemberService.changeRole(teamId, userId, request.getRole());
+        return BaseResponse.onSuccess(null, ResponseCode.OK);
+    }
+}
@@ -0,0 +1,52 @@
+package com.matchday.team.controller;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.TeamType;
+import com.matchday.team.dto.RankingPageResponse;
+import com.matchday.team.dto.TeamRankResponse;
+import com.matchday.team.ranking.TeamRankingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Team Ranking", description = "지역별 팀 랭킹 API")
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/rankings")
+public class TeamRankingController {
+
+    private final TeamRankingService teamRankingService;
+
+    @Operation(summary = "지역 랭킹 조회", description = "승점(승 3, 무 1) > 승 > 패 순으로 정렬된 순위를 페이지 단위로 조회합니다.")
+    @GetMapping
+    public BaseResponse<RankingPageResponse> getRankings(
+            @RequestParam City city,
+            @RequestParam(required = false) District district,
+            @RequestParam(required = false) TeamType type,
+            @RequestParam(required = false) GroupGender gender,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return BaseResponse.onSuccess(
+                teamRankingService.getRankings(city, district, type, gender, page, size), ResponseCode.OK);
+    }
+
+    @Operation(summary = "팀 순위 조회", description = "팀이 속한 구/군(또는 시/도) 보드에서의 순위를 조회합니다.")
+    @GetMapping("/teams/{teamId}")
+    public BaseResponse<TeamRankResponse> getTeamRank(
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "true") boolean districtScope,
+            @RequestParam(required = false) TeamType type,
+            @RequestParam(required = false) GroupGender gender) {
+        return BaseResponse.onSuccess(
+                teamRankingService.getTeamRank(teamId, districtScope, type, gender), ResponseCode.OK);
+    }
+}
@@ -1,20 +1,27 @@
 package com.matchday.team.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.global.entity.enums.City;
 import com.matchday.global.entity.enums.District;
 import com.matchday.team.domain.enums.GroupGender;
 import com.matchday.team.domain.enums.TeamType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+@Getter
 @Entity
 @Table(name = "team")
+// 팀 페이지/매치 목록마다 읽히지만 거의 바뀌지 않으므로 2차 캐시에 둔다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 @NoArgsConstructor
 public class Team extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
     
     @Column(nullable = false)
@@ -56,4 +63,12 @@ public class Team extends BaseEntity {
     private Integer statsDraws = 0;
     private Integer statsLosses = 0;
 
+    // 정원 초과 여부 (memberLimit 0 은 제한 없음)
+    public boolean isFull(long memberCount) {
+        return memberLimit > 0 && memberCount >= memberLimit;
+    }
+
+    public boolean matchesInviteCode(String inviteCode) {
+        return this.inviteCode.equals(inviteCode);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.matchday.team.domain;
+
+import com.matchday.global.entity.BaseEntity;
+import com.matchday.match.domain.enums.MatchOutcome;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매치별로 팀 전적에 이미 반영한 결과. match_id 가 PK 이므로 같은 결과를 여러 번 기록해도
+ * 전적은 한 번만 반영되고, 결과가 정정되면 이전 반영분을 되돌린 뒤 새 결과를 반영한다.
+ */
+@Getter
+@Entity
+@Table(name = "team_stats_ledger")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamStatsLedger extends BaseEntity {
+    @Id
+    private Long matchId;
+
+    @Column(nullable = false)
+    private Long homeTeamId;
+    @Column(nullable = false)
+    private Long awayTeamId;
+
+    // 홈 팀 기준 결과
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MatchOutcome homeOutcome;
+
+    public static TeamStatsLedger record(Long matchId, Long homeTeamId, Long awayTeamId, MatchOutcome homeOutcome) {
+        TeamStatsLedger ledger = new TeamStatsLedger();
+        ledger.matchId = matchId;
+        ledger.homeTeamId = homeTeamId;
+        ledger.awayTeamId = awayTeamId;
+        ledger.homeOutcome = homeOutcome;
+        return ledger;
+    }
+
+    public void correct(MatchOutcome homeOutcome) {
+        this.homeOutcome = homeOutcome;
+    }
+}
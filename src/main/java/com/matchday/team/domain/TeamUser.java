@@ -1,20 +1,32 @@
 package com.matchday.team.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.team.domain.enums.TeamRole;
 import com.matchday.user.domain.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+@Getter
 @Entity
+@Table(name = "team_user",
+        // 한 팀에 같은 회원은 한 번만 가입, "내 팀" 조회는 user_id 로 찾는다
+        uniqueConstraints = @UniqueConstraint(name = "uk_team_user_team_user", columnNames = {"team_id", "user_id"}),
+        indexes = @Index(name = "idx_team_user_user", columnList = "user_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TeamUser extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
     private Team team;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
     private User user;
 
     @Enumerated(EnumType.STRING)
@@ -22,4 +34,20 @@ public class TeamUser extends BaseEntity {
 
     private Integer score;
     private Integer backNumber;
+
+    // 팀 가입 팩토리 메서드
+    public static TeamUser join(Team team, User user, TeamRole role, Integer backNumber) {
+        TeamUser teamUser = new TeamUser();
+        teamUser.team = team;
+        teamUser.user = user;
+        teamUser.role = role;
+        teamUser.backNumber = backNumber;
+        teamUser.setCreatedDate();
+        return teamUser;
+    }
+
+    // 팀 내 역할 변경
+    public void changeRole(TeamRole role) {
+        this.role = role;
+    }
 }
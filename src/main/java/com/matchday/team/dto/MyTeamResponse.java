@@ -0,0 +1,20 @@
+package com.matchday.team.dto;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.enums.TeamRole;
+import com.matchday.team.domain.enums.TeamType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MyTeamResponse {
+    private Long teamId;
+    private String name;
+    private TeamType type;
+    private City city;
+    private District district;
+    private String profileImageUrl;
+    private TeamRole role;
+}
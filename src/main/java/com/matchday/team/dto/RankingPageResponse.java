@@ -0,0 +1,16 @@
+package com.matchday.team.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RankingPageResponse {
+    // 보드 전체 팀 수
+    private int total;
+    private int page;
+    private int size;
+    private List<TeamRankingResponse> rankings;
+}
@@ -0,0 +1,22 @@
+package com.matchday.team.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamJoinRequest {
+    @NotNull
+    private Long userId;
+    @NotBlank
+    private String inviteCode;
+    @Min(0)
+    @Max(99)
+    private Integer backNumber;
+}
@@ -0,0 +1,17 @@
+package com.matchday.team.dto;
+
+import com.matchday.team.domain.enums.Position;
+import com.matchday.team.domain.enums.TeamRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamMemberResponse {
+    private Long userId;
+    private String name;
+    private TeamRole role;
+    private Integer backNumber;
+    private Position mainPosition;
+    private Position subPosition;
+}
@@ -0,0 +1,11 @@
+package com.matchday.team.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamRankResponse {
+    private int total;
+    private TeamRankingResponse team;
+}
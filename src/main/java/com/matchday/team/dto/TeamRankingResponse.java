@@ -0,0 +1,21 @@
+package com.matchday.team.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamRankingResponse {
+    private int rank;
+    private Long teamId;
+    private String name;
+    private int points;
+    private int wins;
+    private int draws;
+    private int losses;
+
+    public static TeamRankingResponse of(int rank, TeamStanding standing) {
+        return new TeamRankingResponse(rank, standing.teamId(), standing.name(), standing.points(),
+                standing.wins(), standing.draws(), standing.losses());
+    }
+}
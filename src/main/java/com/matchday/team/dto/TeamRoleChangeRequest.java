@@ -0,0 +1,15 @@
+package com.matchday.team.dto;
+
+import com.matchday.team.domain.enums.TeamRole;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamRoleChangeRequest {
+    @NotNull
+    private TeamRole role;
+}
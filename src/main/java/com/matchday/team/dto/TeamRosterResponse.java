@@ -0,0 +1,20 @@
+package com.matchday.team.dto;
+
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.TeamType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TeamRosterResponse {
+    private Long teamId;
+    private String name;
+    private TeamType type;
+    private GroupGender gender;
+    private Integer memberLimit;
+    private int memberCount;
+    private List<TeamMemberResponse> members;
+}
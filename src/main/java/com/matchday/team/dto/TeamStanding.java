@@ -0,0 +1,26 @@
+package com.matchday.team.dto;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.TeamType;
+
+import java.util.Comparator;
+
+/**
+ * 랭킹 보드에 올라가는 팀 전적. 승점(승 3, 무 1) > 승 > 패(적을수록) > 팀 id 순으로 정렬한다.
+ */
+public record TeamStanding(Long teamId, String name, City city, District district,
+                           TeamType type, GroupGender gender,
+                           int wins, int draws, int losses) {
+
+    public static final Comparator<TeamStanding> RANKING_ORDER = Comparator
+            .comparingInt(TeamStanding::points).reversed()
+            .thenComparing(Comparator.comparingInt(TeamStanding::wins).reversed())
+            .thenComparingInt(TeamStanding::losses)
+            .thenComparing(TeamStanding::teamId);
+
+    public int points() {
+        return wins * 3 + draws;
+    }
+}
@@ -0,0 +1,4 @@
+package com.matchday.team.dto;
+
+public record TeamStatsRow(Long teamId, Integer wins, Integer draws, Integer losses) {
+}
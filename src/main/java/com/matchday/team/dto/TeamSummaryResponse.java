@@ -0,0 +1,21 @@
+package com.matchday.team.dto;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.TeamType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팀 목록 화면에 필요한 컬럼만 담는 projection (JPQL constructor expression 으로 생성)
+@Getter
+@AllArgsConstructor
+public class TeamSummaryResponse {
+    private Long id;
+    private String name;
+    private City city;
+    private District district;
+    private TeamType type;
+    private GroupGender gender;
+    private String profileImageUrl;
+}
@@ -0,0 +1,5 @@
+package com.matchday.team.event;
+
+// 가입/탈퇴/역할 변경으로 팀 명단이 바뀌었음을 알린다
+public record TeamRosterChangedEvent(Long teamId, Long userId) {
+}
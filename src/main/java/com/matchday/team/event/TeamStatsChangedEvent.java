@@ -0,0 +1,7 @@
+package com.matchday.team.event;
+
+import java.util.List;
+
+// 팀 전적(승/무/패)이 바뀐 팀들
+public record TeamStatsChangedEvent(List<Long> teamIds) {
+}
@@ -0,0 +1,191 @@
+package com.matchday.team.ranking;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 서브트리 크기를 함께 관리하는 treap. 삽입/삭제/순위/k번째 조회가 기대 O(log n),
+ * offset 부터 k 개를 꺼내는 페이지 조회가 O(log n + k) 이다.
+ * comparator 기준으로 같은 원소는 한 번만 들어간다. 동기화는 호출자(RankingBoard)가 담당한다.
+ */
+class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean add(T value) {
+        if (contains(value)) {
+            return false;
+        }
+        Node<T>[] parts = split(root, value);
+        root = merge(merge(parts[0], new Node<>(value, random.nextInt())), parts[1]);
+        return true;
+    }
+
+    boolean remove(T value) {
+        if (!contains(value)) {
+            return false;
+        }
+        root = remove(root, value);
+        return true;
+    }
+
+    boolean contains(T value) {
+        return rank(value) >= 0;
+    }
+
+    // value 앞에 있는 원소 수 (0부터 시작하는 순위), 없으면 -1
+    int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int compared = comparator.compare(value, node.value);
+            if (compared < 0) {
+                node = node.left;
+            } else if (compared > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    // index 번째 원소 (0부터)
+    T select(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    // offset 번째부터 최대 limit 개를 순서대로 반환한다
+    List<T> range(int offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset >= size()) {
+            return List.of();
+        }
+        // offset 번째 노드까지 내려가며, 왼쪽으로 내려간 조상(= 이후에 나올 원소)만 스택에 쌓는다
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> node = root;
+        int index = offset;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                stack.push(node);
+                node = node.left;
+            } else if (index == leftSize) {
+                stack.push(node);
+                break;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        List<T> result = new ArrayList<>(Math.min(limit, size() - offset));
+        while (!stack.isEmpty() && result.size() < limit) {
+            Node<T> next = stack.pop();
+            result.add(next.value);
+            for (Node<T> child = next.right; child != null; child = child.left) {
+                stack.push(child);
+            }
+        }
+        return result;
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        int compared = comparator.compare(value, node.value);
+        if (compared == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compared < 0) {
+            node.left = remove(node.left, value);
+        } else {
+            node.right = remove(node.right, value);
+        }
+        node.update();
+        return node;
+    }
+
+    // [value 보다 작은 원소들, value 이상인 원소들]
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, T value) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (comparator.compare(node.value, value) < 0) {
+            Node<T>[] parts = split(node.right, value);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node<T>[] parts = split(node.left, value);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    // left 의 모든 원소가 right 의 모든 원소보다 앞선다
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + OrderStatisticTree.size(left) + OrderStatisticTree.size(right);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.matchday.team.ranking;
+
+import com.matchday.team.dto.TeamStanding;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 지역/유형/성별 조합의 순위표. 조회는 read lock, 전적 변경은 write lock 으로 보호한다.
+ */
+public class RankingBoard {
+
+    private final OrderStatisticTree<TeamStanding> tree = new OrderStatisticTree<>(TeamStanding.RANKING_ORDER);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // previous 가 있으면 빼고 next 를 넣는다 (전적이 바뀌면 정렬 위치가 달라지므로)
+    public void replace(TeamStanding previous, TeamStanding next) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                tree.remove(previous);
+            }
+            if (next != null) {
+                tree.add(next);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 1위부터 시작하는 순위, 보드에 없으면 -1
+    public int rankOf(TeamStanding standing) {
+        lock.readLock().lock();
+        try {
+            int index = tree.rank(standing);
+            return index < 0 ? -1 : index + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<TeamStanding> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return tree.range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.matchday.team.ranking;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.TeamType;
+import com.matchday.team.dto.TeamStanding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 랭킹 보드 식별자. district 가 null 이면 시/도 전체, type/gender 가 null 이면 전체를 뜻한다.
+ */
+public record RankingBoardKey(City city, District district, TeamType type, GroupGender gender) {
+
+    public RankingBoardKey {
+        if (city == null) {
+            throw new IllegalArgumentException("시/도는 필수입니다.");
+        }
+        if (district != null && district.getCity() != city) {
+            throw new IllegalArgumentException("시/도에 속하지 않는 구/군입니다.");
+        }
+    }
+
+    /**
+     * 팀이 올라가는 모든 보드: {시/도, 구/군} x {유형, 전체} x {성별, 전체}.
+     */
+    public static List<RankingBoardKey> boardsOf(TeamStanding standing) {
+        if (standing.city() == null) {
+            return List.of();
+        }
+        List<RankingBoardKey> keys = new ArrayList<>(8);
+        District[] districts = standing.district() == null
+                ? new District[]{null}
+                : new District[]{null, standing.district()};
+        TeamType[] types = standing.type() == null ? new TeamType[]{null} : new TeamType[]{null, standing.type()};
+        GroupGender[] genders = standing.gender() == null
+                ? new GroupGender[]{null}
+                : new GroupGender[]{null, standing.gender()};
+        for (District district : districts) {
+            for (TeamType type : types) {
+                for (GroupGender gender : genders) {
+                    keys.add(new RankingBoardKey(standing.city(), district, type, gender));
+                }
+            }
+        }
+        return keys;
+    }
+}
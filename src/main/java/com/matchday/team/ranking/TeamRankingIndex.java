@@ -0,0 +1,160 @@
+package com.matchday.team.ranking;
+
+import com.matchday.team.dto.TeamStanding;
+import com.matchday.team.event.TeamStatsChangedEvent;
+import com.matchday.team.repository.TeamRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * 지역(시/도, 구/군) x 팀 유형 x 성별 별 순위표를 메모리에 유지한다.
+ * 기동 시와 주기적으로 DB 에서 통째로 다시 만들고(스냅샷), 그 사이에는 전적 변경 이벤트로 바뀐 팀만 옮긴다.
+ * 팀 하나는 최대 8개 보드에 올라간다 ({@link RankingBoardKey#boardsOf}).
+ */
+@Slf4j
+@Component
+public class TeamRankingIndex {
+
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Rankings rankings = new Rankings();
+    private volatile boolean ready;
+
+    // 재구성 중 들어온 이벤트는 새 스냅샷으로 교체한 뒤 다시 적용한다
+    private volatile boolean rebuilding;
+    private final Queue<TeamStatsChangedEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    public TeamRankingIndex(TeamRepository teamRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.teamRepository = teamRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("matchday.team.ranking.teams", this, it -> it.rankings.standings.size())
+                .description("랭킹 보드에 올라간 팀 수")
+                .register(meterRegistry);
+        Gauge.builder("matchday.team.ranking.boards", this, it -> it.rankings.boards.size())
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<RankingBoard> board(RankingBoardKey key) {
+        return Optional.ofNullable(rankings.boards.get(key));
+    }
+
+    public Optional<TeamStanding> standingOf(Long teamId) {
+        return Optional.ofNullable(rankings.standings.get(teamId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 이벤트 누락(관리자 보정, 다른 인스턴스의 변경)에 대비한 전체 재구성
+    @Scheduled(fixedDelayString = "${matchday.team.ranking.rebuild-interval:1h}",
+            initialDelayString = "${matchday.team.ranking.rebuild-interval:1h}")
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        rebuilding = true;
+        try {
+            Rankings rebuilt = readOnlyTransaction.execute(status -> {
+                Rankings next = new Rankings();
+                try (Stream<TeamStanding> standings = teamRepository.streamStandings()) {
+                    standings.forEach(next::update);
+                }
+                return next;
+            });
+            rankings = rebuilt;
+            ready = true;
+        } catch (RuntimeException e) {
+            log.error("팀 랭킹 재구성에 실패했습니다. 기존 순위표를 유지합니다.", e);
+        } finally {
+            rebuilding = false;
+            TeamStatsChangedEvent event;
+            while ((event = pendingEvents.poll()) != null) {
+                apply(event);
+            }
+        }
+        log.info("팀 랭킹 재구성: 팀 {}개, 보드 {}개, {}ms", rankings.standings.size(), rankings.boards.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onStatsChanged(TeamStatsChangedEvent event) {
+        if (rebuilding) {
+            pendingEvents.add(event);
+        }
+        apply(event);
+    }
+
+    private void apply(TeamStatsChangedEvent event) {
+        List<TeamStanding> standings = teamRepository.findStandings(event.teamIds());
+        Set<Long> missing = new HashSet<>(event.teamIds());
+        Rankings current = rankings;
+        for (TeamStanding standing : standings) {
+            current.update(standing);
+            missing.remove(standing.teamId());
+        }
+        // 삭제된 팀
+        missing.forEach(current::remove);
+    }
+
+    /**
+     * 한 시점의 순위표 묶음. 같은 팀의 이동이 겹치지 않도록 갱신은 직렬화한다(조회는 보드별 read lock).
+     */
+    private static class Rankings {
+
+        private final Map<RankingBoardKey, RankingBoard> boards = new ConcurrentHashMap<>();
+        private final Map<Long, TeamStanding> standings = new ConcurrentHashMap<>();
+
+        synchronized void update(TeamStanding next) {
+            TeamStanding previous = standings.put(next.teamId(), next);
+            move(previous, next);
+        }
+
+        synchronized void remove(Long teamId) {
+            TeamStanding previous = standings.remove(teamId);
+            if (previous != null) {
+                move(previous, null);
+            }
+        }
+
+        private void move(TeamStanding previous, TeamStanding next) {
+            List<RankingBoardKey> from = previous == null ? List.of() : RankingBoardKey.boardsOf(previous);
+            List<RankingBoardKey> to = next == null ? List.of() : RankingBoardKey.boardsOf(next);
+            for (RankingBoardKey key : from) {
+                if (!to.contains(key)) {
+                    boards.get(key).replace(previous, null);
+                }
+            }
+            for (RankingBoardKey key : to) {
+                boards.computeIfAbsent(key, k -> new RankingBoard())
+                        .replace(from.contains(key) ? previous : null, next);
+            }
+        }
+    }
+}
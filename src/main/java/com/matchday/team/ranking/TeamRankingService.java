@@ -0,0 +1,79 @@
+package com.matchday.team.ranking;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.team.domain.enums.GroupGender;
+import com.matchday.team.domain.enums.TeamType;
+import com.matchday.team.dto.RankingPageResponse;
+import com.matchday.team.dto.TeamRankResponse;
+import com.matchday.team.dto.TeamRankingResponse;
+import com.matchday.team.dto.TeamStanding;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TeamRankingService {
+
+    private final TeamRankingIndex teamRankingIndex;
+
+    // 상위 k 개 페이지: O(log n + k)
+    public RankingPageResponse getRankings(City city, District district, TeamType type, GroupGender gender,
+                                           int page, int size) {
+        RankingBoardKey key = boardKey(city, district, type, gender);
+        return teamRankingIndex.board(key)
+                .map(board -> {
+                    int offset = page * size;
+                    List<TeamStanding> standings = board.page(offset, size);
+                    List<TeamRankingResponse> rankings = new ArrayList<>(standings.size());
+                    for (int i = 0; i < standings.size(); i++) {
+                        rankings.add(TeamRankingResponse.of(offset + i + 1, standings.get(i)));
+                    }
+                    return new RankingPageResponse(board.size(), page, size, rankings);
+                })
+                .orElseGet(() -> new RankingPageResponse(0, page, size, List.of()));
+    }
+
+    // "우리 팀은 몇 위": O(log n). district 를 생략하면 팀이 속한 시/도 보드에서 찾는다
+    public TeamRankResponse getTeamRank(Long teamId, boolean districtScope, TeamType type, GroupGender gender) {
+        ensureReady();
+        TeamStanding standing = teamRankingIndex.standingOf(teamId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.CLUB_NOT_FOUND));
+        if (standing.city() == null || (districtScope && standing.district() == null)) {
+            throw new GeneralException(ResponseCode.STATISTIC_NOT_FOUND);
+        }
+        if ((type != null && type != standing.type()) || (gender != null && gender != standing.gender())) {
+            throw new GeneralException(ResponseCode.STATISTIC_NOT_FOUND);
+        }
+
+        RankingBoardKey key = new RankingBoardKey(standing.city(), districtScope ? standing.district() : null,
+                type, gender);
+        RankingBoard board = teamRankingIndex.board(key)
+                .orElseThrow(() -> new GeneralException(ResponseCode.STATISTIC_NOT_FOUND));
+        int rank = board.rankOf(standing);
+        if (rank < 0) {
+            // 재구성/갱신 사이에 보드에서 빠진 순간
+            throw new GeneralException(ResponseCode.STATISTIC_NOT_FOUND);
+        }
+        return new TeamRankResponse(board.size(), TeamRankingResponse.of(rank, standing));
+    }
+
+    private RankingBoardKey boardKey(City city, District district, TeamType type, GroupGender gender) {
+        ensureReady();
+        if (district != null && district.getCity() != city) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "시/도에 속하지 않는 구/군입니다.");
+        }
+        return new RankingBoardKey(city, district, type, gender);
+    }
+
+    private void ensureReady() {
+        if (!teamRankingIndex.isReady()) {
+            throw new GeneralException(ResponseCode._SERVICE_BUSY);
+        }
+    }
+}
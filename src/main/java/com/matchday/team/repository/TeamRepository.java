@@ -0,0 +1,93 @@
+package com.matchday.team.repository;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.team.domain.Team;
+import com.matchday.team.dto.TeamStanding;
+import com.matchday.team.dto.TeamStatsRow;
+import com.matchday.team.dto.TeamSummaryResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    // 팀 일정 예약을 인스턴스 간에 직렬화하는 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Team t where t.id = :teamId")
+    Optional<Team> lockById(@Param("teamId") Long teamId);
+
+    // 읽고-수정-쓰기 없이 DB 에서 원자적으로 증감한다 (bulk update 이므로 team 2차 캐시 영역은 Hibernate 가 비운다)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Team t
+            set t.statsWins = coalesce(t.statsWins, 0) + :wins,
+                t.statsDraws = coalesce(t.statsDraws, 0) + :draws,
+                t.statsLosses = coalesce(t.statsLosses, 0) + :losses
+            where t.id = :teamId
+            """)
+    int applyStatsDelta(@Param("teamId") Long teamId,
+                        @Param("wins") int wins,
+                        @Param("draws") int draws,
+                        @Param("losses") int losses);
+
+    @Modifying
+    @Query("""
+            update Team t
+            set t.statsWins = :wins, t.statsDraws = :draws, t.statsLosses = :losses
+            where t.id = :teamId
+            """)
+    int overwriteStats(@Param("teamId") Long teamId,
+                       @Param("wins") int wins,
+                       @Param("draws") int draws,
+                       @Param("losses") int losses);
+
+    // id keyset 으로 전적을 청크 단위로 읽는다
+    @Query("""
+            select new com.matchday.team.dto.TeamStatsRow(t.id, t.statsWins, t.statsDraws, t.statsLosses)
+            from Team t
+            where t.id > :afterId
+            order by t.id
+            """)
+    List<TeamStatsRow> findStatsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 랭킹 보드 재구성용 (MySQL 행 단위 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select new com.matchday.team.dto.TeamStanding(t.id, t.name, t.city, t.district, t.type, t.gender,
+                coalesce(t.statsWins, 0), coalesce(t.statsDraws, 0), coalesce(t.statsLosses, 0))
+            from Team t
+            """)
+    Stream<TeamStanding> streamStandings();
+
+    // 팀 목록 스트리밍 응답용 (MySQL 행 단위 스트리밍, district 는 선택 조건)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select new com.matchday.team.dto.TeamSummaryResponse(t.id, t.name, t.city, t.district, t.type, t.gender,
+                t.profileImageUrl)
+            from Team t
+            where t.city = :city and (:district is null or t.district = :district)
+            order by t.id
+            """)
+    Stream<TeamSummaryResponse> streamSummaries(@Param("city") City city, @Param("district") District district);
+
+    @Query("""
+            select new com.matchday.team.dto.TeamStanding(t.id, t.name, t.city, t.district, t.type, t.gender,
+                coalesce(t.statsWins, 0), coalesce(t.statsDraws, 0), coalesce(t.statsLosses, 0))
+            from Team t
+            where t.id in :teamIds
+            """)
+    List<TeamStanding> findStandings(@Param("teamIds") Collection<Long> teamIds);
+}
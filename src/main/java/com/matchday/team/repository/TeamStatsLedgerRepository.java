@@ -0,0 +1,7 @@
+package com.matchday.team.repository;
+
+import com.matchday.team.domain.TeamStatsLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TeamStatsLedgerRepository extends JpaRepository<TeamStatsLedger, Long> {
+}
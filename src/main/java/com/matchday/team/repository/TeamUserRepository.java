@@ -0,0 +1,47 @@
+package com.matchday.team.repository;
+
+import com.matchday.team.cache.TeamRosterCache;
+import com.matchday.team.domain.TeamUser;
+import com.matchday.team.dto.MyTeamResponse;
+import com.matchday.team.dto.TeamMemberResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TeamUserRepository extends JpaRepository<TeamUser, Long> {
+
+    // 팀원 + 회원 정보를 한 번의 join 으로 읽는다 (LAZY 연관을 하나씩 초기화하는 N+1 방지)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TeamRosterCache.ROSTER_REGION)
+    })
+    @Query("""
+            select new com.matchday.team.dto.TeamMemberResponse(
+                u.id, u.name, tu.role, tu.backNumber, u.mainPosition, u.subPosition)
+            from TeamUser tu join tu.user u
+            where tu.team.id = :teamId
+            """)
+    List<TeamMemberResponse> findRoster(@Param("teamId") Long teamId);
+
+    // idx_team_user_user 로 조회, id(Snowflake) 가 가입 순서이므로 인덱스 순서 그대로 정렬된다
+    @Query("""
+            select new com.matchday.team.dto.MyTeamResponse(
+                t.id, t.name, t.type, t.city, t.district, t.profileImageUrl, tu.role)
+            from TeamUser tu join tu.team t
+            where tu.user.id = :userId
+            order by tu.id asc
+            """)
+    List<MyTeamResponse> findTeamsOfUser(@Param("userId") Long userId);
+
+    Optional<TeamUser> findByTeamIdAndUserId(Long teamId, Long userId);
+
+    boolean existsByTeamIdAndUserId(Long teamId, Long userId);
+
+    long countByTeamId(Long teamId);
+}
@@ -0,0 +1,79 @@
+package com.matchday.team.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.team.domain.Team;
+import com.matchday.team.domain.TeamUser;
+import com.matchday.team.domain.enums.TeamRole;
+import com.matchday.team.dto.TeamJoinRequest;
+import com.matchday.team.event.TeamRosterChangedEvent;
+import com.matchday.team.repository.TeamRepository;
+import com.matchday.team.repository.TeamUserRepository;
+import com.matchday.user.domain.User;
+import com.matchday.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 가입/탈퇴/역할 변경. 변경마다 TeamRosterChangedEvent 를 발행해 커밋 후 명단 캐시를 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TeamMemberService {
+
+    private final TeamRepository teamRepository;
+    private final TeamUserRepository teamUserRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Long join(Long teamId, TeamJoinRequest request) {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.CLUB_NOT_FOUND));
+        if (!team.matchesInviteCode(request.getInviteCode())) {
+            throw new GeneralException(ResponseCode.CLUB_INVITE_CODE_INCORRECT);
+        }
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new GeneralException(ResponseCode.MEMBER_NOT_FOUND));
+        if (teamUserRepository.existsByTeamIdAndUserId(teamId, user.getId())) {
+            throw new GeneralException(ResponseCode.CLUB_USER_ALREADY_JOINED);
+        }
+        if (team.isFull(teamUserRepository.countByTeamId(teamId))) {
+            throw new GeneralException(ResponseCode.CLUB_MEMBER_LIMIT_EXCEEDED);
+        }
+
+        TeamUser teamUser;
+        try {
+            // 같은 회원이 동시에 가입하면 uk_team_user_team_user 가 하나만 남긴다
+            teamUser = teamUserRepository.saveAndFlush(
+                    TeamUser.join(team, user, TeamRole.MEMBER, request.getBackNumber()));
+        } catch (DataIntegrityViolationException e) {
+            throw new GeneralException(ResponseCode.CLUB_USER_ALREADY_JOINED, e);
+        }
+
+        eventPublisher.publishEvent(new TeamRosterChangedEvent(teamId, user.getId()));
+        return teamUser.getId();
+    }
+
+    public void leave(Long teamId, Long userId) {
+        TeamUser teamUser = getTeamUser(teamId, userId);
+        teamUserRepository.delete(teamUser);
+
+        eventPublisher.publishEvent(new TeamRosterChangedEvent(teamId, userId));
+    }
+
+    public void changeRole(Long teamId, Long userId, TeamRole role) {
+        TeamUser teamUser = getTeamUser(teamId, userId);
+        teamUser.changeRole(role);
+
+        eventPublisher.publishEvent(new TeamRosterChangedEvent(teamId, userId));
+    }
+
+    private TeamUser getTeamUser(Long teamId, Long userId) {
+        return teamUserRepository.findByTeamIdAndUserId(teamId, userId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.CLUB_USER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,50 @@
+package com.matchday.team.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.team.domain.Team;
+import com.matchday.team.dto.MyTeamResponse;
+import com.matchday.team.dto.TeamMemberResponse;
+import com.matchday.team.dto.TeamRosterResponse;
+import com.matchday.team.repository.TeamRepository;
+import com.matchday.team.repository.TeamUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 팀 페이지 명단 조회. Team 은 2차 캐시, 명단은 쿼리 캐시에서 읽으므로 캐시가 데워진 뒤에는 DB 를 타지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamRosterService {
+
+    // 리더 > 매니저 > 멤버, 같은 역할은 등번호 순 (등번호 없는 팀원은 뒤로)
+    private static final Comparator<TeamMemberResponse> ROSTER_ORDER = Comparator
+            .comparing(TeamMemberResponse::getRole, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TeamMemberResponse::getBackNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TeamMemberResponse::getUserId);
+
+    private final TeamRepository teamRepository;
+    private final TeamUserRepository teamUserRepository;
+
+    public TeamRosterResponse getRoster(Long teamId) {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new GeneralException(ResponseCode.CLUB_NOT_FOUND));
+
+        List<TeamMemberResponse> members = new ArrayList<>(teamUserRepository.findRoster(teamId));
+        members.sort(ROSTER_ORDER);
+
+        return new TeamRosterResponse(team.getId(), team.getName(), team.getType(), team.getGender(),
+                team.getMemberLimit(), members.size(), members);
+    }
+
+    public List<MyTeamResponse> getTeamsOfUser(Long userId) {
+        return teamUserRepository.findTeamsOfUser(userId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.matchday.team.service;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.global.streaming.JsonStreamingResponses;
+import com.matchday.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@RequiredArgsConstructor
+public class TeamStreamService {
+
+    private final TeamRepository teamRepository;
+    private final JsonStreamingResponses jsonStreamingResponses;
+
+    public StreamingResponseBody streamTeams(City city, District district) {
+        if (district != null && district.getCity() != city) {
+            throw new GeneralException(ResponseCode._BAD_REQUEST, "시/도에 속하지 않는 구/군입니다.");
+        }
+        return jsonStreamingResponses.stream(() -> teamRepository.streamSummaries(city, district));
+    }
+}
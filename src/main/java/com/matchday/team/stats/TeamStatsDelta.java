@@ -0,0 +1,23 @@
+package com.matchday.team.stats;
+
+import com.matchday.match.domain.enums.MatchOutcome;
+
+// 팀 전적 증감분
+public record TeamStatsDelta(int wins, int draws, int losses) {
+
+    public static TeamStatsDelta of(MatchOutcome outcome) {
+        return switch (outcome) {
+            case WIN -> new TeamStatsDelta(1, 0, 0);
+            case DRAW -> new TeamStatsDelta(0, 1, 0);
+            case LOSS -> new TeamStatsDelta(0, 0, 1);
+        };
+    }
+
+    public TeamStatsDelta minus(TeamStatsDelta other) {
+        return new TeamStatsDelta(wins - other.wins, draws - other.draws, losses - other.losses);
+    }
+
+    public boolean isZero() {
+        return wins == 0 && draws == 0 && losses == 0;
+    }
+}
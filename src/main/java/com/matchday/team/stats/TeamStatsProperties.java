@@ -0,0 +1,16 @@
+package com.matchday.team.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param reconcileCron 전적 재계산(드리프트 점검) 주기
+ * @param chunkSize     팀 전적을 비교/보정할 때 한 번에 읽는 팀 수
+ * @param repair        드리프트가 발견되면 재계산 값으로 덮어쓸지 (기본은 보고만 한다)
+ */
+@ConfigurationProperties(prefix = "matchday.team.stats")
+public record TeamStatsProperties(
+        @DefaultValue("0 30 4 * * *") String reconcileCron,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("false") boolean repair) {
+}
@@ -0,0 +1,144 @@
+package com.matchday.team.stats;
+
+import com.matchday.match.domain.enums.MatchOutcome;
+import com.matchday.match.dto.MatchResultRow;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.team.dto.TeamStatsRow;
+import com.matchday.team.event.TeamStatsChangedEvent;
+import com.matchday.team.repository.TeamRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 증분 반영된 팀 전적을 매치 결과로부터 다시 계산해 어긋난 팀(드리프트)을 보고한다.
+ * <ol>
+ *     <li>결과가 기록된 매치를 스트리밍으로 한 번 훑으며 팀별 승/무/패를 집계한다 (메모리는 팀 수에 비례)</li>
+ *     <li>팀 전적을 id keyset 청크로 읽어 비교하고, repair=true 이면 청크마다 보정한다</li>
+ * </ol>
+ * 집계 도중 기록된 결과는 드리프트로 보일 수 있으므로 보정은 트래픽이 적은 시간대에만 켠다.
+ */
+@Slf4j
+@Component
+public class TeamStatsReconciler {
+
+    private static final int[] NO_RESULTS = new int[3];
+
+    private final MatchEntryRepository matchEntryRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamStatsProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter driftedTeams;
+    private final AtomicInteger lastDrift = new AtomicInteger();
+
+    public TeamStatsReconciler(MatchEntryRepository matchEntryRepository,
+                               TeamRepository teamRepository,
+                               PlatformTransactionManager transactionManager,
+                               TeamStatsProperties properties,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.matchEntryRepository = matchEntryRepository;
+        this.teamRepository = teamRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+
+        this.driftedTeams = Counter.builder("matchday.team.stats.drifted")
+                .description("재계산 값과 다른 전적이 발견된 팀 수 (누적)")
+                .register(meterRegistry);
+        Gauge.builder("matchday.team.stats.drift", lastDrift, AtomicInteger::get)
+                .description("마지막 점검에서 전적이 어긋난 팀 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${matchday.team.stats.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public synchronized int reconcile() {
+        long startedAt = System.nanoTime();
+        Map<Long, int[]> expected = readOnlyTransaction.execute(status -> aggregate());
+
+        int drift = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            List<TeamStatsRow> chunk = readOnlyTransaction.execute(
+                    status -> teamRepository.findStatsAfter(cursor, Limit.of(properties.chunkSize())));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<TeamStatsRow> drifted = chunk.stream()
+                    .filter(row -> !matches(row, expected.getOrDefault(row.teamId(), NO_RESULTS)))
+                    .toList();
+            for (TeamStatsRow row : drifted) {
+                int[] counts = expected.getOrDefault(row.teamId(), NO_RESULTS);
+                log.warn("팀 전적 드리프트 (teamId={}, 저장={}/{}/{}, 재계산={}/{}/{})", row.teamId(),
+                        row.wins(), row.draws(), row.losses(), counts[0], counts[1], counts[2]);
+            }
+            if (properties.repair() && !drifted.isEmpty()) {
+                repair(drifted, expected);
+            }
+            drift += drifted.size();
+            afterId = chunk.get(chunk.size() - 1).teamId();
+        }
+
+        driftedTeams.increment(drift);
+        lastDrift.set(drift);
+        log.info("팀 전적 점검 완료 (대상 팀 {}개, 드리프트 {}개, repair={}, {}ms)", expected.size(), drift,
+                properties.repair(), (System.nanoTime() - startedAt) / 1_000_000);
+        return drift;
+    }
+
+    private Map<Long, int[]> aggregate() {
+        Map<Long, int[]> counts = new HashMap<>();
+        try (Stream<MatchResultRow> rows = matchEntryRepository.streamResults()) {
+            rows.forEach(row -> {
+                MatchOutcome outcome = MatchOutcome.of(row.homeScore(), row.awayScore());
+                counts.computeIfAbsent(row.homeTeamId(), id -> new int[3])[outcome.ordinal()]++;
+                counts.computeIfAbsent(row.awayTeamId(), id -> new int[3])[outcome.opposite().ordinal()]++;
+            });
+        }
+        return counts;
+    }
+
+    private void repair(List<TeamStatsRow> drifted, Map<Long, int[]> expected) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (TeamStatsRow row : drifted) {
+                int[] counts = expected.getOrDefault(row.teamId(), NO_RESULTS);
+                teamRepository.overwriteStats(row.teamId(), counts[0], counts[1], counts[2]);
+            }
+            eventPublisher.publishEvent(new TeamStatsChangedEvent(drifted.stream().map(TeamStatsRow::teamId).toList()));
+        });
+    }
+
+    // int[] 는 MatchOutcome 순서(승/무/패)
+    private static boolean matches(TeamStatsRow row, int[] counts) {
+        return valueOf(row.wins()) == counts[MatchOutcome.WIN.ordinal()]
+                && valueOf(row.draws()) == counts[MatchOutcome.DRAW.ordinal()]
+                && valueOf(row.losses()) == counts[MatchOutcome.LOSS.ordinal()];
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,82 @@
+package com.matchday.team.stats;
+
+import com.matchday.match.domain.enums.MatchOutcome;
+import com.matchday.team.domain.TeamStatsLedger;
+import com.matchday.team.event.TeamStatsChangedEvent;
+import com.matchday.team.repository.TeamRepository;
+import com.matchday.team.repository.TeamStatsLedgerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 경기 결과를 양 팀 전적에 증분 반영한다. 호출자의 트랜잭션(결과 기록)에 참여하므로
+ * 매치 점수, 원장(team_stats_ledger), 전적 증감이 함께 커밋되거나 함께 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TeamStatsService {
+
+    private final TeamRepository teamRepository;
+    private final TeamStatsLedgerRepository teamStatsLedgerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    public void applyResult(Long matchId, Long homeTeamId, Long awayTeamId, MatchOutcome homeOutcome) {
+        Optional<TeamStatsLedger> applied = teamStatsLedgerRepository.findById(matchId);
+        if (applied.isEmpty()) {
+            teamStatsLedgerRepository.save(TeamStatsLedger.record(matchId, homeTeamId, awayTeamId, homeOutcome));
+            apply(homeTeamId, awayTeamId, homeOutcome, null);
+            count("recorded");
+            return;
+        }
+
+        TeamStatsLedger ledger = applied.get();
+        if (ledger.getHomeOutcome() == homeOutcome) {
+            // 같은 결과 재전송 (점수만 바뀌고 승패가 같은 정정 포함)
+            count("unchanged");
+            return;
+        }
+        MatchOutcome previous = ledger.getHomeOutcome();
+        ledger.correct(homeOutcome);
+        apply(ledger.getHomeTeamId(), ledger.getAwayTeamId(), homeOutcome, previous);
+        count("corrected");
+    }
+
+    private void apply(Long homeTeamId, Long awayTeamId, MatchOutcome homeOutcome, MatchOutcome previousHomeOutcome) {
+        TeamStatsDelta home = delta(homeOutcome, previousHomeOutcome);
+        TeamStatsDelta away = delta(homeOutcome.opposite(),
+                previousHomeOutcome == null ? null : previousHomeOutcome.opposite());
+        // 두 팀의 행 잠금을 항상 id 순으로 잡아 교차 갱신 시 데드락을 피한다
+        if (homeTeamId < awayTeamId) {
+            applyDelta(homeTeamId, home);
+            applyDelta(awayTeamId, away);
+        } else {
+            applyDelta(awayTeamId, away);
+            applyDelta(homeTeamId, home);
+        }
+        eventPublisher.publishEvent(new TeamStatsChangedEvent(List.of(homeTeamId, awayTeamId)));
+    }
+
+    private TeamStatsDelta delta(MatchOutcome outcome, MatchOutcome previous) {
+        TeamStatsDelta delta = TeamStatsDelta.of(outcome);
+        return previous == null ? delta : delta.minus(TeamStatsDelta.of(previous));
+    }
+
+    private void applyDelta(Long teamId, TeamStatsDelta delta) {
+        if (!delta.isZero()) {
+            teamRepository.applyStatsDelta(teamId, delta.wins(), delta.draws(), delta.losses());
+        }
+    }
+
+    private void count(String type) {
+        meterRegistry.counter("matchday.team.stats.results", "type", type).increment();
+    }
+}
@@ -1,6 +1,7 @@
 package com.matchday.user.domain;
 
 import com.matchday.global.entity.BaseEntity;
+import com.matchday.global.entity.id.SnowflakeId;
 import com.matchday.global.entity.enums.*;
 import com.matchday.team.domain.enums.Position;
 import com.matchday.user.domain.enums.FootType;
@@ -21,7 +22,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 public class User extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,7 @@
+package com.matchday.user.repository;
+
+import com.matchday.user.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+}
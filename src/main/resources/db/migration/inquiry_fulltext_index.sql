@@ -0,0 +1,11 @@
+-- 문의 키워드 검색용 FULLTEXT 인덱스 (InquirySearchRepository 의 MATCH ... AGAINST 가 사용한다)
+--
+-- 운영은 ddl-auto: validate 이고 기동 시 인덱스를 만들지 않으므로(matchday.inquiry.search.create-fulltext-index=false)
+-- 이 스크립트를 배포 전에 한 번 적용한다. InquiryFullTextIndexInitializer 는 기동 시 인덱스가 있는지만 확인한다.
+--
+-- 테이블의 첫 FULLTEXT 인덱스는 FTS_DOC_ID 컬럼을 추가하며 테이블을 다시 만들고, 그동안 쓰기(DML)를 막는다.
+-- 문의 등록/답변이 적은 시간에 적용하고, 복사 방식(ALGORITHM=COPY)으로 바뀌면 바로 실패하도록 방식과 잠금을 명시한다.
+-- 이미 있으면 Duplicate key name 'ft_inquiry_text' 로 실패하므로 다시 적용하지 않는다.
+ALTER TABLE inquiry
+    ADD FULLTEXT INDEX ft_inquiry_text (title, content, answer) WITH PARSER ngram,
+    ALGORITHM = INPLACE, LOCK = SHARED;
@@ -0,0 +1,27 @@
+package benchmark.id;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * IdGenerationInsertBenchmarkTest 전용 엔티티. com.matchday 밖에 두어 다른 통합 테스트의 엔티티 스캔에 잡히지 않는다.
+ */
+@Entity
+@Table(name = "identity_insert_probe")
+public class IdentityInsertProbe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String name;
+
+    protected IdentityInsertProbe() {
+    }
+
+    public IdentityInsertProbe(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,26 @@
+package benchmark.id;
+
+import com.matchday.global.entity.id.SnowflakeId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * IdGenerationInsertBenchmarkTest 전용 엔티티. com.matchday 밖에 두어 다른 통합 테스트의 엔티티 스캔에 잡히지 않는다.
+ */
+@Entity
+@Table(name = "snowflake_insert_probe")
+public class SnowflakeInsertProbe {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+    private String name;
+
+    protected SnowflakeInsertProbe() {
+    }
+
+    public SnowflakeInsertProbe(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,40 @@
+package com.matchday.global.entity.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DistrictTest {
+
+    @Test
+    @DisplayName("같은 한글 이름의 구/군이 여럿이면 선언 순서상 첫 번째 상수를 반환한다")
+    void fromKoreanName_ShouldReturnFirstDeclaredOnDuplicateName() {
+        assertThat(District.JEONNAM_YEONGGWANG.getKoreanName()).isEqualTo(District.JEONNAM_YEONGKWANG.getKoreanName());
+
+        assertThat(District.fromKoreanName("영광군", City.JEONNAM)).isEqualTo(District.JEONNAM_YEONGKWANG);
+    }
+
+    @Test
+    @DisplayName("조회 테이블은 모든 구/군에 대해 선형 탐색의 첫 번째 결과와 같다")
+    void fromKoreanName_ShouldMatchLinearScan() {
+        for (District district : District.values()) {
+            District firstMatch = Arrays.stream(District.values())
+                    .filter(candidate -> candidate.getCity() == district.getCity()
+                            && candidate.getKoreanName().equals(district.getKoreanName()))
+                    .findFirst()
+                    .orElseThrow();
+
+            assertThat(District.fromKoreanName(district.getKoreanName(), district.getCity())).isEqualTo(firstMatch);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 시/도의 구/군 이름은 찾지 않는다")
+    void fromKoreanName_ShouldRejectNameFromOtherCity() {
+        assertThatThrownBy(() -> District.fromKoreanName("영광군", City.SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.matchday.global.entity.id;
+
+import benchmark.id.IdentityInsertProbe;
+import benchmark.id.SnowflakeInsertProbe;
+import com.matchday.MatchdayApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 같은 모양의 엔티티를 IDENTITY(이전) 와 @SnowflakeId(이후) 로 저장해 JDBC 문장 수를 비교한다.
+ * 처리량은 실행 환경에 따라 흔들리므로 로그로만 남기고 검증하지 않는다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest
+@Import(IdGenerationInsertBenchmarkTest.ProbeEntities.class)
+class IdGenerationInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGenerationInsertBenchmarkTest.class);
+
+    private static final int ROWS = 20_000;
+    private static final int FLUSH_SIZE = 50;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("@SnowflakeId 엔티티는 batch INSERT 로 IDENTITY 보다 적은 JDBC 문장으로 저장된다")
+    void snowflakeInsert_ShouldUseFewerStatementsThanIdentity() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업
+        insert(1_000, i -> new IdentityInsertProbe("warmup " + i));
+        insert(1_000, i -> new SnowflakeInsertProbe("warmup " + i));
+
+        statistics.clear();
+        long identityNanos = insert(ROWS, i -> new IdentityInsertProbe("identity " + i));
+        long identityStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long snowflakeNanos = insert(ROWS, i -> new SnowflakeInsertProbe("snowflake " + i));
+        long snowflakeStatements = statistics.getPrepareStatementCount();
+
+        log.info("[id-insert] rows={} identity={} rows/s ({} stmts) snowflake={} rows/s ({} stmts)",
+                ROWS, Math.round(ROWS / (identityNanos / 1e9)), identityStatements,
+                Math.round(ROWS / (snowflakeNanos / 1e9)), snowflakeStatements);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from snowflake_insert_probe", Integer.class))
+                .isEqualTo(ROWS + 1_000);
+        assertThat(snowflakeStatements).isLessThan(identityStatements);
+    }
+
+    private long insert(int rows, IntFunction<Object> factory) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(factory.apply(i));
+                if ((i + 1) % FLUSH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    // 프로브 엔티티는 이 테스트 컨텍스트에만 등록한다
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {MatchdayApplication.class, IdentityInsertProbe.class})
+    static class ProbeEntities {
+    }
+}
@@ -0,0 +1,107 @@
+package com.matchday.global.entity.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnowflakeTest {
+
+    @Test
+    @DisplayName("발급된 id 는 순증가한다")
+    void nextId_ShouldBeStrictlyIncreasing() {
+        Snowflake snowflake = new Snowflake(3);
+
+        long previous = snowflake.nextId();
+        // ms 당 순번(256개)을 여러 번 소진하도록 충분히 발급한다
+        for (int i = 0; i < 100_000; i++) {
+            long next = snowflake.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("id 는 JavaScript 안전 정수 범위(53bit) 안에 있다")
+    void nextId_ShouldFitInJavaScriptSafeInteger() {
+        long id = new Snowflake(Snowflake.MAX_NODE_ID).nextId();
+
+        assertThat(id).isPositive().isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("id 에서 발급 시각을 복원할 수 있다")
+    void timestampOf_ShouldRestoreIssueTime() {
+        Instant before = Instant.now();
+        long id = new Snowflake(0).nextId();
+
+        assertThat(Snowflake.timestampOf(id)).isBetween(before.minusMillis(1), Instant.now().plus(Duration.ofMillis(1)));
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 id 가 겹치지 않는다")
+    void nextId_ShouldNotCollideAcrossNodesAndThreads() throws InterruptedException {
+        Snowflake first = new Snowflake(1);
+        Snowflake second = new Snowflake(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                Snowflake snowflake = t % 2 == 0 ? first : second;
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(snowflake.nextId());
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 거부한다")
+    void constructor_ShouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 필수인데 없거나 범위를 벗어나면 설정 단계에서 실패한다")
+    void properties_ShouldRejectMissingOrInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeProperties(null, true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new SnowflakeProperties(Snowflake.MAX_NODE_ID + 1, false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new SnowflakeProperties(null, false).resolvedNodeId()).isZero();
+        assertThat(new SnowflakeProperties(7, true).resolvedNodeId()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 노드로 다시 설정하면 공용 발급기를 유지하고, 다른 노드면 교체한다")
+    void configureShared_ShouldKeepInstanceForSameNode() {
+        Snowflake.configureShared(5);
+        Snowflake first = Snowflake.shared();
+
+        Snowflake.configureShared(5);
+        assertThat(Snowflake.shared()).isSameAs(first);
+
+        Snowflake.configureShared(6);
+        assertThat(Snowflake.shared()).isNotSameAs(first);
+        assertThat(Snowflake.shared().nodeId()).isEqualTo(6);
+
+        Snowflake.configureShared(0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.matchday.global.exception.handler;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ErrorLogThrottleTest {
+
+    private static final ResponseCode CODE = ResponseCode._INTERNAL_SERVER_ERROR;
+
+    private final AtomicLong now = new AtomicLong();
+    private final ErrorLogThrottle throttle = new ErrorLogThrottle(Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("window 안에서는 예외 종류별로 처음 한 번만 허용한다")
+    void tryAcquire_ShouldAllowOncePerWindowAndType() {
+        assertThat(throttle.tryAcquire(IllegalStateException.class, CODE)).isZero();
+        assertThat(throttle.tryAcquire(IllegalStateException.class, CODE)).isEqualTo(ErrorLogThrottle.NOT_ALLOWED);
+        assertThat(throttle.tryAcquire(IllegalStateException.class, CODE)).isEqualTo(ErrorLogThrottle.NOT_ALLOWED);
+
+        assertThat(throttle.tryAcquire(NullPointerException.class, CODE)).isZero();
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 다시 허용하고 그동안 생략된 건수를 돌려준다")
+    void tryAcquire_ShouldReportSuppressedCountAfterWindow() {
+        throttle.tryAcquire(IllegalStateException.class, CODE);
+        for (int i = 0; i < 5; i++) {
+            throttle.tryAcquire(IllegalStateException.class, CODE);
+        }
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(throttle.tryAcquire(IllegalStateException.class, CODE)).isEqualTo(5);
+        assertThat(throttle.tryAcquire(IllegalStateException.class, CODE)).isEqualTo(ErrorLogThrottle.NOT_ALLOWED);
+    }
+
+    @Test
+    @DisplayName("같은 예외 클래스라도 응답 코드가 다르면 따로 허용한다")
+    void tryAcquire_ShouldSeparateResponseCodes() {
+        assertThat(throttle.tryAcquire(GeneralException.class, ResponseCode._SERVICE_BUSY)).isZero();
+        assertThat(throttle.tryAcquire(GeneralException.class, ResponseCode._SERVICE_BUSY))
+                .isEqualTo(ErrorLogThrottle.NOT_ALLOWED);
+
+        assertThat(throttle.tryAcquire(GeneralException.class, ResponseCode._INTERNAL_SERVER_ERROR)).isZero();
+    }
+}
@@ -0,0 +1,52 @@
+package com.matchday.global.exception.handler;
+
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MasterExceptionHandlerTest {
+
+    private final MasterExceptionHandler handler = new MasterExceptionHandler();
+
+    @Test
+    @DisplayName("Spring MVC 가 상태 코드를 정해 둔 예외는 500 이 아니라 그 상태 코드로 응답한다")
+    void exception_ErrorResponse_ShouldKeepStatus() {
+        // when
+        ResponseEntity<Object> missingParameter =
+                handler.exception(new MissingServletRequestParameterException("page", "int"), null);
+        ResponseEntity<Object> unsupportedMethod =
+                handler.exception(new HttpRequestMethodNotSupportedException("PATCH"), null);
+        ResponseEntity<Object> unsupportedMediaType =
+                handler.exception(new HttpMediaTypeNotSupportedException("text/plain"), null);
+
+        // then
+        assertThat(missingParameter.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(codeOf(missingParameter)).isEqualTo(ResponseCode._BAD_REQUEST.getCode());
+        assertThat(unsupportedMethod.getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        assertThat(codeOf(unsupportedMethod)).isEqualTo(ResponseCode._METHOD_NOT_ALLOWED.getCode());
+        assertThat(unsupportedMediaType.getStatusCode().is4xxClientError()).isTrue();
+    }
+
+    @Test
+    @DisplayName("그 밖의 예외는 500 공통 응답으로 감춘다")
+    void exception_Unexpected_ShouldBeInternalServerError() {
+        // when
+        ResponseEntity<Object> response = handler.exception(new IllegalStateException("boom"), null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(codeOf(response)).isEqualTo(ResponseCode._INTERNAL_SERVER_ERROR.getCode());
+    }
+
+    private static String codeOf(ResponseEntity<Object> response) {
+        return ((BaseResponse<?>) response.getBody()).getCode();
+    }
+}
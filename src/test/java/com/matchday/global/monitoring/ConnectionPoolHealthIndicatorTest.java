@@ -0,0 +1,59 @@
+package com.matchday.global.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionPoolHealthIndicatorTest {
+
+    private HikariDataSource dataSource;
+    private HikariPoolMXBean pool;
+    private ConnectionPoolHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = mock(HikariDataSource.class);
+        pool = mock(HikariPoolMXBean.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getMaximumPoolSize()).thenReturn(20);
+        when(pool.getActiveConnections()).thenReturn(20);
+        when(pool.getTotalConnections()).thenReturn(20);
+        indicator = new ConnectionPoolHealthIndicator(dataSource, new ConnectionPoolHealthProperties(5));
+    }
+
+    @Test
+    @DisplayName("대기 중인 커넥션 요청이 임계치 이하이면 UP 이다")
+    void health_ShouldBeUpUnderThreshold() {
+        when(pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("pending", 5).containsEntry("max", 20);
+    }
+
+    @Test
+    @DisplayName("대기 중인 커넥션 요청이 임계치를 넘으면 DEGRADED 이다")
+    void health_ShouldDegradeOverThreshold() {
+        when(pool.getThreadsAwaitingConnection()).thenReturn(6);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(ConnectionPoolHealthIndicator.DEGRADED);
+    }
+
+    @Test
+    @DisplayName("풀이 아직 시작되지 않았으면 UNKNOWN 이다")
+    void health_ShouldBeUnknownBeforePoolStarts() {
+        when(dataSource.getHikariPoolMXBean()).thenReturn(null);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+    }
+}
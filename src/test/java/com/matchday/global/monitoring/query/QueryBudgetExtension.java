@@ -0,0 +1,39 @@
+package com.matchday.global.monitoring.query;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 통합 테스트에서 {@link QueryBudget} 을 넘긴 요청이 있으면 해당 테스트를 실패시킨다.
+ * matchday.monitoring.query-budget.strict=true 로 띄운 컨텍스트에서 사용한다.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        monitor(context).drainViolations();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        assertWithinBudget(monitor(context));
+    }
+
+    // 모인 초과 내역을 비우면서 검사한다
+    static void assertWithinBudget(QueryBudgetMonitor monitor) {
+        List<QueryBudgetViolation> violations = monitor.drainViolations();
+        assertThat(violations)
+                .as("쿼리 예산을 넘긴 요청")
+                .isEmpty();
+    }
+
+    private static QueryBudgetMonitor monitor(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(QueryBudgetMonitor.class);
+    }
+}
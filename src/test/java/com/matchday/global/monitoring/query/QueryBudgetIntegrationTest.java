@@ -0,0 +1,197 @@
+package com.matchday.global.monitoring.query;
+
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.review.repository.MatchReviewSummaryRepository;
+import com.matchday.review.repository.TeamReviewSummaryRepository;
+import com.matchday.support.MySqlFixture;
+import com.matchday.team.repository.TeamRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link QueryBudget} 이 선언된 조회 API 를 실제 DB 로 호출해 예산 안에서 응답하는지 확인한다.
+ * 팀/매치/리뷰/문의를 연관관계까지 채워 두고 호출하므로, 결과 행마다 지연 로딩이 일어나면 예산을 넘긴다.
+ * 예산을 넘기면 QueryBudgetExtension 이 테스트를 실패시킨다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "matchday.monitoring.query-budget.strict=true")
+@AutoConfigureMockMvc
+@WithMockUser
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryBudgetIntegrationTest.OverBudgetController.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetIntegrationTest {
+
+    private static final int TEAMS = 3;
+    private static final int OPEN_MATCHES = 30;
+    private static final long REVIEWED_MATCH_ID = 1_000L;
+    private static final int REVIEWERS = 5;
+    private static final int INQUIRIES = 30;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        MySqlFixture.registerDataSource(registry, "query_budget");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MatchReviewSummaryRepository matchReviewSummaryRepository;
+
+    @Autowired
+    private TeamReviewSummaryRepository teamReviewSummaryRepository;
+
+    @BeforeAll
+    void seed() {
+        LocalDate today = LocalDate.now();
+
+        MySqlFixture.insertTeams(jdbcTemplate, TEAMS, "Q");
+
+        List<Object[]> matches = new ArrayList<>();
+        for (long id = 1; id <= OPEN_MATCHES; id++) {
+            matches.add(new Object[]{id, id % TEAMS + 1, today.plusDays(id % 10), "OPEN"});
+        }
+        matches.add(new Object[]{REVIEWED_MATCH_ID, 1L, today.minusDays(3), "FINISHED"});
+        MySqlFixture.insertMatches(jdbcTemplate, matches);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        for (long id = 1; id <= REVIEWERS; id++) {
+            users.add(new Object[]{id, "user" + id + "@matchday.com", "회원 " + id});
+            reviews.add(new Object[]{id, REVIEWED_MATCH_ID, id, (int) id});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into users (id, created_date, updated_date, email, password, name, birth, height,
+                                   main_position, role, is_professional)
+                values (?, now(), now(), ?, '{noop}password', ?, '1995-01-01', 175, 'MF', 'ROLE_MEMBER', false)
+                """, users);
+        jdbcTemplate.batchUpdate("""
+                insert into review (id, created_date, updated_date, match_id, reviewer_id, rating, content)
+                values (?, now(), now(), ?, ?, ?, '좋은 경기였습니다')
+                """, reviews);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (Object[] review : reviews) {
+                matchReviewSummaryRepository.applyDelta(REVIEWED_MATCH_ID, (int) review[3], 1);
+                teamReviewSummaryRepository.applyDelta(1L, (int) review[3], 1);
+            }
+        });
+
+        List<Object[]> inquiries = new ArrayList<>();
+        for (long id = 1; id <= INQUIRIES; id++) {
+            String title = id % 2 == 0 ? "환불 문의 " + id : "일정 문의 " + id;
+            inquiries.add(new Object[]{id, title, title + " 내용입니다"});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into inquiry (id, created_date, updated_date, title, content, password, status)
+                values (?, now(), now(), ?, ?, '{noop}1234', 'PENDING')
+                """, inquiries);
+    }
+
+    @Test
+    @DisplayName("매치 검색은 홈 팀이 있는 매치 한 페이지를 예산 안에서 응답하고 요청당 쿼리 수가 기록된다")
+    void searchOpenMatches_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/matches/search").param("city", "SEOUL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content").isNotEmpty());
+
+        assertThat(meterRegistry.get(QueryCountInterceptor.METRIC_NAME)
+                .tag("uri", "/api/v1/matches/search")
+                .summary()
+                .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("평점 요약은 리뷰가 있는 매치/팀에서도 예산 안에서 응답한다")
+    void reviewSummaries_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/matches/{matchId}/reviews/summary", REVIEWED_MATCH_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.reviewCount").value(REVIEWERS));
+        mockMvc.perform(get("/api/v1/teams/{teamId}/reviews/summary", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.reviewCount").value(REVIEWERS));
+    }
+
+    @Test
+    @DisplayName("관리자 문의 검색은 목록과 키워드 검색 모두 예산 안에서 응답한다")
+    void adminInquirySearch_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/inquiries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content").isNotEmpty());
+        mockMvc.perform(get("/api/v1/admin/inquiries").param("keyword", "환불 문의"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("예산을 넘긴 요청이 있으면 QueryBudgetExtension 의 검사가 실패한다")
+    void overBudget_ShouldFailExtensionCheck() throws Exception {
+        mockMvc.perform(get(OverBudgetController.PATH))
+                .andExpect(status().isOk());
+
+        // 검사하면서 초과 내역을 비우므로 이 테스트 자체의 afterEach 는 통과한다
+        assertThatThrownBy(() -> QueryBudgetExtension.assertWithinBudget(queryBudgetMonitor))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(OverBudgetController.PATH);
+    }
+
+    // 예산 1 에 쿼리 2 개를 실행하는 엔드포인트. 이 테스트 컨텍스트에만 등록한다
+    @RestController
+    static class OverBudgetController {
+
+        static final String PATH = "/api/v1/test/query-budget/over";
+
+        private final TeamRepository teamRepository;
+        private final MatchRepository matchRepository;
+
+        OverBudgetController(TeamRepository teamRepository, MatchRepository matchRepository) {
+            this.teamRepository = teamRepository;
+            this.matchRepository = matchRepository;
+        }
+
+        @QueryBudget(1)
+        @GetMapping(PATH)
+        public long over() {
+            return teamRepository.count() + matchRepository.count();
+        }
+    }
+}
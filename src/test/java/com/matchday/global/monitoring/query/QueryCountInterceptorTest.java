@@ -0,0 +1,120 @@
+package com.matchday.global.monitoring.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QueryCountInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryBudgetMonitor monitor;
+    private QueryCountInterceptor interceptor;
+    private QueryCountingStatementInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new QueryBudgetMonitor(meterRegistry, new QueryBudgetProperties(true));
+        interceptor = new QueryCountInterceptor(meterRegistry, monitor);
+        inspector = new QueryCountingStatementInspector();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.stop();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 문 수를 엔드포인트 패턴별로 기록한다")
+    void afterCompletion_ShouldRecordQueryCountPerEndpoint() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/things/{id}");
+        HandlerMethod handler = handler("unbudgeted");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+
+        DistributionSummary summary = meterRegistry.get(QueryCountInterceptor.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/things/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(QueryCountHolder.current()).isEqualTo(QueryCountHolder.NOT_COUNTING);
+    }
+
+    @Test
+    @DisplayName("메서드에 선언된 예산을 넘으면 초과 내역을 남긴다")
+    void afterCompletion_ShouldReportViolationOverMethodBudget() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/things");
+        HandlerMethod handler = handler("budgetedOne");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+
+        assertThat(monitor.drainViolations())
+                .containsExactly(new QueryBudgetViolation("GET", "/api/v1/things", 1, 2));
+        assertThat(meterRegistry.get("matchday.http.server.queries.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산 이내이면 초과 내역이 없고, 메서드 예산이 클래스 예산보다 우선한다")
+    void afterCompletion_ShouldPreferMethodBudgetOverClassBudget() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/things");
+
+        HandlerMethod classBudget = handler("unbudgeted");
+        interceptor.preHandle(request, new MockHttpServletResponse(), classBudget);
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select " + i);
+        }
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), classBudget, null);
+
+        HandlerMethod methodBudget = handler("budgetedOne");
+        interceptor.preHandle(request, new MockHttpServletResponse(), methodBudget);
+        inspector.inspect("select 1");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), methodBudget, null);
+
+        assertThat(monitor.drainViolations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청 범위 밖의 SQL 은 세지 않는다")
+    void inspect_ShouldIgnoreStatementsOutsideRequest() {
+        inspector.inspect("select 1");
+
+        assertThat(QueryCountHolder.current()).isEqualTo(QueryCountHolder.NOT_COUNTING);
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new BudgetedController(), BudgetedController.class.getMethod(methodName));
+    }
+
+    @QueryBudget(3)
+    static class BudgetedController {
+
+        public void unbudgeted() {
+        }
+
+        @QueryBudget(1)
+        public void budgetedOne() {
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.matchday.global.outbox;
+
+import com.matchday.match.domain.enums.MatchApplicationStatus;
+import com.matchday.match.event.MatchApplicationProcessedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 릴레이(노드)가 동시에 outbox 를 비울 때 SKIP LOCKED 로 서로 다른 batch 를 가져가 중복 없이 한 번씩 전달하는지와
+ * 처리량을 측정한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest(properties = "matchday.outbox.poll-interval=1h")
+class OutboxRelayConcurrencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayConcurrencyBenchmarkTest.class);
+
+    private static final int EVENT_COUNT = 20_000;
+    private static final int RELAYS = 4;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventHandlers handlers;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("동시에 실행되는 릴레이가 모든 이벤트를 정확히 한 번씩 전달한다")
+    void concurrentRelays_ShouldDeliverEachEventOnce() throws Exception {
+        seed();
+        double deliveredBefore = delivered();
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService relays = Executors.newFixedThreadPool(RELAYS)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < RELAYS; i++) {
+                futures.add(relays.submit(() -> {
+                    start.await();
+                    outboxRelay.relay();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+        log.info("[outbox-relay] events={} relays={} elapsed={}ms throughput={}/s",
+                EVENT_COUNT, RELAYS, Math.round(elapsedMillis), Math.round(EVENT_COUNT / (elapsedMillis / 1000)));
+
+        assertThat(delivered() - deliveredBefore).isEqualTo(EVENT_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event", Integer.class)).isZero();
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().minusSeconds(1));
+        List<Object[]> rows = new ArrayList<>(EVENT_COUNT);
+        for (long id = 1; id <= EVENT_COUNT; id++) {
+            String payload = handlers.serialize(new MatchApplicationProcessedEvent(
+                    id, id, id, MatchApplicationStatus.REJECTED, now.toLocalDateTime()));
+            rows.add(new Object[]{id, MatchApplicationProcessedEvent.class.getName(), payload, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into outbox_event (id, event_type, payload, attempts, available_at, created_at)
+                values (?, ?, ?, 0, ?, ?)
+                """, rows);
+    }
+
+    private double delivered() {
+        return meterRegistry.get("matchday.outbox.events").tag("result", "delivered").counter().count();
+    }
+}
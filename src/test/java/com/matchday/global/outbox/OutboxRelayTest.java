@@ -0,0 +1,144 @@
+package com.matchday.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-01T10:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final OutboxProperties PROPERTIES = new OutboxProperties(Duration.ofSeconds(1), 10, 3, Duration.ofSeconds(30), 3);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OutboxEventRepository repository;
+    private RecordingHandler handler;
+    private OutboxEventHandlers handlers;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        handler = new RecordingHandler();
+        meterRegistry = new SimpleMeterRegistry();
+        handlers = new OutboxEventHandlers(List.of(handler), objectMapper);
+        relay = new OutboxRelay(repository, handlers, mock(PlatformTransactionManager.class), PROPERTIES,
+                Clock.fixed(NOW, ZONE), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("잠근 이벤트를 핸들러에 전달하고 한 번에 삭제한다")
+    void relayBatch_ShouldDispatchAndDeleteInBulk() {
+        lock(event(1L, "first", 0), event(2L, "second", 0));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(handler.received).containsExactly("first", "second");
+        verify(repository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(repository, never()).postpone(any(), any());
+        assertThat(meterRegistry.get("matchday.outbox.events").tag("result", "delivered").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 이벤트는 재시도 간격만큼 미루고 나머지는 삭제한다")
+    void relayBatch_ShouldPostponeFailedEvents() {
+        lock(event(1L, "first", 0), event(2L, RecordingHandler.FAIL, 0));
+
+        relay.relayBatch();
+
+        verify(repository).deleteAllByIdIn(List.of(1L));
+        verify(repository).postpone(List.of(2L), LocalDateTime.ofInstant(NOW, ZONE).plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 이벤트와 핸들러가 없는 이벤트는 버린다")
+    void relayBatch_ShouldDropExhaustedAndUnhandledEvents() {
+        OutboxEvent unhandled = mock(OutboxEvent.class);
+        when(unhandled.getId()).thenReturn(2L);
+        when(unhandled.getEventType()).thenReturn("com.matchday.Unknown");
+        lock(event(1L, RecordingHandler.FAIL, PROPERTIES.maxAttempts() - 1), unhandled);
+
+        relay.relayBatch();
+
+        verify(repository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(repository, never()).postpone(any(), any());
+        assertThat(meterRegistry.get("matchday.outbox.events").tag("result", "dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전달할 이벤트가 없으면 아무것도 하지 않는다")
+    void relayBatch_ShouldDoNothingWhenEmpty() {
+        lock();
+
+        assertThat(relay.relayBatch()).isZero();
+        verify(repository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("밀려 있어도 한 번의 확인에서는 maxBatchesPerPoll 개의 batch 까지만 처리한다")
+    void relay_ShouldStopAfterMaxBatchesPerPoll() {
+        OutboxEvent[] fullBatch = new OutboxEvent[PROPERTIES.batchSize()];
+        for (int i = 0; i < fullBatch.length; i++) {
+            fullBatch[i] = event((long) i, "backlog " + i, 0);
+        }
+        lock(fullBatch);
+
+        relay.relay();
+
+        verify(repository, times(PROPERTIES.maxBatchesPerPoll()))
+                .lockAvailable(LocalDateTime.ofInstant(NOW, ZONE), PROPERTIES.batchSize());
+    }
+
+    private void lock(OutboxEvent... events) {
+        when(repository.lockAvailable(LocalDateTime.ofInstant(NOW, ZONE), PROPERTIES.batchSize()))
+                .thenReturn(List.of(events));
+    }
+
+    private OutboxEvent event(Long id, String message, int attempts) {
+        OutboxEvent event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn(id);
+        when(event.getEventType()).thenReturn(Message.class.getName());
+        when(event.getPayload()).thenReturn(handlers.serialize(new Message(message)));
+        when(event.getAttempts()).thenReturn(attempts);
+        return event;
+    }
+
+    record Message(String text) {
+    }
+
+    static class RecordingHandler implements OutboxEventHandler<Message> {
+
+        static final String FAIL = "fail";
+
+        final List<String> received = new ArrayList<>();
+
+        @Override
+        public Class<Message> eventType() {
+            return Message.class;
+        }
+
+        @Override
+        public void handle(Message event) {
+            if (FAIL.equals(event.text())) {
+                throw new IllegalStateException("전달 실패");
+            }
+            received.add(event.text());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.matchday.global.security;
+
+import com.matchday.global.config.PasswordConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties("bcrypt", 6, 2, 8, Duration.ofSeconds(5));
+        passwordHashingService = new PasswordHashingService(
+                PasswordConfig.createDelegatingPasswordEncoder(properties), properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("새 해시는 인코더 id 접두사와 함께 저장된다")
+    void encode_ShouldPrefixEncodingId() {
+        // when
+        String encoded = passwordHashingService.encode("password123");
+
+        // then
+        assertThat(encoded).startsWith("{bcrypt}$2a$06$");
+        assertThat(passwordHashingService.verify("password123", encoded).matches()).isTrue();
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시도 검증되며, 로그인 시 새 해시로 업그레이드된다")
+    void verify_LegacyHash_ShouldMatchAndUpgrade() {
+        // given
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+
+        // when
+        PasswordVerification verification = passwordHashingService.verify("password123", legacyHash);
+
+        // then
+        assertThat(verification.matches()).isTrue();
+        assertThat(verification.upgradedHashIfAny()).hasValueSatisfying(
+                upgraded -> assertThat(upgraded).startsWith("{bcrypt}$2a$06$"));
+    }
+
+    @Test
+    @DisplayName("현재 정책으로 만든 해시는 업그레이드하지 않는다")
+    void verify_CurrentHash_ShouldNotUpgrade() {
+        // given
+        String encoded = passwordHashingService.encode("password123");
+
+        // when
+        PasswordVerification verification = passwordHashingService.verify("password123", encoded);
+
+        // then
+        assertThat(verification.matches()).isTrue();
+        assertThat(verification.upgradedHashIfAny()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 업그레이드 해시 없이 불일치를 반환한다")
+    void verify_WrongPassword_ShouldNotMatch() {
+        // given
+        String encoded = passwordHashingService.encode("password123");
+
+        // when
+        PasswordVerification verification = passwordHashingService.verify("wrongpassword", encoded);
+
+        // then
+        assertThat(verification.matches()).isFalse();
+        assertThat(verification.upgradedHashIfAny()).isEmpty();
+    }
+}
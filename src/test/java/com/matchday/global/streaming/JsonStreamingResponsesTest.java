@@ -0,0 +1,110 @@
+package com.matchday.global.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.matchday.global.entity.BaseResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.dto.MatchSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JsonStreamingResponsesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JsonStreamingResponses jsonStreamingResponses = new JsonStreamingResponses(
+            objectMapper, transactionManager, new StreamingProperties(1), meterRegistry);
+
+    @Test
+    @DisplayName("스트리밍 결과는 BaseResponse 를 한 번에 직렬화한 것과 같다")
+    void stream_ShouldWriteSameJsonAsBaseResponse() throws Exception {
+        List<MatchSummaryResponse> rows = new ArrayList<>();
+        for (long i = 1; i <= 2_500; i++) {
+            rows.add(new MatchSummaryResponse(i, 1L, "FC 매치데이", City.SEOUL, District.SEOUL_MAPO, "망원 풋살장",
+                    LocalDate.of(2025, 9, 13), LocalTime.of(20, 0), LocalTime.of(22, 0),
+                    100_000, SportsType.FUTSAL, MatchSize.SIX));
+        }
+        AtomicBoolean closed = new AtomicBoolean();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStreamingResponses.stream(() -> rows.stream().onClose(() -> closed.set(true))).writeTo(out);
+
+        assertThat(out.toString()).isEqualTo(
+                objectMapper.writeValueAsString(BaseResponse.onSuccess(rows, ResponseCode.OK)));
+        assertThat(closed).isTrue();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 빈 배열을 쓴다")
+    void stream_ShouldWriteEmptyArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStreamingResponses.stream(Stream::empty).writeTo(out);
+
+        assertThat(out.toString()).isEqualTo("{\"isSuccess\":true,\"code\":\"2000\",\"message\":\"OK\",\"result\":[]}");
+    }
+
+    @Test
+    @DisplayName("동시 스트림 한도를 넘으면 트랜잭션을 열지 않고 _SERVICE_BUSY 로 거절하고, 끝난 스트림의 자리는 다시 쓸 수 있다")
+    void stream_ShouldRejectWhenConcurrentStreamsExceeded() throws Exception {
+        CountDownLatch opened = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                jsonStreamingResponses.stream(() -> {
+                    opened.countDown();
+                    await(finish);
+                    return Stream.empty();
+                }).writeTo(new ByteArrayOutputStream());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(opened.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> jsonStreamingResponses.stream(Stream::empty).writeTo(new ByteArrayOutputStream()))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ResponseCode._SERVICE_BUSY));
+        assertThat(meterRegistry.get("matchday.streaming.rejected").counter().count()).isEqualTo(1);
+        verify(transactionManager, times(1)).getTransaction(any());
+
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStreamingResponses.stream(Stream::empty).writeTo(out);
+        assertThat(out.toString()).endsWith("\"result\":[]}");
+        assertThat(meterRegistry.get("matchday.streaming.active").gauge().value()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
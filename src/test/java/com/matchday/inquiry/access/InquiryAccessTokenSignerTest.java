@@ -0,0 +1,65 @@
+package com.matchday.inquiry.access;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InquiryAccessTokenSignerTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T10:00:00Z");
+    private static final InquiryAccessProperties PROPERTIES =
+            new InquiryAccessProperties("test-secret", Duration.ofMinutes(30), 5, Duration.ofMinutes(1),
+                    20, Duration.ofSeconds(15), 20, Duration.ofSeconds(30), 1000, 4);
+
+    private final InquiryAccessTokenSigner signer = signerAt(NOW);
+
+    @Test
+    @DisplayName("발급한 토큰은 같은 문의에 대해 유효 시간 동안 검증된다")
+    void verify_ShouldAcceptIssuedToken() {
+        InquiryAccessToken token = signer.issue(42L);
+
+        assertThat(token.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(30)));
+        assertThatCode(() -> signer.verify(token.token(), 42L)).doesNotThrowAnyException();
+        assertThatCode(() -> signerAt(NOW.plus(Duration.ofMinutes(29))).verify(token.token(), 42L))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 문의의 토큰이나 변조된 토큰은 거절한다")
+    void verify_ShouldRejectForeignOrTamperedToken() {
+        String token = signer.issue(42L).token();
+        String forged = "43" + token.substring(2);
+
+        assertErrorCode(() -> signer.verify(token, 43L), ResponseCode.TOKEN_INVALID_EXCEPTION);
+        assertErrorCode(() -> signer.verify(forged, 43L), ResponseCode.TOKEN_INVALID_EXCEPTION);
+        assertErrorCode(() -> signer.verify("not-a-token", 42L), ResponseCode.TOKEN_INVALID_EXCEPTION);
+        assertErrorCode(() -> signer.verify(token + "!", 42L), ResponseCode.TOKEN_INVALID_EXCEPTION);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 만료 오류로 거절한다")
+    void verify_ShouldRejectExpiredToken() {
+        String token = signer.issue(42L).token();
+
+        assertErrorCode(() -> signerAt(NOW.plus(Duration.ofMinutes(30))).verify(token, 42L),
+                ResponseCode.TOKEN_EXPIRED_EXCEPTION);
+    }
+
+    private static InquiryAccessTokenSigner signerAt(Instant now) {
+        return new InquiryAccessTokenSigner(PROPERTIES, Clock.fixed(now, ZoneId.of("Asia/Seoul")));
+    }
+
+    private static void assertErrorCode(org.assertj.core.api.ThrowableAssert.ThrowingCallable call, ResponseCode code) {
+        assertThatThrownBy(call)
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(code));
+    }
+}
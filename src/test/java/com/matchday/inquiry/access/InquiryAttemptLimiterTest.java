@@ -0,0 +1,111 @@
+package com.matchday.inquiry.access;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InquiryAttemptLimiterTest {
+
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("(문의, IP) 마다 burst 횟수까지 허용하고 이후에는 거절한다")
+    void tryAcquire_ShouldLimitPerInquiryAndIp() {
+        InquiryAttemptLimiter limiter = limiter(3, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(1L, "10.0.0.1")).isTrue();
+        }
+        assertThat(limiter.tryAcquire(1L, "10.0.0.1")).isFalse();
+
+        // 다른 IP, 다른 문의는 별도 버킷
+        assertThat(limiter.tryAcquire(1L, "10.0.0.2")).isTrue();
+        assertThat(limiter.tryAcquire(2L, "10.0.0.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("refillInterval 이 지날 때마다 한 번씩, burst 까지만 다시 채워진다")
+    void tryAcquire_ShouldRefillOverTime() {
+        InquiryAttemptLimiter limiter = limiter(2, 1000);
+        limiter.tryAcquire(1L, "ip");
+        limiter.tryAcquire(1L, "ip");
+        assertThat(limiter.tryAcquire(1L, "ip")).isFalse();
+
+        when(clock.millis()).thenReturn(60_000L);
+        assertThat(limiter.tryAcquire(1L, "ip")).isTrue();
+        assertThat(limiter.tryAcquire(1L, "ip")).isFalse();
+
+        when(clock.millis()).thenReturn(60_000L * 100);
+        assertThat(limiter.tryAcquire(1L, "ip")).isTrue();
+        assertThat(limiter.tryAcquire(1L, "ip")).isTrue();
+        assertThat(limiter.tryAcquire(1L, "ip")).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 상한을 넘으면 오래 쓰이지 않은 버킷부터 버린다")
+    void tryAcquire_ShouldEvictLeastRecentlyUsedBuckets() {
+        InquiryAttemptLimiter limiter = limiter(1, 8);
+
+        for (long inquiryId = 0; inquiryId < 1000; inquiryId++) {
+            limiter.tryAcquire(inquiryId, "ip");
+        }
+
+        // (문의, IP) 와 문의 범위에 각각 최대 8개
+        assertThat(limiter.size()).isLessThanOrEqualTo(16);
+        assertThat(meterRegistry.get("matchday.inquiry.verification.buckets.evicted")
+                .tag("scope", "inquiry-client").counter().count())
+                .isEqualTo(1000 - meterRegistry.get("matchday.inquiry.verification.buckets")
+                        .tag("scope", "inquiry-client").gauge().value());
+    }
+
+    @Test
+    @DisplayName("IP 버킷은 문의와 관계없이 모든 확인 요청에서 차감된다")
+    void tryAcquireClient_ShouldLimitAcrossInquiries() {
+        InquiryAttemptLimiter limiter = limiter(5, 2, 100, 1000);
+
+        assertThat(limiter.tryAcquireClient("10.0.0.1")).isTrue();
+        assertThat(limiter.tryAcquireClient("10.0.0.1")).isTrue();
+        assertThat(limiter.tryAcquireClient("10.0.0.1")).isFalse();
+
+        assertThat(limiter.tryAcquireClient("10.0.0.2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("문의 버킷은 여러 IP 에서 나눠 시도해도 합쳐서 제한한다")
+    void tryAcquire_ShouldLimitPerInquiryAcrossIps() {
+        InquiryAttemptLimiter limiter = limiter(5, 100, 3, 1000);
+
+        assertThat(limiter.tryAcquire(1L, "10.0.0.1")).isTrue();
+        assertThat(limiter.tryAcquire(1L, "10.0.0.2")).isTrue();
+        assertThat(limiter.tryAcquire(1L, "10.0.0.3")).isTrue();
+        assertThat(limiter.tryAcquire(1L, "10.0.0.4")).isFalse();
+
+        assertThat(limiter.tryAcquire(2L, "10.0.0.4")).isTrue();
+    }
+
+    private InquiryAttemptLimiter limiter(int burst, int maxBuckets) {
+        return limiter(burst, 1_000, 1_000, maxBuckets);
+    }
+
+    private InquiryAttemptLimiter limiter(int burst, int clientBurst, int inquiryBurst, int maxBuckets) {
+        InquiryAccessProperties properties = new InquiryAccessProperties("", Duration.ofMinutes(30),
+                burst, Duration.ofMinutes(1), clientBurst, Duration.ofMinutes(1), inquiryBurst, Duration.ofMinutes(1),
+                maxBuckets, 4);
+        return new InquiryAttemptLimiter(properties, clock, meterRegistry);
+    }
+}
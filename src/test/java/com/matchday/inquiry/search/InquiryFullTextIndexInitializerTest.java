@@ -0,0 +1,52 @@
+package com.matchday.inquiry.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InquiryFullTextIndexInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+    }
+
+    @Test
+    @DisplayName("인덱스를 만들지 않는 설정(운영)에서는 인덱스가 없어도 ALTER TABLE 을 실행하지 않는다")
+    void run_CreateDisabled_ShouldOnlyVerify() {
+        // given
+        indexCount(0);
+
+        // when
+        new InquiryFullTextIndexInitializer(jdbcTemplate, false).run(null);
+
+        // then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("로컬/테스트 설정에서는 인덱스가 없을 때만 만든다")
+    void run_CreateEnabled_ShouldCreateOnlyWhenMissing() {
+        // given
+        indexCount(0);
+
+        // when
+        new InquiryFullTextIndexInitializer(jdbcTemplate, true).run(null);
+        indexCount(1);
+        new InquiryFullTextIndexInitializer(jdbcTemplate, true).run(null);
+
+        // then
+        verify(jdbcTemplate, times(1)).execute(contains(InquiryFullTextIndexInitializer.INDEX_NAME));
+    }
+
+    private void indexCount(int count) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(InquiryFullTextIndexInitializer.INDEX_NAME)))
+                .thenReturn(count);
+    }
+}
@@ -0,0 +1,34 @@
+package com.matchday.inquiry.search;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InquiryKeywordTest {
+
+    @Test
+    @DisplayName("모든 단어를 필수(+) 조건으로 묶는다")
+    void toBooleanQuery_ShouldRequireEveryTerm() {
+        assertThat(InquiryKeyword.toBooleanQuery("  환불   요청 ")).isEqualTo("+환불 +요청");
+    }
+
+    @Test
+    @DisplayName("BOOLEAN MODE 연산자는 제거하고 중복 단어는 한 번만 넣는다")
+    void toBooleanQuery_ShouldStripOperators() {
+        assertThat(InquiryKeyword.toBooleanQuery("-환불 \"요청\" (환불)* Refund"))
+                .isEqualTo("+환불 +요청 +refund");
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 단어는 버리고, 남는 단어가 없으면 잘못된 요청이다")
+    void toBooleanQuery_ShouldRejectTooShortKeyword() {
+        assertThat(InquiryKeyword.toBooleanQuery("팀 가입 문의")).isEqualTo("+가입 +문의");
+
+        assertThatThrownBy(() -> InquiryKeyword.toBooleanQuery("a 팀 +"))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(ResponseCode._BAD_REQUEST));
+    }
+}
@@ -0,0 +1,92 @@
+package com.matchday.inquiry.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.global.security.PasswordHashingService;
+import com.matchday.global.security.PasswordVerification;
+import com.matchday.inquiry.access.InquiryAccessProperties;
+import com.matchday.inquiry.access.InquiryAccessTokenSigner;
+import com.matchday.inquiry.access.InquiryAttemptLimiter;
+import com.matchday.inquiry.repository.InquiryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InquiryAccessServiceTest {
+
+    private static final Long INQUIRY_ID = 1L;
+    private static final String CLIENT_IP = "10.0.0.1";
+    private static final int BURST = 2;
+    private static final int CLIENT_BURST = 5;
+
+    private InquiryRepository inquiryRepository;
+    private PasswordHashingService passwordHashingService;
+    private InquiryAttemptLimiter attemptLimiter;
+    private InquiryAccessService inquiryAccessService;
+
+    @BeforeEach
+    void setUp() {
+        inquiryRepository = mock(InquiryRepository.class);
+        passwordHashingService = mock(PasswordHashingService.class);
+        when(inquiryRepository.findPasswordHashById(anyLong())).thenReturn(Optional.empty());
+        when(inquiryRepository.findPasswordHashById(INQUIRY_ID)).thenReturn(Optional.of("{bcrypt}hash"));
+        when(passwordHashingService.verify(any(), any())).thenReturn(PasswordVerification.mismatch());
+
+        // (문의, IP) 버킷 상한을 1개로 두어, 다른 버킷이 만들어지면 바로 밀려나게 한다
+        InquiryAccessProperties properties = new InquiryAccessProperties("", Duration.ofMinutes(30),
+                BURST, Duration.ofMinutes(1), CLIENT_BURST, Duration.ofMinutes(1), 100, Duration.ofMinutes(1), 1, 1);
+        Clock clock = Clock.fixed(Instant.parse("2025-09-01T10:00:00Z"), ZoneId.of("Asia/Seoul"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        attemptLimiter = new InquiryAttemptLimiter(properties, clock, meterRegistry);
+        inquiryAccessService = new InquiryAccessService(inquiryRepository, passwordHashingService,
+                new InquiryAccessTokenSigner(properties, clock), attemptLimiter,
+                mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("없는 문의 id 시도는 (문의, IP) 버킷을 만들지 않아 대상 문의의 제한을 초기화하지 못한다")
+    void verify_ShouldNotResetLimitWithUnknownInquiryIds() {
+        for (int i = 0; i < BURST; i++) {
+            assertErrorCode(() -> inquiryAccessService.verify(INQUIRY_ID, "wrong", CLIENT_IP),
+                    ResponseCode.INQUIRY_PASSWORD_INCORRECT);
+        }
+
+        assertErrorCode(() -> inquiryAccessService.verify(999L, "wrong", CLIENT_IP), ResponseCode.INQUIRY_NOT_FOUND);
+
+        assertErrorCode(() -> inquiryAccessService.verify(INQUIRY_ID, "wrong", CLIENT_IP),
+                ResponseCode.INQUIRY_TOO_MANY_ATTEMPTS);
+        verify(passwordHashingService, times(BURST)).verify(any(), any());
+    }
+
+    @Test
+    @DisplayName("없는 문의 id 시도도 IP 버킷에서 차감된다")
+    void verify_ShouldChargeUnknownInquiryIdsToClient() {
+        for (long id = 100; id < 100 + CLIENT_BURST; id++) {
+            long inquiryId = id;
+            assertErrorCode(() -> inquiryAccessService.verify(inquiryId, "wrong", CLIENT_IP),
+                    ResponseCode.INQUIRY_NOT_FOUND);
+        }
+
+        assertErrorCode(() -> inquiryAccessService.verify(INQUIRY_ID, "wrong", CLIENT_IP),
+                ResponseCode.INQUIRY_TOO_MANY_ATTEMPTS);
+        verify(passwordHashingService, never()).verify(any(), any());
+    }
+
+    private static void assertErrorCode(Runnable call, ResponseCode expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(expected));
+    }
+}
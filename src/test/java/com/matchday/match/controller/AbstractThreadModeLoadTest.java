@@ -0,0 +1,313 @@
+package com.matchday.match.controller;
+
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.support.MySqlFixture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드의 API 부하 비교.
+ * 읽기(매치 목록), 쓰기(매치 생성), 경합하는 쓰기(같은 매치의 신청 동시 수락) 세 경로를 같은 MySQL 컨테이너와
+ * 같은 부하로 호출한다. 결과의 정합성은 검증하고, 처리량/p50/p99 는 두 모드를 비교할 수 있게 로그로 남긴다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(AbstractThreadModeLoadTest.LoadClientSecurity.class)
+abstract class AbstractThreadModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractThreadModeLoadTest.class);
+
+    private static final int MATCH_COUNT = 50_000;
+    private static final int TEAM_COUNT = 1_000;
+    private static final int CONCURRENCY = 400;
+    private static final int READ_REQUESTS = 20_000;
+    private static final int CREATE_REQUESTS = 2_000;
+    // 수락 경합: 매치마다 APPLICANTS 개 신청을 동시에 수락해 매치당 하나만 성공해야 한다
+    private static final int ACCEPT_MATCHES = 200;
+    private static final int APPLICANTS = 10;
+    private static final long ACCEPT_MATCH_ID_BASE = 1_000_000L;
+    private static final String USERNAME = "load";
+    private static final String PASSWORD = "load";
+
+    // 두 모드가 같은 데이터베이스를 쓰므로 시드 전에 이전 모드의 데이터를 지운다
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        MySqlFixture.registerDataSource(registry, "thread_mode_load");
+        registry.add("spring.security.user.name", () -> USERNAME);
+        registry.add("spring.security.user.password", () -> PASSWORD);
+        registry.add("logging.level.com.matchday", () -> "INFO");
+        registry.add("logging.level.org.springframework.security", () -> "WARN");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HttpClient client;
+    private String authorization;
+
+    protected abstract String mode();
+
+    @BeforeAll
+    void seed() {
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+
+        jdbcTemplate.update("delete from match_entry");
+        jdbcTemplate.update("delete from match_application");
+        jdbcTemplate.update("delete from matches");
+        jdbcTemplate.update("delete from team");
+        MySqlFixture.insertTeams(jdbcTemplate, TEAM_COUNT, "L");
+        seedOpenMatches();
+        seedApplications();
+    }
+
+    private void seedOpenMatches() {
+        Random random = new Random(7);
+        District[] seoul = District.getDistrictsByCity(City.SEOUL);
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(MATCH_COUNT);
+        for (long id = 1; id <= MATCH_COUNT; id++) {
+            District district = seoul[random.nextInt(seoul.length)];
+            LocalTime start = LocalTime.of(6 + random.nextInt(16), 0);
+            MatchSize size = MatchSize.values()[random.nextInt(MatchSize.values().length)];
+            rows.add(new Object[]{id, now, now, district.getCity().name(), district.name(), "구장 " + id,
+                    Date.valueOf(today.plusDays(random.nextInt(14))), Time.valueOf(start),
+                    Time.valueOf(start.plusHours(2)), 50_000, size.name(), size.getSportsType().name(), "OPEN"});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into matches (id, created_date, updated_date, city, district, place_name,
+                                     date, start_time, end_time, fee, match_size, sports_type, status, version)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, rows);
+    }
+
+    // 수락 대상 매치는 날짜를 모두 달리해 신청 팀끼리 일정 충돌(MATCH_DUPLICATED)로 실패하지 않게 한다
+    private void seedApplications() {
+        LocalDate firstDate = LocalDate.now().plusDays(30);
+        List<Object[]> matches = new ArrayList<>(ACCEPT_MATCHES);
+        List<Object[]> applications = new ArrayList<>(ACCEPT_MATCHES * APPLICANTS);
+        for (int m = 0; m < ACCEPT_MATCHES; m++) {
+            long matchId = ACCEPT_MATCH_ID_BASE + m;
+            matches.add(new Object[]{matchId, homeTeamOf(m), firstDate.plusDays(m), "OPEN"});
+            for (int a = 0; a < APPLICANTS; a++) {
+                long applicantTeamId = (homeTeamOf(m) + TEAM_COUNT / 2 + a) % TEAM_COUNT + 1;
+                applications.add(new Object[]{applicationIdOf(m, a), matchId, applicantTeamId});
+            }
+        }
+        MySqlFixture.insertMatches(jdbcTemplate, matches);
+        MySqlFixture.insertApplications(jdbcTemplate, applications);
+    }
+
+    private static long homeTeamOf(int acceptMatch) {
+        return acceptMatch % TEAM_COUNT + 1;
+    }
+
+    private static long applicationIdOf(int acceptMatch, int applicant) {
+        return (long) acceptMatch * APPLICANTS + applicant + 1;
+    }
+
+    @Test
+    @DisplayName("동시 요청 부하에서 매치 목록 API 의 처리량과 p99 를 측정한다")
+    void matchListUnderLoad() throws Exception {
+        District[] seoul = District.getDistrictsByCity(City.SEOUL);
+        LocalDate today = LocalDate.now();
+
+        LoadResult result = run(READ_REQUESTS, i -> {
+            // 검색 목록과 구/날짜별 목록을 번갈아 호출한다
+            String path = i % 2 == 0
+                    ? "/api/v1/matches/search?city=SEOUL&district=" + seoul[i % seoul.length]
+                    : "/api/v1/matches/availability?district=" + seoul[i % seoul.length]
+                    + "&date=" + today.plusDays(i % 14);
+            return request(path).GET().build();
+        });
+        report("read", result);
+
+        assertThat(result.statuses()).containsOnlyKeys(200);
+    }
+
+    @Test
+    @DisplayName("동시 요청 부하에서 매치 생성 API 가 모두 성공하고 처리량과 p99 를 측정한다")
+    void matchCreateUnderLoad() throws Exception {
+        Integer before = jdbcTemplate.queryForObject("select count(*) from matches", Integer.class);
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+
+        // 팀마다 하루에 한 매치만 만들어 일정 충돌 없이 모두 성공해야 한다
+        LoadResult result = run(CREATE_REQUESTS, i -> request("/api/v1/matches")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"homeTeamId": %d, "district": "SEOUL_MAPO", "placeName": "망원 풋살장 %d",
+                         "date": "%s", "startTime": "10:00", "endTime": "12:00", "fee": 100000,
+                         "sportsType": "FUTSAL", "matchSize": "SIX"}
+                        """.formatted(i % TEAM_COUNT + 1, i, firstDate.plusDays(i / TEAM_COUNT))))
+                .build());
+        report("create", result);
+
+        assertThat(result.statuses()).containsOnlyKeys(200);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from matches", Integer.class))
+                .isEqualTo(before + CREATE_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("같은 매치의 신청을 동시에 수락하면 매치마다 정확히 하나만 수락된다")
+    void matchAcceptUnderLoad() throws Exception {
+        // 연속된 요청이 같은 매치의 서로 다른 신청을 수락하므로 동시 클라이언트끼리 경합한다
+        LoadResult result = run(ACCEPT_MATCHES * APPLICANTS, i -> {
+            int match = i / APPLICANTS;
+            String path = "/api/v1/matches/" + (ACCEPT_MATCH_ID_BASE + match)
+                    + "/applications/" + applicationIdOf(match, i % APPLICANTS) + "/accept";
+            return request(path).POST(HttpRequest.BodyPublishers.noBody()).build();
+        });
+        report("accept", result);
+
+        // 진 요청은 이미 확정(409) 이거나 낙관적 락 재시도 소진(503) 이어야 하며, 그 외 실패는 없어야 한다
+        assertThat(result.statuses()).containsKey(200);
+        assertThat(result.statuses().keySet()).isSubsetOf(200, 409, 503);
+        assertThat(result.statuses().get(200)).isEqualTo(ACCEPT_MATCHES);
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from matches
+                where id >= ? and status = 'CONFIRMED'
+                """, Integer.class, ACCEPT_MATCH_ID_BASE)).isEqualTo(ACCEPT_MATCHES);
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from match_application
+                where status = 'ACCEPTED'
+                """, Integer.class)).isEqualTo(ACCEPT_MATCHES);
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from match_application
+                where status = 'APPLIED'
+                """, Integer.class)).isZero();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", authorization);
+    }
+
+    // CONCURRENCY 개의 클라이언트가 0 ~ requests-1 번 요청을 나눠 보낸다. 연결 실패는 상태 코드 -1 로 센다
+    private LoadResult run(int requests, IntFunction<HttpRequest> requestFor) throws Exception {
+        long[] latencies = new long[requests];
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CONCURRENCY; c++) {
+                futures.add(clients.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        HttpRequest request = requestFor.apply(i);
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            log.warn("[thread-mode:{}] 요청 실패: {}", mode(), request.uri(), e);
+                            status = -1;
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                        statuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        Map<Integer, Integer> counts = new ConcurrentHashMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.get()));
+        return new LoadResult(latencies, counts, elapsed);
+    }
+
+    private void report(String scenario, LoadResult result) {
+        log.info("[thread-mode:{}] scenario={} requests={} concurrency={} throughput={} req/s "
+                        + "p50={}ms p99={}ms statuses={}",
+                mode(), scenario, result.latencies().length, CONCURRENCY, Math.round(result.throughput()),
+                result.percentileMillis(0.50), result.percentileMillis(0.99), result.statuses());
+    }
+
+    private record LoadResult(long[] latencies, Map<Integer, Integer> statuses, long elapsedNanos) {
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        // latencies 는 정렬되어 있다
+        long percentileMillis(double percentile) {
+            int index = Math.max(0, (int) Math.ceil(latencies.length * percentile) - 1);
+            return latencies[index] / 1_000_000;
+        }
+    }
+
+    // 부하 클라이언트는 Basic 인증으로 POST 를 보내므로 CSRF 만 끈 기본 보안 설정을 쓴다
+    @TestConfiguration
+    static class LoadClientSecurity {
+
+        @Bean
+        SecurityFilterChain loadClientSecurityFilterChain(HttpSecurity http) throws Exception {
+            return http
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .authorizeHttpRequests(requests -> requests.anyRequest().authenticated())
+                    .httpBasic(Customizer.withDefaults())
+                    .build();
+        }
+    }
+}
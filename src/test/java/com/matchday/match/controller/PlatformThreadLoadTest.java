@@ -0,0 +1,13 @@
+package com.matchday.match.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends AbstractThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
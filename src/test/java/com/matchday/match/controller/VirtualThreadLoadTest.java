@@ -0,0 +1,14 @@
+package com.matchday.match.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles({"dev", "virtual-threads"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadLoadTest extends AbstractThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,187 @@
+package com.matchday.match.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.matchday.global.cache.KeyValueStore;
+import com.matchday.global.cache.LocalKeyValueStore;
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.dto.MatchSummaryResponse;
+import com.matchday.match.event.MatchCreatedEvent;
+import com.matchday.match.event.MatchSnapshot;
+import com.matchday.match.event.MatchUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MatchFeedCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+    private static final MatchFeedProperties PROPERTIES = new MatchFeedProperties(100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 조건은 한 번만 조회하고 이후에는 캐시에서 응답한다")
+    void get_ShouldLoadOnceForSameKey() {
+        MatchFeedCache cache = cache(null);
+
+        SliceResponse<MatchSummaryResponse> first = cache.get(key(City.SEOUL), loader());
+        SliceResponse<MatchSummaryResponse> second = cache.get(key(City.SEOUL), loader());
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("matchday.match.feed.load").tag("source", "database").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("매치가 바뀐 시/도의 결과만 무효화된다")
+    void onMatchChanged_ShouldInvalidateOnlyChangedCity() {
+        MatchFeedCache cache = cache(null);
+        cache.get(key(City.SEOUL), loader());
+        cache.get(key(City.BUSAN), loader());
+
+        cache.onMatchChanged(new MatchCreatedEvent(snapshot(District.SEOUL_MAPO)));
+        cache.get(key(City.SEOUL), loader());
+        cache.get(key(City.BUSAN), loader());
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("다른 시/도로 옮겨진 매치는 이전 시/도의 결과도 무효화한다")
+    void onMatchChanged_ShouldInvalidatePreviousCityOnMove() {
+        MatchFeedCache cache = cache(null);
+        cache.get(key(City.SEOUL), loader());
+        cache.get(key(City.BUSAN), loader());
+
+        cache.onMatchChanged(new MatchUpdatedEvent(snapshot(District.SEOUL_MAPO), City.BUSAN));
+        cache.get(key(City.SEOUL), loader());
+        cache.get(key(City.BUSAN), loader());
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("무효화 전에 시작된 조회 결과는 무효화 이후 요청에 쓰이지 않는다")
+    void invalidate_ShouldNotServeLoadStartedBeforeInvalidation() throws Exception {
+        MatchFeedCache cache = cache(null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        CompletableFuture<SliceResponse<MatchSummaryResponse>> staleLoad = CompletableFuture.supplyAsync(
+                () -> cache.get(key(City.SEOUL), () -> {
+                    loading.countDown();
+                    await(invalidated);
+                    return loader().get();
+                }));
+        await(loading);
+        cache.invalidate(City.SEOUL);
+        invalidated.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        cache.get(key(City.SEOUL), loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("2차 캐시를 공유하는 다른 노드는 DB 대신 2차 캐시에서 채우고, 무효화는 노드 간에 전파된다")
+    void secondTier_ShouldBeSharedAcrossNodes() {
+        KeyValueStore store = new LocalKeyValueStore(Clock.systemUTC());
+        MatchFeedCache nodeA = cache(store);
+        MatchFeedCache nodeB = cache(store);
+
+        SliceResponse<MatchSummaryResponse> fromDatabase = nodeA.get(key(City.SEOUL), loader());
+        SliceResponse<MatchSummaryResponse> fromSecondTier = nodeB.get(key(City.SEOUL), loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(fromSecondTier.getNextCursor()).isEqualTo(fromDatabase.getNextCursor());
+        assertThat(fromSecondTier.getContent()).singleElement()
+                .satisfies(match -> {
+                    assertThat(match.getId()).isEqualTo(1L);
+                    assertThat(match.getDistrict()).isEqualTo(District.SEOUL_MAPO);
+                    assertThat(match.getStartTime()).isEqualTo(LocalTime.of(20, 0));
+                });
+
+        nodeA.invalidate(City.SEOUL);
+        MatchFeedCache nodeC = cache(store);
+        nodeC.get(key(City.SEOUL), loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("2차 캐시 장애 시 DB 조회로 응답한다")
+    void secondTier_ShouldFallBackToDatabaseOnFailure() {
+        KeyValueStore broken = mock(KeyValueStore.class);
+        when(broken.get(anyString())).thenThrow(new IllegalStateException("connection refused"));
+
+        SliceResponse<MatchSummaryResponse> slice = cache(broken).get(key(City.SEOUL), loader());
+
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MatchFeedCache cache(KeyValueStore secondTier) {
+        ObjectProvider<KeyValueStore> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(secondTier);
+        return new MatchFeedCache(PROPERTIES, provider, objectMapper, meterRegistry);
+    }
+
+    private Supplier<SliceResponse<MatchSummaryResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return SliceResponse.of(List.of(new MatchSummaryResponse(1L, 10L, "망원 FC", City.SEOUL,
+                    District.SEOUL_MAPO, "망원 풋살장", TODAY, LocalTime.of(20, 0), LocalTime.of(22, 0),
+                    100_000, SportsType.FUTSAL, MatchSize.SIX)), "next");
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MatchFeedKey key(City city) {
+        return new MatchFeedKey(city, null, TODAY, TODAY.plusDays(14), null, null, null, null, null, 20);
+    }
+
+    private static MatchSnapshot snapshot(District district) {
+        return new MatchSnapshot(1L, 10L, district.getCity(), district, TODAY, LocalTime.of(20, 0),
+                LocalTime.of(22, 0), SportsType.FUTSAL, MatchSize.SIX, MatchStatus.OPEN);
+    }
+}
@@ -0,0 +1,114 @@
+package com.matchday.match.index;
+
+import com.matchday.global.entity.enums.District;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DistrictDayIndexTest {
+
+    private static final LocalDate SATURDAY = LocalDate.of(2025, 9, 13);
+
+    @Test
+    @DisplayName("같은 구/날짜의 매치는 시작 시간 순으로 조회된다")
+    void find_ShouldReturnMatchesOrderedByStartTime() {
+        // given
+        DistrictDayIndex index = new DistrictDayIndex();
+        index.put(3L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(20, 0));
+        index.put(1L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(10, 0));
+        index.put(2L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(10, 0));
+        index.put(4L, District.SEOUL_GANGNAM, SATURDAY, LocalTime.of(10, 0));
+
+        // when
+        long[] ids = index.find(District.SEOUL_MAPO, SATURDAY, null, null);
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("시간대 조건은 시작/끝 시간을 모두 포함한다")
+    void find_WithTimeWindow_ShouldBeInclusive() {
+        // given
+        DistrictDayIndex index = new DistrictDayIndex();
+        index.put(1L, District.BUSAN_JUNG, SATURDAY, LocalTime.of(9, 30));
+        index.put(2L, District.BUSAN_JUNG, SATURDAY, LocalTime.of(18, 0));
+        index.put(3L, District.BUSAN_JUNG, SATURDAY, LocalTime.of(21, 0));
+        index.put(4L, District.BUSAN_JUNG, SATURDAY, LocalTime.of(21, 30));
+
+        // when
+        long[] ids = index.find(District.BUSAN_JUNG, SATURDAY, LocalTime.of(18, 0), LocalTime.of(21, 0));
+
+        // then
+        assertThat(ids).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("매치 일정이 바뀌면 이전 버킷에서 빠지고 새 버킷으로 옮겨진다")
+    void put_ExistingMatch_ShouldMoveBucket() {
+        // given
+        DistrictDayIndex index = new DistrictDayIndex();
+        index.put(1L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(10, 0));
+
+        // when
+        index.put(1L, District.SEOUL_JUNG, SATURDAY.plusDays(1), LocalTime.of(12, 0));
+
+        // then
+        assertThat(index.find(District.SEOUL_MAPO, SATURDAY, null, null)).isEmpty();
+        assertThat(index.find(District.SEOUL_JUNG, SATURDAY.plusDays(1), null, null)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 매치는 조회되지 않는다")
+    void remove_ShouldDropMatch() {
+        // given
+        DistrictDayIndex index = new DistrictDayIndex();
+        index.put(1L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(10, 0));
+        index.put(2L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(11, 0));
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.find(District.SEOUL_MAPO, SATURDAY, null, null)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빌더로 재구성한 인덱스는 증분 추가한 인덱스와 같은 결과를 낸다")
+    void builder_ShouldMatchIncrementalIndex() {
+        // given
+        DistrictDayIndex built = DistrictDayIndex.builder()
+                .add(5L, District.JEJU_JEJU, SATURDAY, LocalTime.of(8, 0))
+                .add(6L, District.JEJU_JEJU, SATURDAY, LocalTime.of(7, 0))
+                .add(7L, District.JEJU_JEJU, SATURDAY, LocalTime.of(9, 0))
+                .build();
+
+        // when
+        built.put(8L, District.JEJU_JEJU, SATURDAY, LocalTime.of(8, 30));
+
+        // then
+        assertThat(built.find(District.JEJU_JEJU, SATURDAY, null, null)).containsExactly(6L, 5L, 8L, 7L);
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 버킷은 정리된다")
+    void evictBefore_ShouldDropPastDays() {
+        // given
+        DistrictDayIndex index = new DistrictDayIndex();
+        index.put(1L, District.SEOUL_MAPO, SATURDAY, LocalTime.of(10, 0));
+        index.put(2L, District.SEOUL_MAPO, SATURDAY.plusDays(1), LocalTime.of(10, 0));
+
+        // when
+        index.evictBefore(SATURDAY.plusDays(1));
+
+        // then
+        assertThat(index.find(District.SEOUL_MAPO, SATURDAY, null, null)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.matchday.match.lifecycle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MatchLifecycleTaskTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("예정 시각이 지난 작업만 시각 순서대로 꺼내진다")
+    void drainTo_ShouldReturnOnlyDueTasksInOrder() {
+        // given
+        LocalDateTime now = LocalDateTime.now(SEOUL);
+        DelayQueue<MatchLifecycleTask> queue = new DelayQueue<>();
+        queue.add(MatchLifecycleTask.of(MatchLifecycleTask.Type.CLOSE_MATCH, 2L, now.minusMinutes(1), SEOUL));
+        queue.add(MatchLifecycleTask.of(MatchLifecycleTask.Type.FINISH_MATCH, 3L, now.plusHours(1), SEOUL));
+        queue.add(MatchLifecycleTask.of(MatchLifecycleTask.Type.EXPIRE_APPLICATIONS, 1L, now.minusMinutes(5), SEOUL));
+        queue.add(MatchLifecycleTask.of(MatchLifecycleTask.Type.CLOSE_MATCH, 1L, now.minusMinutes(1), SEOUL));
+
+        // when
+        List<MatchLifecycleTask> batch = new ArrayList<>();
+        queue.drainTo(batch);
+
+        // then
+        assertThat(batch).extracting(MatchLifecycleTask::matchId).containsExactly(1L, 1L, 2L);
+        assertThat(batch).extracting(MatchLifecycleTask::type).containsExactly(
+                MatchLifecycleTask.Type.EXPIRE_APPLICATIONS,
+                MatchLifecycleTask.Type.CLOSE_MATCH,
+                MatchLifecycleTask.Type.CLOSE_MATCH);
+        assertThat(queue).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 매치의 같은 전환은 같은 작업으로 취급되어 중복으로 큐에 올라가지 않는다")
+    void equals_SameTypeMatchAndDueAt() {
+        // given
+        LocalDateTime dueAt = LocalDateTime.of(2025, 9, 13, 22, 0);
+
+        // when
+        MatchLifecycleTask first = MatchLifecycleTask.of(MatchLifecycleTask.Type.CLOSE_MATCH, 1L, dueAt, SEOUL);
+        MatchLifecycleTask second = MatchLifecycleTask.of(MatchLifecycleTask.Type.CLOSE_MATCH, 1L, dueAt, SEOUL);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(
+                MatchLifecycleTask.of(MatchLifecycleTask.Type.CLOSE_MATCH, 1L, dueAt.plusMinutes(30), SEOUL));
+    }
+}
@@ -0,0 +1,109 @@
+package com.matchday.match.recommendation;
+
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.team.domain.enums.GroupGender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OpponentRecommenderTest {
+
+    private static final LocalDate SATURDAY = LocalDate.of(2025, 9, 13);
+    private static final long MY_TEAM = 100L;
+
+    private static RecommendationQuery query(GroupGender gender, LocalTime windowStart, LocalTime windowEnd) {
+        return new RecommendationQuery(MY_TEAM, District.SEOUL_MAPO, gender, 0.5f,
+                SATURDAY, SATURDAY.plusDays(1), windowStart, windowEnd, null, null);
+    }
+
+    private static OpponentCandidates.Builder add(OpponentCandidates.Builder builder, long matchId, long teamId,
+                                                  District district, LocalDate date, int startHour,
+                                                  GroupGender gender, float skill) {
+        return builder.add(matchId, teamId, district, date, LocalTime.of(startHour, 0), LocalTime.of(startHour + 2, 0),
+                SportsType.FUTSAL, MatchSize.SIX, gender, skill);
+    }
+
+    @Test
+    @DisplayName("같은 구/군, 비슷한 실력의 매치가 먼저 추천된다")
+    void recommend_ShouldOrderByScore() {
+        // given
+        OpponentCandidates.Builder builder = OpponentCandidates.builder();
+        add(builder, 1L, 1L, District.SEOUL_GANGNAM, SATURDAY, 20, GroupGender.MALE, 0.5f);
+        add(builder, 2L, 2L, District.SEOUL_MAPO, SATURDAY, 20, GroupGender.MALE, 0.9f);
+        add(builder, 3L, 3L, District.SEOUL_MAPO, SATURDAY, 20, GroupGender.MALE, 0.5f);
+        OpponentCandidates candidates = builder.build();
+
+        // when
+        List<Recommendation> result = OpponentRecommender.recommend(candidates,
+                query(GroupGender.MALE, null, null), 10, matchId -> false);
+
+        // then
+        assertThat(result).extracting(Recommendation::matchId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("자기 팀 매치, 남/여가 다른 팀, 다른 시/도, 날짜 범위 밖 매치는 추천하지 않는다")
+    void recommend_ShouldSkipIncompatibleCandidates() {
+        // given
+        OpponentCandidates.Builder builder = OpponentCandidates.builder();
+        add(builder, 1L, MY_TEAM, District.SEOUL_MAPO, SATURDAY, 20, GroupGender.MALE, 0.5f);
+        add(builder, 2L, 2L, District.SEOUL_MAPO, SATURDAY, 20, GroupGender.FEMALE, 0.5f);
+        add(builder, 3L, 3L, District.BUSAN_JUNG, SATURDAY, 20, GroupGender.MALE, 0.5f);
+        add(builder, 4L, 4L, District.SEOUL_MAPO, SATURDAY.plusDays(2), 20, GroupGender.MALE, 0.5f);
+        add(builder, 5L, 5L, District.SEOUL_MAPO, SATURDAY.minusDays(1), 20, GroupGender.MALE, 0.5f);
+        add(builder, 6L, 6L, District.SEOUL_MAPO, SATURDAY.plusDays(1), 20, GroupGender.MIXED, 0.5f);
+        OpponentCandidates candidates = builder.build();
+
+        // when
+        List<Recommendation> result = OpponentRecommender.recommend(candidates,
+                query(GroupGender.MALE, null, null), 10, matchId -> false);
+
+        // then
+        assertThat(result).extracting(Recommendation::matchId).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("원하는 시간대와 겹치지 않거나 제외된 매치는 추천하지 않는다")
+    void recommend_ShouldRequireScheduleOverlap() {
+        // given
+        OpponentCandidates.Builder builder = OpponentCandidates.builder();
+        add(builder, 1L, 1L, District.SEOUL_MAPO, SATURDAY, 8, GroupGender.MALE, 0.5f);
+        add(builder, 2L, 2L, District.SEOUL_MAPO, SATURDAY, 17, GroupGender.MALE, 0.5f);
+        add(builder, 3L, 3L, District.SEOUL_MAPO, SATURDAY, 19, GroupGender.MALE, 0.5f);
+        add(builder, 4L, 4L, District.SEOUL_MAPO, SATURDAY, 20, GroupGender.MALE, 0.5f);
+        OpponentCandidates candidates = builder.build();
+
+        // when
+        List<Recommendation> result = OpponentRecommender.recommend(candidates,
+                query(GroupGender.MALE, LocalTime.of(19, 0), LocalTime.of(22, 0)), 10, matchId -> matchId == 4L);
+
+        // then: 17~19시 매치는 19시에 끝나 원하는 시간대와 겹치지 않는다
+        assertThat(result).extracting(Recommendation::matchId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼 점수 상위 매치만 반환한다")
+    void recommend_ShouldKeepTopK() {
+        // given
+        OpponentCandidates.Builder builder = OpponentCandidates.builder();
+        for (long id = 1; id <= 100; id++) {
+            add(builder, id, id, District.SEOUL_MAPO, SATURDAY, 6 + (int) (id % 15), GroupGender.MALE, id / 100f);
+        }
+        OpponentCandidates candidates = builder.build();
+
+        // when
+        List<Recommendation> result = OpponentRecommender.recommend(candidates,
+                query(GroupGender.MALE, null, null), 3, matchId -> false);
+
+        // then: 실력 0.5 에 가까운 49, 50, 51 번
+        assertThat(result).extracting(Recommendation::matchId).containsExactlyInAnyOrder(49L, 50L, 51L);
+        assertThat(result.get(0).matchId()).isEqualTo(50L);
+    }
+}
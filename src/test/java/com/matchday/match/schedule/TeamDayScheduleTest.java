@@ -0,0 +1,86 @@
+package com.matchday.match.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TeamDayScheduleTest {
+
+    private static final int H10 = 10 * 60;
+    private static final int H12 = 12 * 60;
+    private static final int H14 = 14 * 60;
+    private static final int H16 = 16 * 60;
+    private static final int H18 = 18 * 60;
+
+    @Test
+    @DisplayName("앞 경기가 끝나는 시각에 시작하거나, 뒤 경기가 시작하는 시각에 끝나면 겹치지 않는다")
+    void conflictsWith_EdgeTouching_ShouldNotConflict() {
+        // given
+        TeamDaySchedule schedule = TeamDaySchedule.EMPTY.with(1L, H12, H14);
+
+        // when & then
+        assertThat(schedule.conflictsWith(H14, H16)).isFalse();
+        assertThat(schedule.conflictsWith(H10, H12)).isFalse();
+    }
+
+    @Test
+    @DisplayName("1분이라도 겹치거나 포함 관계이면 충돌이다")
+    void conflictsWith_Overlapping_ShouldConflict() {
+        // given
+        TeamDaySchedule schedule = TeamDaySchedule.EMPTY.with(1L, H12, H14);
+
+        // when & then
+        assertThat(schedule.conflictsWith(H14 - 1, H16)).isTrue();
+        assertThat(schedule.conflictsWith(H10, H12 + 1)).isTrue();
+        assertThat(schedule.conflictsWith(H12 + 30, H14 - 30)).isTrue();
+        assertThat(schedule.conflictsWith(H10, H16)).isTrue();
+        assertThat(schedule.conflictsWith(H12, H14)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 겹쳐 저장된 긴 경기가 있어도 그 뒤 빈 시간을 찾는다")
+    void conflictsWith_LongEarlierInterval_ShouldUsePrefixMaxEnd() {
+        // given: 10~18시 경기 안에 12~14시 경기가 이미 들어 있는 데이터
+        TeamDaySchedule schedule = TeamDaySchedule.EMPTY
+                .with(1L, H10, H18)
+                .with(2L, H12, H14);
+
+        // when & then
+        assertThat(schedule.conflictsWith(H14, H16)).isTrue();
+        assertThat(schedule.conflictsWith(H18, H18 + 60)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 일정과 연속된 경기들 사이의 빈틈을 구분한다")
+    void conflictsWith_Gaps() {
+        // given
+        TeamDaySchedule schedule = TeamDaySchedule.EMPTY
+                .with(2L, H14, H16)
+                .with(1L, H10, H12);
+
+        // when & then
+        assertThat(TeamDaySchedule.EMPTY.conflictsWith(H10, H12)).isFalse();
+        assertThat(schedule.conflictsWith(H12, H14)).isFalse();
+        assertThat(schedule.conflictsWith(H16, H18)).isFalse();
+        assertThat(schedule.conflictsWith(H12 - 1, H14)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 매치를 다시 넣으면 옮겨지고, 빼면 그 시간이 비워진다")
+    void withAndWithout_SameMatch_ShouldMove() {
+        // given
+        TeamDaySchedule schedule = TeamDaySchedule.EMPTY.with(1L, H12, H14);
+
+        // when
+        TeamDaySchedule moved = schedule.with(1L, H16, H18);
+        TeamDaySchedule removed = moved.without(1L);
+
+        // then
+        assertThat(moved.size()).isEqualTo(1);
+        assertThat(moved.intervalOf(1L)).containsExactly(H16, H18);
+        assertThat(moved.conflictsWith(H12, H14)).isFalse();
+        assertThat(removed.size()).isZero();
+        assertThat(removed.without(1L)).isSameAs(removed);
+    }
+}
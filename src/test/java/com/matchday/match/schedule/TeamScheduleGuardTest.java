@@ -0,0 +1,113 @@
+package com.matchday.match.schedule;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.dto.ScheduleInterval;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.team.repository.TeamRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TeamScheduleGuardTest {
+
+    private static final LocalDate SATURDAY = LocalDate.of(2025, 9, 13);
+    private static final Long TEAM = 1L;
+
+    private MatchRepository matchRepository;
+    private MatchEntryRepository matchEntryRepository;
+    private TeamRepository teamRepository;
+    private TeamScheduleGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = mock(MatchRepository.class);
+        matchEntryRepository = mock(MatchEntryRepository.class);
+        teamRepository = mock(TeamRepository.class);
+        guard = new TeamScheduleGuard(matchRepository, matchEntryRepository, teamRepository,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("홈 매치와 원정 매치를 팀 행을 잠근 뒤 DB 에서 읽어 검사한다")
+    void check_ShouldCheckHomeAndAwayMatchesAfterLockingTeam() {
+        // given
+        when(matchRepository.findScheduleIntervals(TEAM, SATURDAY))
+                .thenReturn(List.of(new ScheduleInterval(10L, LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        when(matchEntryRepository.findAwayScheduleIntervals(TEAM, SATURDAY))
+                .thenReturn(List.of(new ScheduleInterval(20L, LocalTime.of(18, 0), LocalTime.of(20, 0))));
+
+        // when
+        guard.check(TEAM, 30L, SATURDAY, LocalTime.of(12, 0), LocalTime.of(14, 0));
+
+        // then
+        assertThatThrownBy(() -> guard.check(TEAM, 31L, SATURDAY, LocalTime.of(19, 0), LocalTime.of(21, 0)))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(ResponseCode.MATCH_DUPLICATED));
+        assertThatThrownBy(() -> guard.check(TEAM, 32L, SATURDAY, LocalTime.of(11, 0), LocalTime.of(13, 0)))
+                .isInstanceOf(GeneralException.class);
+        InOrder inOrder = inOrder(teamRepository, matchRepository);
+        inOrder.verify(teamRepository).lockById(TEAM);
+        inOrder.verify(matchRepository).findScheduleIntervals(TEAM, SATURDAY);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 커밋한 예약도 예약할 때마다 DB 를 다시 읽어 충돌로 잡는다")
+    void check_ShouldSeeReservationsCommittedElsewhere() {
+        // given
+        when(matchRepository.findScheduleIntervals(TEAM, SATURDAY)).thenReturn(List.of());
+        when(matchEntryRepository.findAwayScheduleIntervals(TEAM, SATURDAY)).thenReturn(List.of());
+        guard.check(TEAM, 1L, SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        // when: 다른 인스턴스에서 14~16시 원정이 확정되었다
+        when(matchEntryRepository.findAwayScheduleIntervals(TEAM, SATURDAY))
+                .thenReturn(List.of(new ScheduleInterval(2L, LocalTime.of(14, 0), LocalTime.of(16, 0))));
+
+        // then
+        assertThatThrownBy(() -> guard.check(TEAM, 3L, SATURDAY, LocalTime.of(15, 0), LocalTime.of(17, 0)))
+                .isInstanceOf(GeneralException.class);
+        verify(teamRepository, times(2)).lockById(TEAM);
+    }
+
+    @Test
+    @DisplayName("앞선 검사 뒤 다른 인스턴스에서 삭제된 매치는 충돌로 보지 않는다")
+    void check_ShouldNotSeeMatchesDeletedElsewhere() {
+        // given
+        when(matchRepository.findScheduleIntervals(TEAM, SATURDAY))
+                .thenReturn(List.of(new ScheduleInterval(10L, LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        when(matchEntryRepository.findAwayScheduleIntervals(TEAM, SATURDAY)).thenReturn(List.of());
+        guard.check(TEAM, 11L, SATURDAY, LocalTime.of(14, 0), LocalTime.of(16, 0));
+
+        // when: 10 번 매치가 다른 인스턴스에서 삭제되었다
+        when(matchRepository.findScheduleIntervals(TEAM, SATURDAY))
+                .thenReturn(List.of(new ScheduleInterval(11L, LocalTime.of(14, 0), LocalTime.of(16, 0))));
+
+        // then
+        guard.check(TEAM, 12L, SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+
+    @Test
+    @DisplayName("일정을 옮길 때 자기 자신과는 충돌하지 않는다")
+    void check_ShouldIgnoreItself() {
+        // given
+        when(matchRepository.findScheduleIntervals(eq(TEAM), any()))
+                .thenReturn(List.of(new ScheduleInterval(1L, LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        when(matchEntryRepository.findAwayScheduleIntervals(eq(TEAM), any())).thenReturn(List.of());
+
+        // when & then
+        guard.check(TEAM, 1L, SATURDAY, LocalTime.of(11, 0), LocalTime.of(13, 0));
+        assertThatThrownBy(() -> guard.check(TEAM, 2L, SATURDAY, LocalTime.of(11, 0), LocalTime.of(13, 0)))
+                .isInstanceOf(GeneralException.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.support.MySqlFixture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 한 매치의 서로 다른 신청을 여러 관리자가 동시에 수락하는 상황을 반복해, 이중 확정이 없는지와 수락 지연시간을 측정한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchApplicationAcceptBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchApplicationAcceptBenchmarkTest.class);
+
+    private static final int ROUNDS = 30;
+    private static final int ACCEPTORS = 32;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        MySqlFixture.registerDataSource(registry, "match_application_accept");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(ACCEPTORS));
+    }
+
+    @Autowired
+    private MatchApplicationAcceptService matchApplicationAcceptService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedTeams() {
+        MySqlFixture.insertTeams(jdbcTemplate, ACCEPTORS + 1, "T");
+    }
+
+    @Test
+    @DisplayName("동시 수락 경쟁에서도 매치당 정확히 하나의 신청만 수락된다")
+    void concurrentAccept_ShouldConfirmExactlyOnce() throws Exception {
+        List<Long> latencies = new ArrayList<>();
+        AtomicInteger alreadyConfirmed = new AtomicInteger();
+        AtomicInteger exhaustedRetries = new AtomicInteger();
+
+        try (ExecutorService acceptors = Executors.newFixedThreadPool(ACCEPTORS)) {
+            for (long round = 1; round <= ROUNDS; round++) {
+                long matchId = round;
+                List<Long> applicationIds = seedRound(matchId);
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Long>> futures = new ArrayList<>();
+                for (Long applicationId : applicationIds) {
+                    futures.add(acceptors.submit(() -> {
+                        start.await();
+                        long begin = System.nanoTime();
+                        try {
+                            matchApplicationAcceptService.accept(matchId, applicationId);
+                        } catch (GeneralException e) {
+                            assertThat(e.getErrorCode()).isIn(ResponseCode.MATCH_ALREADY_CONFIRMED,
+                                    ResponseCode.MATCH_APPLICATION_ALREADY_PROCESSED);
+                            alreadyConfirmed.incrementAndGet();
+                        } catch (OptimisticLockingFailureException e) {
+                            exhaustedRetries.incrementAndGet();
+                        }
+                        return System.nanoTime() - begin;
+                    }));
+                }
+                start.countDown();
+                for (Future<Long> future : futures) {
+                    latencies.add(future.get());
+                }
+
+                assertRoundConsistent(matchId);
+            }
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        log.info("[match-accept] rounds={} acceptors={} p50={}ms p99={}ms lost={} retriesExhausted={}",
+                ROUNDS, ACCEPTORS, sorted[sorted.length / 2] / 1_000_000,
+                sorted[(int) (sorted.length * 0.99) - 1] / 1_000_000, alreadyConfirmed.get(), exhaustedRetries.get());
+    }
+
+    // 라운드마다 날짜를 달리해 이전 라운드에서 확정된 팀이 일정 충돌(MATCH_DUPLICATED)로 수락되지 않는 일이 없게 한다
+    private List<Long> seedRound(long matchId) {
+        MySqlFixture.insertOpenMatch(jdbcTemplate, matchId, ACCEPTORS + 1, LocalDate.now().plusDays(7 + matchId));
+
+        List<Long> applicationIds = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (long team = 1; team <= ACCEPTORS; team++) {
+            long applicationId = matchId * 1_000 + team;
+            applicationIds.add(applicationId);
+            rows.add(new Object[]{applicationId, matchId, team});
+        }
+        MySqlFixture.insertApplications(jdbcTemplate, rows);
+        return applicationIds;
+    }
+
+    private void assertRoundConsistent(long matchId) {
+        Integer accepted = jdbcTemplate.queryForObject(
+                "select count(*) from match_application where match_id = ? and status = 'ACCEPTED'", Integer.class, matchId);
+        Integer stillApplied = jdbcTemplate.queryForObject(
+                "select count(*) from match_application where match_id = ? and status = 'APPLIED'", Integer.class, matchId);
+        Integer entries = jdbcTemplate.queryForObject(
+                "select count(*) from match_entry where match_id = ?", Integer.class, matchId);
+        String status = jdbcTemplate.queryForObject("select status from matches where id = ?", String.class, matchId);
+
+        assertThat(accepted).isEqualTo(1);
+        assertThat(stillApplied).isZero();
+        assertThat(entries).isEqualTo(1);
+        assertThat(status).isEqualTo("CONFIRMED");
+    }
+}
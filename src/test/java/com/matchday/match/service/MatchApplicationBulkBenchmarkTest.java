@@ -0,0 +1,149 @@
+package com.matchday.match.service;
+
+import com.matchday.match.domain.enums.MatchApplicationAction;
+import com.matchday.match.dto.MatchApplicationBulkRequest;
+import com.matchday.match.dto.MatchApplicationBulkResponse;
+import com.matchday.support.MySqlFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 신청 100건 거절을 한 건씩 처리할 때와 일괄 처리 API 로 처리할 때의 소요 시간과 JDBC 문장 수를 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchApplicationBulkBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchApplicationBulkBenchmarkTest.class);
+
+    private static final int APPLICATIONS_PER_MATCH = 100;
+    private static final int ROUNDS = 20;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        MySqlFixture.registerDataSource(registry, "match_application_bulk");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private MatchApplicationBulkService matchApplicationBulkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long nextMatchId = 1;
+
+    @BeforeAll
+    void seedTeams() {
+        MySqlFixture.insertTeams(jdbcTemplate, APPLICATIONS_PER_MATCH + 1, "B");
+    }
+
+    @Test
+    @DisplayName("일괄 거절은 건별 거절보다 적은 문장으로 같은 결과를 만든다")
+    void bulkReject_ShouldUseFewerStatementsThanOneByOne() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업
+        runOneByOne(seedMatch());
+        runBulk(seedMatch());
+
+        statistics.clear();
+        long oneByOneNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            oneByOneNanos += runOneByOne(seedMatch());
+        }
+        long oneByOneStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long bulkNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            bulkNanos += runBulk(seedMatch());
+        }
+        long bulkStatements = statistics.getPrepareStatementCount();
+
+        log.info("[match-application-bulk] items={} one-by-one={}ms/{} stmts bulk={}ms/{} stmts",
+                APPLICATIONS_PER_MATCH,
+                oneByOneNanos / 1_000_000 / ROUNDS, oneByOneStatements / ROUNDS,
+                bulkNanos / 1_000_000 / ROUNDS, bulkStatements / ROUNDS);
+
+        // 소요 시간은 CI 장비마다 흔들리므로 로그로만 남기고, 검증은 문장 수로 한다.
+        // 건별 처리는 신청마다 조회/UPDATE/outbox INSERT 를 따로 보내고, 일괄 처리는 IN 조회 한 번과 JDBC batch 몇 번이다
+        assertThat(oneByOneStatements / ROUNDS).isGreaterThanOrEqualTo(APPLICATIONS_PER_MATCH);
+        assertThat(bulkStatements / ROUNDS).isLessThan(APPLICATIONS_PER_MATCH / 10);
+    }
+
+    private long runOneByOne(SeededMatch seeded) {
+        long start = System.nanoTime();
+        for (Long applicationId : seeded.applicationIds()) {
+            matchApplicationBulkService.process(seeded.matchId(),
+                    new MatchApplicationBulkRequest(MatchApplicationAction.REJECT, List.of(applicationId)));
+        }
+        long elapsed = System.nanoTime() - start;
+        assertAllRejected(seeded.matchId());
+        return elapsed;
+    }
+
+    private long runBulk(SeededMatch seeded) {
+        long start = System.nanoTime();
+        MatchApplicationBulkResponse response = matchApplicationBulkService.process(seeded.matchId(),
+                new MatchApplicationBulkRequest(MatchApplicationAction.REJECT, seeded.applicationIds()));
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(response.getProcessedCount()).isEqualTo(APPLICATIONS_PER_MATCH);
+        assertAllRejected(seeded.matchId());
+        // 한 요청에서 처리된 신청은 같은 처리 시각을 가진다
+        Integer distinctProcessedAt = jdbcTemplate.queryForObject(
+                "select count(distinct processed_at) from match_application where match_id = ?",
+                Integer.class, seeded.matchId());
+        assertThat(distinctProcessedAt).isEqualTo(1);
+        return elapsed;
+    }
+
+    private SeededMatch seedMatch() {
+        long matchId = nextMatchId++;
+        MySqlFixture.insertOpenMatch(jdbcTemplate, matchId, APPLICATIONS_PER_MATCH + 1, LocalDate.now().plusDays(7));
+
+        List<Long> applicationIds = new ArrayList<>(APPLICATIONS_PER_MATCH);
+        List<Object[]> rows = new ArrayList<>(APPLICATIONS_PER_MATCH);
+        for (long team = 1; team <= APPLICATIONS_PER_MATCH; team++) {
+            long applicationId = matchId * 1_000 + team;
+            applicationIds.add(applicationId);
+            rows.add(new Object[]{applicationId, matchId, team});
+        }
+        MySqlFixture.insertApplications(jdbcTemplate, rows);
+        return new SeededMatch(matchId, applicationIds);
+    }
+
+    private void assertAllRejected(long matchId) {
+        Integer rejected = jdbcTemplate.queryForObject(
+                "select count(*) from match_application where match_id = ? and status = 'REJECTED'",
+                Integer.class, matchId);
+        assertThat(rejected).isEqualTo(APPLICATIONS_PER_MATCH);
+    }
+
+    private record SeededMatch(long matchId, List<Long> applicationIds) {
+    }
+}
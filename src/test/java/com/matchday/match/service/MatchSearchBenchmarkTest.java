@@ -0,0 +1,190 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.SliceResponse;
+import com.matchday.global.entity.enums.City;
+import com.matchday.global.entity.enums.District;
+import com.matchday.match.domain.enums.MatchSize;
+import com.matchday.match.domain.enums.SportsType;
+import com.matchday.match.dto.MatchSearchCondition;
+import com.matchday.match.dto.MatchSummaryResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchSearchBenchmarkTest.class);
+
+    private static final int MATCH_COUNT = 300_000;
+    private static final int SEED_BATCH_SIZE = 5_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+    private static final long P99_LIMIT_MILLIS = 50;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.show-sql", () -> "false");
+        // 같은 조건을 반복 조회하므로 매치 피드 캐시를 끄고 DB 조회 지연시간만 잰다
+        registry.add("matchday.match.feed.maximum-size", () -> "0");
+    }
+
+    @Autowired
+    private MatchSearchService matchSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @BeforeAll
+    void seed() {
+        Random random = new Random(42);
+        District[] districts = District.values();
+        MatchSize[] sizes = MatchSize.values();
+        LocalDate today = LocalDate.now(clock);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long id = 1; id <= MATCH_COUNT; id++) {
+            // 서울 비중을 높여 실제 트래픽 분포에 가깝게 만든다
+            District district = random.nextInt(3) == 0
+                    ? District.getDistrictsByCity(City.SEOUL)[random.nextInt(25)]
+                    : districts[random.nextInt(districts.length)];
+            MatchSize size = sizes[random.nextInt(sizes.length)];
+            LocalTime start = LocalTime.of(6 + random.nextInt(16), random.nextBoolean() ? 0 : 30);
+
+            batch.add(new Object[]{
+                    id, now, now, district.getCity().name(), district.name(), "구장 " + id,
+                    Date.valueOf(today.plusDays(random.nextInt(60) - 7)),
+                    Time.valueOf(start), Time.valueOf(start.plusHours(2)),
+                    10_000 * (1 + random.nextInt(10)), size.name(), size.getSportsType().name(),
+                    random.nextInt(5) == 0 ? "CONFIRMED" : "OPEN"
+            });
+            if (batch.size() == SEED_BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE TABLE matches");
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("""
+                insert into matches (id, created_date, updated_date, city, district, place_name,
+                                     date, start_time, end_time, fee, match_size, sports_type, status, version)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, batch);
+    }
+
+    @Test
+    @DisplayName("시/도 단위 2주 검색의 p99 지연시간이 기준 이내이다")
+    void searchByCity() {
+        MatchSearchCondition condition = new MatchSearchCondition();
+        condition.setCity(City.SEOUL);
+
+        assertP99("city", () -> matchSearchService.searchOpenMatches(condition));
+    }
+
+    @Test
+    @DisplayName("구/군 + 이번 주말 검색의 p99 지연시간이 기준 이내이다")
+    void searchByDistrictThisWeekend() {
+        LocalDate saturday = LocalDate.now(clock).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        MatchSearchCondition condition = new MatchSearchCondition();
+        condition.setCity(City.SEOUL);
+        condition.setDistrict(District.SEOUL_GANGNAM);
+        condition.setDateFrom(saturday);
+        condition.setDateTo(saturday.plusDays(1));
+
+        assertP99("district-weekend", () -> matchSearchService.searchOpenMatches(condition));
+    }
+
+    @Test
+    @DisplayName("종목 + 저녁 시간대 검색의 p99 지연시간이 기준 이내이다")
+    void searchBySportsTypeAndEvening() {
+        MatchSearchCondition condition = new MatchSearchCondition();
+        condition.setCity(City.SEOUL);
+        condition.setSportsType(SportsType.FUTSAL);
+        condition.setStartTimeFrom(LocalTime.of(18, 0));
+
+        assertP99("sports-evening", () -> matchSearchService.searchOpenMatches(condition));
+    }
+
+    @Test
+    @DisplayName("커서로 깊은 페이지를 조회해도 p99 지연시간이 기준 이내이다")
+    void searchDeepPageWithCursor() {
+        MatchSearchCondition condition = new MatchSearchCondition();
+        condition.setCity(City.SEOUL);
+        condition.setSize(50);
+
+        // 20 페이지 뒤의 커서를 만든다
+        for (int i = 0; i < 20; i++) {
+            SliceResponse<MatchSummaryResponse> page = matchSearchService.searchOpenMatches(condition);
+            assertThat(page.isHasNext()).isTrue();
+            condition.setCursor(page.getNextCursor());
+        }
+
+        assertP99("deep-cursor", () -> matchSearchService.searchOpenMatches(condition));
+    }
+
+    private void assertP99(String name, Supplier<SliceResponse<MatchSummaryResponse>> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            SliceResponse<MatchSummaryResponse> result = search.get();
+            latencies[i] = System.nanoTime() - start;
+            assertThat(result.getContent()).isNotEmpty();
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[ITERATIONS / 2] / 1_000_000.0;
+        double p99 = latencies[(int) Math.ceil(ITERATIONS * 0.99) - 1] / 1_000_000.0;
+        log.info("[match-search:{}] p50={}ms p99={}ms", name, String.format("%.2f", p50), String.format("%.2f", p99));
+
+        assertThat(p99).isLessThan(P99_LIMIT_MILLIS);
+    }
+}
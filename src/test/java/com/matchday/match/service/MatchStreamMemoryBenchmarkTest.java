@@ -0,0 +1,151 @@
+package com.matchday.match.service;
+
+import com.matchday.global.entity.enums.City;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 100만 건 매치 목록을 스트리밍으로 내려받는 동안 힙 사용량이 결과 크기와 관계없이 일정한지 확인한다.
+ * 출력 중간중간 GC 후 살아 있는 힙을 재서, 목록을 메모리에 모았다면 수백 MB 가 늘어났을 구간에서도 증가량이 작아야 한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchStreamMemoryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchStreamMemoryBenchmarkTest.class);
+
+    private static final int MATCH_COUNT = 1_000_000;
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final long SAMPLE_EVERY_BYTES = 32L * 1024 * 1024;
+    private static final long HEAP_GROWTH_LIMIT_BYTES = 48L * 1024 * 1024;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @Autowired
+    private MatchStreamService matchStreamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @BeforeAll
+    void seed() {
+        LocalDate today = LocalDate.now(clock);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long id = 1; id <= MATCH_COUNT; id++) {
+            LocalTime start = LocalTime.of(6 + (int) (id % 16), id % 2 == 0 ? 0 : 30);
+            batch.add(new Object[]{id, now, now, "구장 " + id, Date.valueOf(today.plusDays(id % 30)),
+                    Time.valueOf(start), Time.valueOf(start.plusHours(2))});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("""
+                insert into matches (id, created_date, updated_date, city, district, place_name,
+                                     date, start_time, end_time, fee, match_size, sports_type, status, version)
+                values (?, ?, ?, 'SEOUL', 'SEOUL_MAPO', ?, ?, ?, ?, 100000, 'SIX', 'FUTSAL', 'OPEN', 0)
+                """, batch);
+    }
+
+    @Test
+    @DisplayName("100만 건을 스트리밍하는 동안 힙 증가량이 일정 수준 이하이다")
+    void streamOpenMatches_ShouldKeepHeapFlat() throws Exception {
+        LocalDate today = LocalDate.now(clock);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        long startedAt = System.nanoTime();
+        matchStreamService.streamOpenMatches(City.SEOUL, today, today.plusDays(30)).writeTo(out);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        log.info("[match-stream] rows={} bytes={}MB elapsed={}ms baseline={}MB peakGrowth={}MB samples={}",
+                MATCH_COUNT, out.written / (1024 * 1024), elapsedMillis, out.baseline / (1024 * 1024),
+                out.peakGrowth / (1024 * 1024), out.samples);
+
+        // 100만 건이 모두 나갔고, 그 크기가 힙 상한보다 충분히 커야 측정이 의미 있다
+        assertThat(out.written).isGreaterThan(HEAP_GROWTH_LIMIT_BYTES * 4);
+        assertThat(out.samples).isGreaterThanOrEqualTo(4);
+        assertThat(out.peakGrowth).isLessThan(HEAP_GROWTH_LIMIT_BYTES);
+    }
+
+    // 버리는 출력 스트림. SAMPLE_EVERY_BYTES 마다 GC 후 사용 중인 힙을 기록한다
+    private static final class HeapSamplingOutputStream extends OutputStream {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline = liveHeap(memory);
+        private long written;
+        private long nextSampleAt = SAMPLE_EVERY_BYTES;
+        private long peakGrowth;
+        private int samples;
+
+        @Override
+        public void write(int b) {
+            advance(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            advance(len);
+        }
+
+        private void advance(int length) {
+            written += length;
+            if (written >= nextSampleAt) {
+                nextSampleAt += SAMPLE_EVERY_BYTES;
+                samples++;
+                peakGrowth = Math.max(peakGrowth, liveHeap(memory) - baseline);
+            }
+        }
+
+        private static long liveHeap(MemoryMXBean memory) {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
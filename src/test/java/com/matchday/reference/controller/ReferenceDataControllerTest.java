@@ -0,0 +1,79 @@
+package com.matchday.reference.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchday.reference.service.ReferenceDataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ReferenceDataControllerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReferenceDataController(registry)).build();
+    }
+
+    @Test
+    @DisplayName("미리 직렬화한 BaseResponse 본문을 ETag, Cache-Control 과 함께 내려준다")
+    void cities_ShouldReturnPreparedBody() throws Exception {
+        mockMvc.perform(get("/api/v1/reference/cities"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.result[0].code").value("SEOUL"))
+                .andExpect(jsonPath("$.result[0].name").value("서울특별시"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 로 응답한다")
+    void cities_ShouldReturnNotModifiedForMatchingEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/reference/positions"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/reference/positions")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/" + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에는 미리 압축한 본문을 별도 ETag 로 내려준다")
+    void cities_ShouldReturnGzipVariant() throws Exception {
+        MvcResult plain = mockMvc.perform(get("/api/v1/reference/team-types")).andReturn();
+        MvcResult gzip = mockMvc.perform(get("/api/v1/reference/team-types")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        assertThat(gzip.getResponse().getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(plain.getResponse().getHeader(HttpHeaders.ETAG));
+        assertThat(gunzip(gzip.getResponse().getContentAsByteArray()))
+                .isEqualTo(plain.getResponse().getContentAsByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
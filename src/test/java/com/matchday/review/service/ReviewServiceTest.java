@@ -0,0 +1,139 @@
+package com.matchday.review.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.match.domain.Match;
+import com.matchday.match.domain.MatchEntry;
+import com.matchday.match.domain.enums.MatchStatus;
+import com.matchday.match.repository.MatchEntryRepository;
+import com.matchday.match.repository.MatchRepository;
+import com.matchday.review.domain.Review;
+import com.matchday.review.dto.ReviewCreateRequest;
+import com.matchday.review.repository.MatchReviewSummaryRepository;
+import com.matchday.review.repository.ReviewRepository;
+import com.matchday.review.repository.TeamReviewSummaryRepository;
+import com.matchday.team.domain.Team;
+import com.matchday.team.repository.TeamUserRepository;
+import com.matchday.user.domain.User;
+import com.matchday.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReviewServiceTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate SATURDAY = LocalDate.of(2025, 9, 13);
+    private static final Long MATCH_ID = 10L;
+    private static final Long HOME_TEAM_ID = 1L;
+    private static final Long AWAY_TEAM_ID = 2L;
+    private static final Long USER_ID = 100L;
+
+    private ReviewRepository reviewRepository;
+    private MatchReviewSummaryRepository matchReviewSummaryRepository;
+    private TeamReviewSummaryRepository teamReviewSummaryRepository;
+    private MatchRepository matchRepository;
+    private TeamUserRepository teamUserRepository;
+    private Match match;
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        matchReviewSummaryRepository = mock(MatchReviewSummaryRepository.class);
+        teamReviewSummaryRepository = mock(TeamReviewSummaryRepository.class);
+        matchRepository = mock(MatchRepository.class);
+        teamUserRepository = mock(TeamUserRepository.class);
+
+        Team homeTeam = mock(Team.class);
+        when(homeTeam.getId()).thenReturn(HOME_TEAM_ID);
+        Team awayTeam = mock(Team.class);
+        when(awayTeam.getId()).thenReturn(AWAY_TEAM_ID);
+        MatchEntry entry = mock(MatchEntry.class);
+        when(entry.getTeam()).thenReturn(awayTeam);
+
+        match = mock(Match.class);
+        when(match.getId()).thenReturn(MATCH_ID);
+        when(match.getHomeTeam()).thenReturn(homeTeam);
+        when(match.getStatus()).thenReturn(MatchStatus.CONFIRMED);
+        when(match.getDate()).thenReturn(SATURDAY);
+        when(match.getEndTime()).thenReturn(LocalTime.of(22, 0));
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.of(match));
+
+        MatchEntryRepository matchEntryRepository = mock(MatchEntryRepository.class);
+        when(matchEntryRepository.findFirstByMatchId(MATCH_ID)).thenReturn(Optional.of(entry));
+        when(teamUserRepository.existsByTeamIdAndUserId(AWAY_TEAM_ID, USER_ID)).thenReturn(true);
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(mock(User.class));
+
+        Clock afterMatch = Clock.fixed(SATURDAY.atTime(23, 0).atZone(SEOUL).toInstant(), SEOUL);
+        reviewService = new ReviewService(reviewRepository, matchReviewSummaryRepository, teamReviewSummaryRepository,
+                matchRepository, matchEntryRepository, teamUserRepository, userRepository, afterMatch);
+    }
+
+    @Test
+    @DisplayName("리뷰를 작성하면 매치와 홈 팀 누적값이 함께 증가한다")
+    void write_ShouldApplyDeltaToMatchAndHomeTeam() {
+        reviewService.write(MATCH_ID, new ReviewCreateRequest(USER_ID, 4, "매너 좋은 팀"));
+
+        verify(matchReviewSummaryRepository).applyDelta(MATCH_ID, 4, 1);
+        verify(teamReviewSummaryRepository).applyDelta(HOME_TEAM_ID, 4, 1);
+    }
+
+    @Test
+    @DisplayName("이미 리뷰를 남긴 회원은 REVIEW_ALREADY_FOUND")
+    void write_Twice_ShouldFail() {
+        when(reviewRepository.existsByMatchIdAndReviewerId(MATCH_ID, USER_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> reviewService.write(MATCH_ID, new ReviewCreateRequest(USER_ID, 5, null)))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(ResponseCode.REVIEW_ALREADY_FOUND));
+        verify(matchReviewSummaryRepository, never()).applyDelta(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("경기가 끝나기 전에는 리뷰를 작성할 수 없다")
+    void write_BeforeMatchEnds_ShouldFail() {
+        when(match.getEndTime()).thenReturn(LocalTime.of(23, 30));
+
+        assertThatThrownBy(() -> reviewService.write(MATCH_ID, new ReviewCreateRequest(USER_ID, 5, null)))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(ResponseCode.REVIEW_MATCH_NOT_ENDED));
+    }
+
+    @Test
+    @DisplayName("원정 팀 소속이 아니면 리뷰를 작성할 수 없다")
+    void write_NotAwayTeamMember_ShouldFail() {
+        when(teamUserRepository.existsByTeamIdAndUserId(AWAY_TEAM_ID, USER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> reviewService.write(MATCH_ID, new ReviewCreateRequest(USER_ID, 5, null)))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> assertThat(((GeneralException) e).getErrorCode()).isEqualTo(ResponseCode.MATCH_USER_NOT_ATTENDANCE));
+    }
+
+    @Test
+    @DisplayName("리뷰를 삭제하면 같은 점수만큼 누적값이 줄어든다")
+    void delete_ShouldRevertDelta() {
+        User reviewer = mock(User.class);
+        when(reviewer.getId()).thenReturn(USER_ID);
+        Review review = Review.write(match, reviewer, 3, null);
+        when(reviewRepository.findById(55L)).thenReturn(Optional.of(review));
+
+        reviewService.delete(55L, USER_ID);
+
+        verify(reviewRepository).delete(review);
+        verify(matchReviewSummaryRepository).applyDelta(MATCH_ID, 3, -1);
+        verify(teamReviewSummaryRepository).applyDelta(HOME_TEAM_ID, 3, -1);
+    }
+}
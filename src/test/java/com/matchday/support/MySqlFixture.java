@@ -0,0 +1,84 @@
+package com.matchday.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL 통합/벤치마크 테스트가 공유하는 컨테이너와 기본 데이터.
+ * 컨테이너는 JVM 에 하나만 띄우고(종료 시 Ryuk 가 정리한다) 테스트 클래스마다 다른 데이터베이스를 쓰게 해서,
+ * 컨텍스트마다 스키마를 create-drop 해도 다른 클래스의 데이터를 지우지 않는다.
+ * 팀/매치/신청 행은 엔티티 검증을 거치지 않고 JdbcTemplate batch 로 바로 넣는다.
+ */
+public final class MySqlFixture {
+
+    private static final String TEAM_INSERT = """
+            insert into team (id, name, type, gender, member_limit, invite_code, bank_name, bank_account,
+                              has_ball, stats_wins, stats_draws, stats_losses)
+            values (?, ?, 'CLUB', 'MIXED', 30, ?, '매치은행', '000-000', false, 0, 0, 0)
+            """;
+
+    private static final String MATCH_INSERT = """
+            insert into matches (id, created_date, updated_date, home_team_id, city, district, place_name,
+                                 date, start_time, end_time, fee, match_size, sports_type, status, version)
+            values (?, now(), now(), ?, 'SEOUL', 'SEOUL_MAPO', '망원 풋살장', ?, '20:00', '22:00',
+                    100000, 'SIX', 'FUTSAL', ?, 0)
+            """;
+
+    private static final String APPLICATION_INSERT = """
+            insert into match_application (id, created_date, updated_date, match_id, applicant_team_id,
+                                           message, status, version)
+            values (?, now(), now(), ?, ?, '경기해요', 'APPLIED', 0)
+            """;
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+
+    private MySqlFixture() {
+    }
+
+    /**
+     * 공유 컨테이너의 database 를 데이터소스로 등록한다. 데이터베이스는 처음 연결할 때 만들어지므로
+     * 만들 권한이 있는 root 로 접속한다. JDBC batch 가 실제 multi-row 문장으로 나가도록 rewriteBatchedStatements 를 켠다.
+     */
+    public static void registerDataSource(DynamicPropertyRegistry registry, String database) {
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://" + MYSQL.getHost() + ":"
+                + MYSQL.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + database
+                + "?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"
+                + "&useSSL=false&allowPublicKeyRetrieval=true");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    // id 1..count, 초대 코드는 inviteCodePrefix + 다섯 자리 id
+    public static void insertTeams(JdbcTemplate jdbcTemplate, int count, String inviteCodePrefix) {
+        List<Object[]> teams = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            teams.add(new Object[]{id, "팀 " + id, String.format("%s%05d", inviteCodePrefix, id)});
+        }
+        jdbcTemplate.batchUpdate(TEAM_INSERT, teams);
+    }
+
+    // 서울 마포 20~22시 풋살 6:6 모집중 매치
+    public static void insertOpenMatch(JdbcTemplate jdbcTemplate, long id, long homeTeamId, LocalDate date) {
+        jdbcTemplate.update(MATCH_INSERT, id, homeTeamId, date, "OPEN");
+    }
+
+    // 행마다 {id, homeTeamId, date, status}, 나머지 값은 insertOpenMatch 와 같다
+    public static void insertMatches(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(MATCH_INSERT, rows);
+    }
+
+    // 행마다 {id, matchId, applicantTeamId}, 모두 APPLIED 상태
+    public static void insertApplications(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(APPLICATION_INSERT, rows);
+    }
+}
@@ -0,0 +1,54 @@
+package com.matchday.team.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    @DisplayName("무작위 삽입/삭제 후에도 순위와 k번째 원소가 정렬 결과와 같다")
+    void randomOperations_ShouldMatchSortedSet() {
+        Random random = new Random(7);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(tree.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertThat(tree.size()).isEqualTo(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(tree.select(i)).isEqualTo(sorted.get(i));
+            assertThat(tree.rank(sorted.get(i))).isEqualTo(i);
+        }
+        assertThat(tree.rank(-1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("range 는 offset 부터 limit 개를 순서대로 반환한다")
+    void range_ShouldReturnPageInOrder() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+        for (int i = 1; i <= 100; i++) {
+            tree.add(i);
+        }
+
+        assertThat(tree.range(0, 3)).containsExactly(100, 99, 98);
+        assertThat(tree.range(95, 10)).containsExactly(5, 4, 3, 2, 1);
+        assertThat(tree.range(100, 10)).isEmpty();
+        assertThat(tree.range(37, 50)).hasSize(50).first().isEqualTo(63);
+    }
+}
@@ -0,0 +1,232 @@
+package com.matchday.team.service;
+
+import com.matchday.global.entity.enums.ResponseCode;
+import com.matchday.global.exception.GeneralException;
+import com.matchday.support.MySqlFixture;
+import com.matchday.team.domain.enums.TeamRole;
+import com.matchday.team.dto.TeamJoinRequest;
+import com.matchday.team.dto.TeamMemberResponse;
+import com.matchday.team.repository.TeamUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 팀 명단 조회가 쿼리 한 번으로 읽고 team.roster 쿼리 캐시에 남는지, 가입/탈퇴/역할 변경이 커밋된 뒤에만
+ * TeamRosterCache 가 캐시를 비우는지, 같은 회원의 동시 가입이 하나만 남는지를 실제 DB 로 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TeamRosterIntegrationTest {
+
+    // 테스트끼리 명단이 섞이지 않도록 팀을 나눠 쓴다
+    private static final long ROSTER_TEAM = 1L;
+    private static final long JOIN_TEAM = 2L;
+    private static final long CHANGE_TEAM = 3L;
+    private static final long RACE_TEAM = 4L;
+    private static final int TEAMS = 4;
+    // 팀마다 1..MEMBERS 번 회원이 가입되어 있고 1번이 리더다
+    private static final int MEMBERS = 3;
+    private static final long NEW_USER = 9L;
+    private static final long RACE_USER = 10L;
+    private static final int RACERS = 8;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        MySqlFixture.registerDataSource(registry, "team_roster");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private TeamMemberService teamMemberService;
+
+    @Autowired
+    private TeamUserRepository teamUserRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        MySqlFixture.insertTeams(jdbcTemplate, TEAMS, "R");
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= RACE_USER; id++) {
+            users.add(new Object[]{id, "user" + id + "@matchday.com", "회원 " + id});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into users (id, created_date, updated_date, email, password, name, birth, height,
+                                   main_position, role, is_professional)
+                values (?, now(), now(), ?, '{noop}password', ?, '1995-01-01', 175, 'MF', 'ROLE_MEMBER', false)
+                """, users);
+
+        List<Object[]> members = new ArrayList<>();
+        for (long team = 1; team <= TEAMS; team++) {
+            for (long user = 1; user <= MEMBERS; user++) {
+                String role = user == 1 ? "LEADER" : "MEMBER";
+                members.add(new Object[]{team * 100 + user, team, user, role, (int) user});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into team_user (id, created_date, team_id, user_id, role, back_number)
+                values (?, now(), ?, ?, ?, ?)
+                """, members);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("명단은 회원 정보까지 쿼리 한 번으로 읽고, 다시 조회하면 team.roster 캐시에서 읽는다")
+    void findRoster_ShouldRunOneQueryAndBeCached() {
+        // when
+        List<TeamMemberResponse> first = teamUserRepository.findRoster(ROSTER_TEAM);
+        long firstStatements = statistics.getPrepareStatementCount();
+        List<TeamMemberResponse> second = teamUserRepository.findRoster(ROSTER_TEAM);
+
+        // then
+        assertThat(first).hasSize(MEMBERS)
+                .allSatisfy(member -> assertThat(member.getName()).startsWith("회원 "));
+        assertThat(firstStatements).isEqualTo(1);
+        assertThat(second).extracting(TeamMemberResponse::getUserId)
+                .containsExactlyInAnyOrderElementsOf(first.stream().map(TeamMemberResponse::getUserId).toList());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가입하면 커밋된 뒤에 명단 캐시를 비우고 다음 조회에 새 팀원이 보인다")
+    void join_ShouldEvictRosterAfterCommit() {
+        // given
+        teamUserRepository.findRoster(JOIN_TEAM);
+        double before = evictions();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            teamMemberService.join(JOIN_TEAM, new TeamJoinRequest(NEW_USER, "R00002", 9));
+            assertThat(evictions()).isEqualTo(before);
+        });
+
+        // then
+        assertThat(evictions()).isEqualTo(before + 1);
+        assertThat(teamUserRepository.findRoster(JOIN_TEAM)).hasSize(MEMBERS + 1)
+                .extracting(TeamMemberResponse::getUserId).contains(NEW_USER);
+    }
+
+    @Test
+    @DisplayName("역할 변경과 탈퇴도 커밋마다 명단 캐시를 비운다")
+    void changeRoleAndLeave_ShouldEvictRoster() {
+        // given
+        teamUserRepository.findRoster(CHANGE_TEAM);
+        double before = evictions();
+
+        // when
+        teamMemberService.changeRole(CHANGE_TEAM, 2L, TeamRole.MANAGER);
+        List<TeamMemberResponse> afterChange = teamUserRepository.findRoster(CHANGE_TEAM);
+        teamMemberService.leave(CHANGE_TEAM, 3L);
+        List<TeamMemberResponse> afterLeave = teamUserRepository.findRoster(CHANGE_TEAM);
+
+        // then
+        assertThat(evictions()).isEqualTo(before + 2);
+        assertThat(afterChange).filteredOn(member -> member.getUserId() == 2L)
+                .extracting(TeamMemberResponse::getRole).containsExactly(TeamRole.MANAGER);
+        assertThat(afterLeave).extracting(TeamMemberResponse::getUserId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 명단 캐시를 비우지 않는다")
+    void rolledBackChange_ShouldNotEvictRoster() {
+        // given
+        teamUserRepository.findRoster(ROSTER_TEAM);
+        double before = evictions();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            teamMemberService.changeRole(ROSTER_TEAM, 2L, TeamRole.MANAGER);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(evictions()).isEqualTo(before);
+        assertThat(teamUserRepository.findRoster(ROSTER_TEAM)).filteredOn(member -> member.getUserId() == 2L)
+                .extracting(TeamMemberResponse::getRole).containsExactly(TeamRole.MEMBER);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 가입하면 하나만 가입되고 나머지는 CLUB_USER_ALREADY_JOINED 를 받는다")
+    void concurrentJoin_ShouldKeepOneMembership() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        try (ExecutorService racers = Executors.newFixedThreadPool(RACERS)) {
+            for (int i = 0; i < RACERS; i++) {
+                futures.add(racers.submit(() -> {
+                    start.await();
+                    return teamMemberService.join(RACE_TEAM, new TeamJoinRequest(RACE_USER, "R00004", null));
+                }));
+            }
+            start.countDown();
+
+            int joined = 0;
+            for (Future<Long> future : futures) {
+                try {
+                    future.get();
+                    joined++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(GeneralException.class);
+                    assertThat(((GeneralException) e.getCause()).getErrorCode())
+                            .isEqualTo(ResponseCode.CLUB_USER_ALREADY_JOINED);
+                }
+            }
+            assertThat(joined).isEqualTo(1);
+        }
+
+        Integer memberships = jdbcTemplate.queryForObject(
+                "select count(*) from team_user where team_id = ? and user_id = ?", Integer.class, RACE_TEAM, RACE_USER);
+        assertThat(memberships).isEqualTo(1);
+    }
+
+    private double evictions() {
+        return meterRegistry.get("matchday.team.roster.cache.evictions").counter().count();
+    }
+}
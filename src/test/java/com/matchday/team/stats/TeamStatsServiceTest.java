@@ -0,0 +1,73 @@
+package com.matchday.team.stats;
+
+import com.matchday.match.domain.enums.MatchOutcome;
+import com.matchday.team.domain.TeamStatsLedger;
+import com.matchday.team.repository.TeamRepository;
+import com.matchday.team.repository.TeamStatsLedgerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TeamStatsServiceTest {
+
+    private static final Long MATCH_ID = 10L;
+    private static final Long HOME_TEAM_ID = 1L;
+    private static final Long AWAY_TEAM_ID = 2L;
+
+    private TeamRepository teamRepository;
+    private TeamStatsLedgerRepository ledgerRepository;
+    private TeamStatsService teamStatsService;
+
+    @BeforeEach
+    void setUp() {
+        teamRepository = mock(TeamRepository.class);
+        ledgerRepository = mock(TeamStatsLedgerRepository.class);
+        teamStatsService = new TeamStatsService(teamRepository, ledgerRepository,
+                mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("처음 기록된 결과는 양 팀 전적에 한 번씩 반영된다")
+    void applyResult_FirstTime_ShouldApplyToBothTeams() {
+        when(ledgerRepository.findById(MATCH_ID)).thenReturn(Optional.empty());
+
+        teamStatsService.applyResult(MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, MatchOutcome.WIN);
+
+        verify(ledgerRepository).save(any(TeamStatsLedger.class));
+        verify(teamRepository).applyStatsDelta(HOME_TEAM_ID, 1, 0, 0);
+        verify(teamRepository).applyStatsDelta(AWAY_TEAM_ID, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("같은 결과를 다시 기록하면 전적은 바뀌지 않는다")
+    void applyResult_SameOutcome_ShouldBeIdempotent() {
+        when(ledgerRepository.findById(MATCH_ID)).thenReturn(Optional.of(
+                TeamStatsLedger.record(MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, MatchOutcome.DRAW)));
+
+        teamStatsService.applyResult(MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, MatchOutcome.DRAW);
+
+        verify(teamRepository, never()).applyStatsDelta(anyLong(), anyInt(), anyInt(), anyInt());
+        verify(ledgerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("결과가 정정되면 이전 반영분을 되돌리고 새 결과를 반영한다")
+    void applyResult_Corrected_ShouldApplyDifference() {
+        TeamStatsLedger ledger = TeamStatsLedger.record(MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, MatchOutcome.WIN);
+        when(ledgerRepository.findById(MATCH_ID)).thenReturn(Optional.of(ledger));
+
+        teamStatsService.applyResult(MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, MatchOutcome.LOSS);
+
+        verify(teamRepository).applyStatsDelta(HOME_TEAM_ID, -1, 0, 1);
+        verify(teamRepository).applyStatsDelta(AWAY_TEAM_ID, 1, 0, -1);
+        assertThat(ledger.getHomeOutcome()).isEqualTo(MatchOutcome.LOSS);
+    }
+}